@@ -0,0 +1,56 @@
+package example.load;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class LoadGenerator {
+
+  private final List<Logger> loggers;
+
+  public LoadGenerator(String prefix, int loggerCount) {
+    loggers = new ArrayList<>(loggerCount);
+    for (int i = 0; loggerCount > i; i++) {
+      loggers.add(System.getLogger(prefix + i));
+    }
+  }
+
+  public List<Logger> getLoggers() {
+    return loggers;
+  }
+
+  public long run(ExecutorService executor, int tasks, int callsPerTask)
+      throws ExecutionException, InterruptedException {
+    var futures = new ArrayList<Future<?>>(tasks);
+
+    for (int i = 0; tasks > i; i++) {
+      var task = i;
+
+      futures.add(executor.submit(() -> work(task, callsPerTask)));
+    }
+    for (var future : futures) {
+      future.get();
+    }
+
+    return (long) tasks * callsPerTask;
+  }
+
+  private void work(int task, int calls) {
+    for (int call = 0; calls > call; call++) {
+      var logger = loggers.get((task * 31 + call) % loggers.size());
+
+      if (0 == call % 100) {
+        logger.log(Level.WARNING, "Task {0} is slow at call {1}", task, call);
+      } else if (logger.isLoggable(Level.DEBUG)) {
+        logger.log(Level.DEBUG, "Task " + task + " call " + call);
+      } else {
+        logger.log(Level.INFO, "Task call");
+      }
+    }
+  }
+
+}
@@ -0,0 +1,43 @@
+package example.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+final class Budgets {
+
+  static final int CALLS = Integer.getInteger("load.calls", 2000);
+  static final int LOGGERS = Integer.getInteger("load.loggers", 2000);
+  static final int TASKS = Integer.getInteger("load.tasks", 256);
+  static final int THREADS = Integer.getInteger("load.threads", 64);
+
+  static final long MAX_HEAP_GROWTH = Long.getLong("load.max-heap-growth-mb", 16) * 1024 * 1024;
+  static final long MAX_RESET_NANOS = Long.getLong("load.max-reset-ms", 100) * 1_000_000;
+  static final long MIN_THROUGHPUT = Long.getLong("load.min-throughput", 500_000);
+
+  private Budgets() {
+  }
+
+  static long usedHeap() {
+    for (int i = 0; 3 > i; i++) {
+      System.gc();
+    }
+
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  /**
+   * The project is built for Java 11, virtual threads are looked up at runtime.
+   *
+   * @return executor that starts a virtual thread per task, or {@code null} before Java 21
+   */
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
+      return null;
+    }
+  }
+
+}
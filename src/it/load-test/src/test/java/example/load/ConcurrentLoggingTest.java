@@ -0,0 +1,106 @@
+package example.load;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions;
+import io.github.vitalijr2.mock.jdk.platform.logging.MockLoggerExtension;
+import java.lang.System.Logger.Level;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+
+@ExtendWith(MockLoggerExtension.class)
+class ConcurrentLoggingTest {
+
+  // the repetitions run at the same time, so the budget applies to all calls over the whole wall time
+  private static final Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+  @AfterAll
+  static void throughput() {
+    assertAll(totals.entrySet().stream().<Executable>map(entry -> () -> {
+      var kind = entry.getKey();
+      var calls = entry.getValue().calls.sum();
+      var elapsed = entry.getValue().end.get() - entry.getValue().start.get();
+      var throughput = calls * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsed);
+
+      System.out.printf("load: %s in total, %d calls in %d ms, %d calls/s%n", kind, calls,
+          TimeUnit.NANOSECONDS.toMillis(elapsed), throughput);
+      assertTrue(Budgets.MIN_THROUGHPUT <= throughput,
+          () -> kind + ": throughput " + throughput + " calls/s is below the budget of " + Budgets.MIN_THROUGHPUT);
+    }));
+  }
+
+  @DisplayName("Platform threads")
+  @RepeatedTest(8)
+  void platformThreads() throws Exception {
+    var executor = Executors.newFixedThreadPool(Budgets.THREADS);
+
+    try {
+      load("platform threads", executor, Budgets.TASKS, Budgets.CALLS);
+    } finally {
+      shutdown(executor);
+    }
+  }
+
+  @DisplayName("Virtual threads")
+  @RepeatedTest(4)
+  void virtualThreads() throws Exception {
+    var executor = Budgets.newVirtualThreadPerTaskExecutor();
+
+    assumeTrue(null != executor, "Virtual threads need Java 21");
+    try {
+      load("virtual threads", executor, Budgets.TASKS * 40, Budgets.CALLS / 40);
+    } finally {
+      shutdown(executor);
+    }
+  }
+
+  private static void load(String kind, ExecutorService executor, int tasks, int calls) throws Exception {
+    var generator = new LoadGenerator("load.", Budgets.LOGGERS);
+    var total = totals.computeIfAbsent(kind, key -> new Totals());
+    var start = System.nanoTime();
+
+    total.start.accumulateAndGet(start, Math::min);
+
+    var expected = generator.run(executor, tasks, calls);
+    var end = System.nanoTime();
+    var elapsed = end - start;
+
+    total.end.accumulateAndGet(end, Math::max);
+    total.calls.add(expected);
+    var logged = generator.getLoggers().stream().mapToLong(logger -> LogAssertions.getCounts(logger).getTotal())
+        .sum();
+    var warnings = generator.getLoggers().stream().mapToLong(logger -> LogAssertions.getCounts(logger)
+        .get(Level.WARNING)).sum();
+
+    System.out.printf("load: %s, %d calls in %d ms%n", kind, expected, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    assertAll(kind, () -> assertEquals(expected, logged, "Every call is counted"),
+        () -> assertEquals((long) tasks * ((calls + 99) / 100), warnings, "Every hundredth call is a warning"));
+  }
+
+  private static void shutdown(ExecutorService executor) throws InterruptedException {
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES), "Executor is terminated");
+  }
+
+  private static class Totals {
+
+    final LongAdder calls = new LongAdder();
+    final AtomicLong end = new AtomicLong(Long.MIN_VALUE);
+    final AtomicLong start = new AtomicLong(Long.MAX_VALUE);
+
+  }
+
+}
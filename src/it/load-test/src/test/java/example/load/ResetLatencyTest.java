@@ -0,0 +1,86 @@
+package example.load;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions;
+import io.github.vitalijr2.mock.jdk.platform.logging.MockLoggerExtension;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Loggers are shared, the extension resets thousands of used loggers after every round. The time between the end of
+ * a round and the start of the next one is spent mostly by the extension, its maximum is the reset latency. Heap is
+ * measured at the start of rounds, after a reset, so a leak across resets shows as growth.
+ */
+@ExtendWith(MockLoggerExtension.class)
+class ResetLatencyTest {
+
+  private static final int ROUNDS = 20;
+
+  private static ExecutorService executor;
+  private static LoadGenerator generator;
+  private static long baselineHeap;
+  private static long roundEnd;
+  private static long maxResetNanos;
+
+  @BeforeAll
+  static void setUpClass() {
+    executor = Executors.newFixedThreadPool(Budgets.THREADS);
+    generator = new LoadGenerator("reset.", Budgets.LOGGERS);
+  }
+
+  @AfterAll
+  static void tearDownClass() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+  }
+
+  @BeforeEach
+  void measureReset() {
+    if (0 < roundEnd) {
+      maxResetNanos = Math.max(maxResetNanos, System.nanoTime() - roundEnd);
+    }
+  }
+
+  @AfterEach
+  void markRoundEnd() {
+    roundEnd = System.nanoTime();
+  }
+
+  @DisplayName("Round")
+  @RepeatedTest(ROUNDS)
+  void round(RepetitionInfo repetitionInfo) throws Exception {
+    if (2 == repetitionInfo.getCurrentRepetition()) {
+      baselineHeap = Budgets.usedHeap();
+    }
+    if (ROUNDS == repetitionInfo.getCurrentRepetition()) {
+      var heapGrowth = Budgets.usedHeap() - baselineHeap;
+
+      System.out.printf("load: %d loggers, reset latency %d ms, heap growth %d KiB in %d rounds%n",
+          Budgets.LOGGERS, TimeUnit.NANOSECONDS.toMillis(maxResetNanos), heapGrowth / 1024, ROUNDS - 2);
+      assertAll("Budgets", () -> assertTrue(Budgets.MAX_RESET_NANOS >= maxResetNanos,
+              () -> "Reset latency " + TimeUnit.NANOSECONDS.toMillis(maxResetNanos) + " ms is over the budget of "
+                  + TimeUnit.NANOSECONDS.toMillis(Budgets.MAX_RESET_NANOS) + " ms"),
+          () -> assertTrue(Budgets.MAX_HEAP_GROWTH >= heapGrowth,
+              () -> "Heap growth " + heapGrowth / 1024 + " KiB is over the budget of " + Budgets.MAX_HEAP_GROWTH / 1024
+                  + " KiB"));
+    }
+
+    var expected = generator.run(executor, Budgets.TASKS, Budgets.CALLS / 4);
+
+    assertEquals(expected, generator.getLoggers().stream()
+        .mapToLong(logger -> LogAssertions.getCounts(logger).getTotal()).sum(), "Loggers are reset after every round");
+  }
+
+}
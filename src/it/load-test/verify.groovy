@@ -0,0 +1,5 @@
+def buildLog = new File(basedir, 'build.log').text
+
+assert buildLog.contains('load: platform threads in total')
+assert buildLog.contains('reset latency')
+assert buildLog.contains('mock-mode')
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExecutableInvoker;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * What {@link MockLoggerExtension} costs per test: a test uses some of registered loggers, then the extension resets
+ * them before and after the test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ExtensionResetBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  public int registeredLoggers;
+
+  @Param({"1", "10"})
+  public int usedLoggers;
+
+  @Param({"mock", "recording", "counting"})
+  public String mode;
+
+  private MockLoggerExtension extension;
+  private ExtensionContext context;
+  private Logger[] loggers;
+
+  @Setup
+  public void setUp() {
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+
+    var loggerFinder = new MockLoggerFinder(new ConcurrentHashMap<>(), new Configuration(properties));
+
+    loggers = new Logger[registeredLoggers];
+    for (int i = 0; registeredLoggers > i; i++) {
+      loggers[i] = loggerFinder.getLogger("logger." + i, getClass().getModule());
+    }
+    extension = new MockLoggerExtension(loggerFinder, LoggerFactory.getLogger(MockLoggerExtension.class));
+    context = new TestContext();
+  }
+
+  @Benchmark
+  public void test() {
+    extension.beforeEach(context);
+    for (int i = 0; usedLoggers > i && loggers.length > i; i++) {
+      loggers[i].log(Logger.Level.INFO, "test message");
+    }
+    extension.afterEach(context);
+  }
+
+  /**
+   * A context of a test without annotations, so that the benchmark measures the extension and not a mock of
+   * the context.
+   */
+  private static final class TestContext implements ExtensionContext {
+
+    @Override
+    public Optional<ExtensionContext> getParent() {
+      return Optional.empty();
+    }
+
+    @Override
+    public ExtensionContext getRoot() {
+      return this;
+    }
+
+    @Override
+    public String getUniqueId() {
+      return "benchmark";
+    }
+
+    @Override
+    public String getDisplayName() {
+      return "benchmark";
+    }
+
+    @Override
+    public Set<String> getTags() {
+      return Set.of();
+    }
+
+    @Override
+    public Optional<AnnotatedElement> getElement() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Class<?>> getTestClass() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Lifecycle> getTestInstanceLifecycle() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Object> getTestInstance() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<TestInstances> getTestInstances() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Method> getTestMethod() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Throwable> getExecutionException() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getConfigurationParameter(String key) {
+      return Optional.empty();
+    }
+
+    @Override
+    public <T> Optional<T> getConfigurationParameter(String key, Function<String, T> transformer) {
+      return Optional.empty();
+    }
+
+    @Override
+    public void publishReportEntry(Map<String, String> map) {
+    }
+
+    @Override
+    public Store getStore(Namespace namespace) {
+      throw new UnsupportedOperationException("The benchmark does not use stores");
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+      return ExecutionMode.SAME_THREAD;
+    }
+
+    @Override
+    public ExecutableInvoker getExecutableInvoker() {
+      throw new UnsupportedOperationException("The benchmark does not invoke executables");
+    }
+
+  }
+
+}
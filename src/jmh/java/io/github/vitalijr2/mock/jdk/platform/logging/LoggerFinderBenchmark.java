@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Logger lookups: existing and new names, four threads share the finder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+public class LoggerFinderBenchmark {
+
+  private static final int EXISTING_LOGGERS = 1_000;
+
+  private final AtomicLong nameCounter = new AtomicLong();
+
+  @Param({"mock", "recording", "counting"})
+  public String mode;
+
+  private MockLoggerFinder loggerFinder;
+  private String[] existingNames;
+  private Module module;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+    loggerFinder = new MockLoggerFinder(new ConcurrentHashMap<>(), new Configuration(properties));
+    existingNames = new String[EXISTING_LOGGERS];
+    for (int i = 0; EXISTING_LOGGERS > i; i++) {
+      existingNames[i] = "existing.logger." + i;
+      loggerFinder.getLogger(existingNames[i], getClass().getModule());
+    }
+    module = getClass().getModule();
+  }
+
+  @Benchmark
+  public Logger existingLogger() {
+    return loggerFinder.getLogger(existingNames[ThreadLocalRandom.current().nextInt(EXISTING_LOGGERS)], module);
+  }
+
+  @Benchmark
+  public Logger newLogger() {
+    return loggerFinder.getLogger("new.logger." + nameCounter.incrementAndGet(), module);
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.mockito.Mockito.clearInvocations;
+
+import java.lang.System.Logger;
+import java.util.ListResourceBundle;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of every {@link Logger} overload.
+ * <p>
+ * Captured calls are dropped every {@value #RESET_INTERVAL} calls, otherwise a benchmark runs out of memory; the reset
+ * cost is spread over those calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class LoggingCallBenchmark {
+
+  private static final int RESET_INTERVAL = 10_000;
+
+  private final ResourceBundle bundle = new ListResourceBundle() {
+    @Override
+    protected Object[][] getContents() {
+      return new Object[0][];
+    }
+  };
+  private final Throwable thrown = new RuntimeException("benchmark");
+  private final Supplier<String> supplier = () -> "supplied message";
+  private final Object object = 42;
+
+  @Param({"mock", "recording", "counting"})
+  public String mode;
+
+  private Logger logger;
+  private int calls;
+
+  @Setup
+  public void setUp() {
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+    logger = new MockLoggerFinder(new ConcurrentHashMap<>(), new Configuration(properties)).getLogger("benchmark",
+        getClass().getModule());
+  }
+
+  @Benchmark
+  public boolean isLoggable() {
+    afterCall();
+    return logger.isLoggable(Logger.Level.INFO);
+  }
+
+  @Benchmark
+  public void message() {
+    afterCall();
+    logger.log(Logger.Level.INFO, "message");
+  }
+
+  @Benchmark
+  public void messageSupplier() {
+    afterCall();
+    logger.log(Logger.Level.INFO, supplier);
+  }
+
+  @Benchmark
+  public void object() {
+    afterCall();
+    logger.log(Logger.Level.INFO, object);
+  }
+
+  @Benchmark
+  public void messageAndThrowable() {
+    afterCall();
+    logger.log(Logger.Level.INFO, "message", thrown);
+  }
+
+  @Benchmark
+  public void messageSupplierAndThrowable() {
+    afterCall();
+    logger.log(Logger.Level.INFO, supplier, thrown);
+  }
+
+  @Benchmark
+  public void format() {
+    afterCall();
+    logger.log(Logger.Level.INFO, "format {0} {1}", "first", 2);
+  }
+
+  @Benchmark
+  public void bundleAndThrowable() {
+    afterCall();
+    logger.log(Logger.Level.INFO, bundle, "message", thrown);
+  }
+
+  @Benchmark
+  public void bundleAndFormat() {
+    afterCall();
+    logger.log(Logger.Level.INFO, bundle, "format {0} {1}", "first", 2);
+  }
+
+  private void afterCall() {
+    if (RESET_INTERVAL == ++calls) {
+      calls = 0;
+      if (logger instanceof ResettableLogger) {
+        ((ResettableLogger) logger).reset();
+      } else {
+        clearInvocations(logger);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bytes that a test thread allocated to build messages of logging calls at disabled levels.
+ * <p>
+ * A level is disabled if it is below the declared {@link LoggableLevel loggable level} or the capture policy drops
+ * it. A call at a disabled level is charged with the bytes that the thread allocated since its previous logging
+ * call, but not with more than the estimated size of its message and parameters. A message is told apart as a
+ * constant by identity: a string instance that an earlier disabled call of the thread already passed is not charged,
+ * so a literal is charged once, and a message that is built for every call is charged every time. The account
+ * remembers up to {@value #MAX_KNOWN_MESSAGES} message instances and forgets all of them when it is full. Mockito
+ * allocates an invocation before a mock logger sees the call, so a mock logger is charged about the estimated size
+ * of a message that is built for the call.
+ * <p>
+ * Only the thread that opened the account is measured. Allocation counters of {@link com.sun.management.ThreadMXBean}
+ * are enabled when the first account is opened; without them the estimated size is charged as is.
+ */
+final class AllocationAccount {
+
+  static final int MAX_KNOWN_MESSAGES = 1024;
+
+  private static final int ARRAY_HEADER = 16;
+  private static final int BOXED_SIZE = 16;
+  private static final int REFERENCE_SIZE = 4;
+  private static final int STRING_HEADER = 24;
+  private static final int WIDE_BOXED_SIZE = 24;
+
+  private static final AtomicInteger OPEN_ACCOUNTS = new AtomicInteger();
+  private static final ThreadLocal<AllocationAccount> ACCOUNT = new ThreadLocal<>();
+
+  private final Map<String, long[]> loggers = new LinkedHashMap<>();
+  private final Set<Object> knownMessages = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private long mark;
+
+  private AllocationAccount() {
+    mark = getAllocatedBytes();
+  }
+
+  /**
+   * Opens an account on the current thread, a previous account of the thread is discarded.
+   */
+  static void open() {
+    if (null == ACCOUNT.get()) {
+      OPEN_ACCOUNTS.incrementAndGet();
+    }
+    ACCOUNT.set(new AllocationAccount());
+  }
+
+  /**
+   * Closes the account of the current thread.
+   *
+   * @return bytes and calls per logger, empty if there is no account
+   */
+  static Map<String, long[]> close() {
+    var account = ACCOUNT.get();
+
+    if (null == account) {
+      return Map.of();
+    }
+    ACCOUNT.remove();
+    OPEN_ACCOUNTS.decrementAndGet();
+
+    return Collections.unmodifiableMap(account.loggers);
+  }
+
+  /**
+   * Returns the account of the current thread.
+   *
+   * @return bytes and calls per logger, empty if there is no account
+   */
+  static Map<String, long[]> current() {
+    var account = ACCOUNT.get();
+
+    return (null == account) ? Map.of() : Collections.unmodifiableMap(account.loggers);
+  }
+
+  /**
+   * Called at the start of every logging call, it is cheap while no thread has an account.
+   *
+   * @param context    context of the logger
+   * @param loggerName logger name
+   * @param level      logging level
+   * @param message    message or format, {@code null} for a message supplier
+   * @param parameters parameters or {@code null}
+   */
+  static void loggingCall(LoggerContext context, String loggerName, Level level, Object message,
+      Object[] parameters) {
+    if (0 == OPEN_ACCOUNTS.get()) {
+      return;
+    }
+
+    var account = ACCOUNT.get();
+
+    if (null != account) {
+      account.add(context, loggerName, level, message, parameters);
+    }
+  }
+
+  private void add(LoggerContext context, String loggerName, Level level, Object message, Object[] parameters) {
+    var window = getAllocatedBytes() - mark;
+
+    if (!context.isLoggable(loggerName, level, Level.OFF != level)) {
+      var size = (isKnown(message) ? 0 : sizeOf(message)) + sizeOf(parameters);
+      var counts = loggers.computeIfAbsent(loggerName, key -> new long[2]);
+
+      counts[0] += (null == ThreadBean.INSTANCE) ? size : Math.min(window, size);
+      counts[1]++;
+    }
+    // the account does not blame its own allocations on the next message
+    mark = getAllocatedBytes();
+  }
+
+  private boolean isKnown(Object message) {
+    if (!(message instanceof String)) {
+      return false;
+    }
+    if (MAX_KNOWN_MESSAGES == knownMessages.size() && !knownMessages.contains(message)) {
+      knownMessages.clear();
+    }
+
+    return !knownMessages.add(message);
+  }
+
+  static long sizeOf(Object value) {
+    if (value instanceof String) {
+      return align(STRING_HEADER + ARRAY_HEADER + ((String) value).length());
+    }
+    if (value instanceof Object[]) {
+      var array = (Object[]) value;
+      long size = align(ARRAY_HEADER + (long) REFERENCE_SIZE * array.length);
+
+      for (var element : array) {
+        size += (element instanceof Object[]) ? 0 : sizeOf(element);
+      }
+
+      return size;
+    }
+    if (value instanceof Long || value instanceof Double) {
+      return WIDE_BOXED_SIZE;
+    }
+    if (value instanceof Number || value instanceof Character || value instanceof Boolean) {
+      return BOXED_SIZE;
+    }
+
+    return 0;
+  }
+
+  private static long align(long size) {
+    return (size + 7) & ~7L;
+  }
+
+  private static long getAllocatedBytes() {
+    var threadBean = ThreadBean.INSTANCE;
+
+    return (null == threadBean) ? -1 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Loads management classes and enables allocation counters when the first account is opened.
+   */
+  private static final class ThreadBean {
+
+    static final com.sun.management.ThreadMXBean INSTANCE = getThreadBean();
+
+  }
+
+  private static com.sun.management.ThreadMXBean getThreadBean() {
+    var bean = ManagementFactory.getThreadMXBean();
+
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      var threadBean = (com.sun.management.ThreadMXBean) bean;
+
+      if (threadBean.isThreadAllocatedMemorySupported()) {
+        if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+          threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        return threadBean;
+      }
+    }
+
+    return null;
+  }
+
+}
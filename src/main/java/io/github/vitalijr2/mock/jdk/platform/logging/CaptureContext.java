@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identifier of the test that causes logging calls.
+ * <p>
+ * {@link MockLoggerExtension} opens a context before each test, loggers tag captured events with the context of the
+ * logging thread. The context is an inheritable thread local, so platform and virtual threads that the test starts,
+ * including forks of a structured task scope, log in the context of the test. Reading it takes no locks.
+ * <p>
+ * A scoped value would bound the context to the test more strictly, but it needs Java 21 while the project targets
+ * Java 11. An inheritable thread local is copied only when a thread is created: a pooled thread that was started
+ * before the test, for example of the common fork-join pool or of an executor that tests share, keeps no context or
+ * the context of the test that started it.
+ */
+final class CaptureContext {
+
+  /**
+   * Events that are captured outside of any test.
+   */
+  static final long NONE = 0;
+
+  private static final AtomicLong CONTEXT_IDS = new AtomicLong();
+  private static final ThreadLocal<Long> CURRENT = new InheritableThreadLocal<>();
+
+  private CaptureContext() {
+  }
+
+  /**
+   * Returns the context of the current thread.
+   *
+   * @return context id, {@link #NONE} outside of any test
+   */
+  static long current() {
+    var contextId = CURRENT.get();
+
+    return (null == contextId) ? NONE : contextId;
+  }
+
+  /**
+   * Binds a new context to the current thread, threads that are started later inherit it.
+   *
+   * @return context id
+   */
+  static long open() {
+    var contextId = CONTEXT_IDS.incrementAndGet();
+
+    CURRENT.set(contextId);
+
+    return contextId;
+  }
+
+  /**
+   * Unbinds the context from the current thread.
+   */
+  static void close() {
+    CURRENT.remove();
+  }
+
+}
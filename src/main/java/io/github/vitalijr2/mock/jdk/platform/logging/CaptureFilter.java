@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a logger records a logging call, see {@link CapturePolicy}, and counts dropped calls per level.
+ * <p>
+ * Counts of dropped calls are exact, sampling only decides which calls are recorded.
+ */
+class CaptureFilter {
+
+  /**
+   * Records every call.
+   */
+  static final CaptureFilter ALL = new CaptureFilter(null, 0, false, null) {
+
+    @Override
+    boolean accept(Level level) {
+      return true;
+    }
+
+    @Override
+    LevelCounts getDropped() {
+      return new LevelCounts(new long[Level.values().length]);
+    }
+
+    @Override
+    void reset() {
+      // nothing to reset
+    }
+
+  };
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final Level minimumLevel;
+  private final int sampleSize;
+  private final boolean perSecond;
+  private final LongSupplier nanoClock;
+  private final LevelCounters dropped = new LevelCounters();
+  private final AtomicLong calls = new AtomicLong();
+  private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicInteger sampled = new AtomicInteger();
+
+  CaptureFilter(Level minimumLevel, int sampleSize, boolean perSecond, LongSupplier nanoClock) {
+    this.minimumLevel = minimumLevel;
+    this.sampleSize = sampleSize;
+    this.perSecond = perSecond;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Checks a logging call, a dropped call is counted.
+   *
+   * @param level logging level
+   * @return {@code true} if the call should be recorded
+   */
+  boolean accept(Level level) {
+    if (minimumLevel.getSeverity() <= level.getSeverity() || sample()) {
+      return true;
+    }
+    dropped.increment(level);
+
+    return false;
+  }
+
+  /**
+   * Exact numbers of dropped calls per level.
+   *
+   * @return counts per level
+   */
+  LevelCounts getDropped() {
+    return dropped.snapshot();
+  }
+
+  void reset() {
+    dropped.reset();
+    calls.set(0);
+    window.set(Long.MIN_VALUE);
+    sampled.set(0);
+  }
+
+  private boolean sample() {
+    if (0 == sampleSize) {
+      return false;
+    }
+    if (!perSecond) {
+      return 0 == calls.getAndIncrement() % sampleSize;
+    }
+
+    var current = Math.floorDiv(nanoClock.getAsLong(), SECOND);
+    var previous = window.get();
+
+    if (current != previous && window.compareAndSet(previous, current)) {
+      sampled.set(0);
+    }
+
+    return sampleSize >= sampled.incrementAndGet();
+  }
+
+}
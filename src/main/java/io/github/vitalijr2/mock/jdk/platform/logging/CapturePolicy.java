@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Which logging calls loggers record: calls at or above the minimum recorded level are recorded, calls below it are
+ * dropped or sampled.
+ * <p>
+ * The minimum level is a list of comma-separated rules {@code prefix=LEVEL} and a default level without prefix, the
+ * first rule that matches a logger name wins. Sampling is either {@code N}, one of {@code N} calls, or {@code N/s}, at
+ * most {@code N} calls per second, it is counted per logger.
+ * <p>
+ * Recording and journal loggers do not store dropped calls. Mock loggers only hide them from
+ * {@code verifyNoMoreInteractions}, {@code inOrder} and {@link LogAssertions}, Mockito has stored the invocation before
+ * the policy is applied, so an explicit {@code verify} still matches a dropped call.
+ */
+final class CapturePolicy {
+
+  static final CapturePolicy ALL = new CapturePolicy(List.of(), null, 0, false, System::nanoTime);
+
+  private static final String PER_SECOND = "/s";
+
+  private final List<Rule> rules;
+  private final Level defaultLevel;
+  private final int sampleSize;
+  private final boolean perSecond;
+  private final LongSupplier nanoClock;
+
+  private CapturePolicy(List<Rule> rules, Level defaultLevel, int sampleSize, boolean perSecond, LongSupplier nanoClock) {
+    this.rules = rules;
+    this.defaultLevel = defaultLevel;
+    this.sampleSize = sampleSize;
+    this.perSecond = perSecond;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Parses the minimum recorded levels and the sampling of lower levels.
+   *
+   * @param levels   comma-separated rules {@code prefix=LEVEL} and a default level, can be {@code null}
+   * @param sampling {@code N} or {@code N/s}, can be {@code null}
+   * @return capture policy
+   * @throws IllegalArgumentException if a rule or the sampling is wrong
+   */
+  static CapturePolicy parse(String levels, String sampling) {
+    return parse(levels, sampling, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  static CapturePolicy parse(String levels, String sampling, LongSupplier nanoClock) {
+    var rules = new ArrayList<Rule>();
+    Level defaultLevel = null;
+
+    if (null != levels) {
+      for (var rule : levels.split(",")) {
+        if (rule.isBlank()) {
+          continue;
+        }
+
+        var separator = rule.lastIndexOf('=');
+
+        if (0 > separator) {
+          defaultLevel = parseLevel(rule, rule);
+          continue;
+        }
+
+        var prefix = rule.substring(0, separator).trim();
+
+        if (prefix.isEmpty()) {
+          throw new IllegalArgumentException("Wrong capture level: " + rule.trim());
+        }
+        rules.add(new Rule(prefix, parseLevel(rule.substring(separator + 1), rule)));
+      }
+    }
+    if (rules.isEmpty() && null == defaultLevel) {
+      return ALL;
+    }
+
+    var sampleSize = 0;
+    var perSecond = false;
+
+    if (null != sampling && !sampling.isBlank()) {
+      var value = sampling.trim();
+
+      perSecond = value.endsWith(PER_SECOND);
+      try {
+        sampleSize = Integer.parseInt(perSecond ? value.substring(0, value.length() - PER_SECOND.length()) : value);
+      } catch (NumberFormatException exception) {
+        throw new IllegalArgumentException("Wrong capture sampling: " + value, exception);
+      }
+      if (0 >= sampleSize) {
+        throw new IllegalArgumentException("Wrong capture sampling: " + value);
+      }
+    }
+
+    return new CapturePolicy(List.copyOf(rules), defaultLevel, sampleSize, perSecond, nanoClock);
+  }
+
+  private static Level parseLevel(String value, String rule) {
+    try {
+      return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalArgumentException("Wrong capture level: " + rule.trim(), exception);
+    }
+  }
+
+  /**
+   * The minimum recorded level of a logger.
+   *
+   * @param loggerName logger name
+   * @return minimum level, or {@code null} if all calls are recorded
+   */
+  Level getMinimumLevel(String loggerName) {
+    for (var rule : rules) {
+      if (loggerName.startsWith(rule.prefix)) {
+        return rule.level;
+      }
+    }
+
+    return defaultLevel;
+  }
+
+  /**
+   * Calls of the level are never recorded: the level is below the minimum one and lower levels are not sampled.
+   *
+   * @param loggerName logger name
+   * @param level      logging level
+   * @return {@code true} if calls of the level are dropped
+   */
+  boolean isDropped(String loggerName, Level level) {
+    if (0 < sampleSize || (rules.isEmpty() && null == defaultLevel)) {
+      return false;
+    }
+
+    var minimumLevel = getMinimumLevel(loggerName);
+
+    return null != minimumLevel && minimumLevel.getSeverity() > level.getSeverity();
+  }
+
+  /**
+   * Creates a filter of logging calls of a logger, every logger has its own sampling and dropped counts.
+   *
+   * @param loggerName logger name
+   * @return capture filter
+   */
+  CaptureFilter filter(String loggerName) {
+    var minimumLevel = (this == ALL) ? null : getMinimumLevel(loggerName);
+
+    if (null == minimumLevel) {
+      return CaptureFilter.ALL;
+    }
+
+    return new CaptureFilter(minimumLevel, sampleSize, perSecond, nanoClock);
+  }
+
+  private static class Rule {
+
+    private final String prefix;
+    private final Level level;
+
+    Rule(String prefix, Level level) {
+      this.prefix = prefix;
+      this.level = level;
+    }
+
+  }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.mockito.Mockito.mockingDetails;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import org.mockito.invocation.Invocation;
+
+/**
+ * Reads captured events from loggers of any kind.
+ */
+final class CapturedEvents {
+
+  static final String MOCK_NAME_PREFIX = "Mock for logger ";
+
+  private CapturedEvents() {
+  }
+
+  /**
+   * Returns captured events of a recording logger or logging invocations of a Mockito mock. A counting logger keeps
+   * no events. Events of a mock from {@link MockLoggerFinder} are built once per invocation, so its message suppliers
+   * are evaluated at most once; events of other mocks are built on every read.
+   *
+   * @param logger recording, counting, journal or mock logger
+   * @return captured events
+   * @throws IllegalArgumentException if the logger is neither a recording logger nor a mock
+   */
+  static List<LogEvent> of(Logger logger) {
+    var target = unwrap(logger);
+
+    if (target instanceof RecordingLogger) {
+      return ((RecordingLogger) target).getEvents();
+    }
+    if (target instanceof CountingLogger) {
+      return List.of();
+    }
+    if (target instanceof JournalLogger) {
+      return ((JournalLogger) target).getEvents();
+    }
+    if (null != target && mockingDetails(target).isMock()) {
+      return fromInvocations(target);
+    }
+
+    throw new IllegalArgumentException("Neither a recording logger nor a mock: " + logger);
+  }
+
+  /**
+   * Returns exact counts per level of a recording logger or a mock logger. Counts of a mock that is not created by
+   * {@link MockLoggerFinder} are taken from its logging invocations.
+   *
+   * @param logger recording, counting, journal or mock logger
+   * @return counts per level
+   * @throws IllegalArgumentException if the logger is neither a recording logger nor a mock
+   */
+  static LevelCounts countsOf(Logger logger) {
+    var target = unwrap(logger);
+
+    if (target instanceof RecordingLogger) {
+      return ((RecordingLogger) target).getCounts();
+    }
+    if (target instanceof CountingLogger) {
+      return ((CountingLogger) target).getCounts();
+    }
+    if (target instanceof JournalLogger) {
+      return ((JournalLogger) target).getCounts();
+    }
+
+    return InvocationTracker.of(target).map(InvocationTracker::getCounts).orElseGet(() -> {
+      var counts = new long[Level.values().length];
+
+      of(target).forEach(event -> counts[event.getLevel().ordinal()]++);
+
+      return new LevelCounts(counts);
+    });
+  }
+
+  /**
+   * Returns exact counts per level of logging calls that were not recorded because of the capture policy.
+   *
+   * @param logger recording, counting, journal or mock logger
+   * @return counts per level, a counting logger and a mock that is not created by {@link MockLoggerFinder} drop
+   *     nothing
+   */
+  static LevelCounts droppedCountsOf(Logger logger) {
+    var target = unwrap(logger);
+
+    if (target instanceof RecordingLogger) {
+      return ((RecordingLogger) target).getDroppedCounts();
+    }
+    if (target instanceof JournalLogger) {
+      return ((JournalLogger) target).getDroppedCounts();
+    }
+
+    return InvocationTracker.of(target).map(InvocationTracker::getDroppedCounts)
+        .orElseGet(() -> new LevelCounts(new long[Level.values().length]));
+  }
+
+  /**
+   * Returns a source of counts of a logger that does not keep the logger itself.
+   *
+   * @param logger recording, counting, journal or mock logger
+   * @return source of counts, or {@code null} if the logger does not count calls
+   */
+  static Supplier<LevelCounts> countsSourceOf(Logger logger) {
+    if (logger instanceof RecordingLogger) {
+      return ((RecordingLogger) logger).getCountsSource();
+    }
+    if (logger instanceof CountingLogger) {
+      return ((CountingLogger) logger).getCountsSource();
+    }
+    if (logger instanceof JournalLogger) {
+      return ((JournalLogger) logger).getCountsSource();
+    }
+
+    return InvocationTracker.of(logger).<Supplier<LevelCounts>>map(tracker -> tracker::getCounts).orElse(null);
+  }
+
+  /**
+   * Returns the logger behind a routing logger or a placeholder.
+   *
+   * @param logger any logger
+   * @return target logger
+   */
+  static Logger unwrap(Logger logger) {
+    if (logger instanceof RoutingLogger) {
+      return ((RoutingLogger) logger).getTarget();
+    }
+    if (logger instanceof DeferredLogger) {
+      return ((DeferredLogger) logger).getTarget();
+    }
+
+    return logger;
+  }
+
+  private static List<LogEvent> fromInvocations(Logger logger) {
+    var details = mockingDetails(logger);
+    var mockName = details.getMockCreationSettings().getMockName().toString();
+    var loggerName = mockName.startsWith(MOCK_NAME_PREFIX) ? mockName.substring(MOCK_NAME_PREFIX.length()) : mockName;
+    var tracker = InvocationTracker.of(logger).orElse(null);
+    var events = new ArrayList<LogEvent>();
+    var oldest = Integer.MAX_VALUE;
+
+    for (Invocation invocation : details.getInvocations()) {
+      oldest = Math.min(oldest, invocation.getSequenceNumber());
+      if (!"log".equals(invocation.getMethod().getName())) {
+        continue;
+      }
+      if (null == tracker) {
+        events.add(fromInvocation(loggerName, invocation, null));
+      } else if (!invocation.isIgnoredForVerification()) {
+        events.add(tracker.getEvent(invocation, mockInvocation -> fromInvocation(loggerName, mockInvocation, tracker)));
+      }
+    }
+    if (null != tracker) {
+      tracker.evictEvents(oldest);
+    }
+
+    return events;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static LogEvent fromInvocation(String loggerName, Invocation invocation, InvocationTracker tracker) {
+    var types = invocation.getMethod().getParameterTypes();
+    var arguments = invocation.getRawArguments();
+    var level = (Level) arguments[0];
+    ResourceBundle bundle = null;
+    String message = null;
+    Supplier<String> messageSupplier = null;
+    Object[] parameters = null;
+    Throwable thrown = null;
+    int last = 2;
+
+    if (ResourceBundle.class == types[1]) {
+      bundle = (ResourceBundle) arguments[1];
+      message = (String) arguments[2];
+      last = 3;
+    } else if (Supplier.class == types[1]) {
+      messageSupplier = (Supplier<String>) arguments[1];
+    } else {
+      message = (null == arguments[1]) ? null : arguments[1].toString();
+    }
+    if (types.length > last) {
+      if (Throwable.class == types[last]) {
+        thrown = (Throwable) arguments[last];
+      } else {
+        parameters = (Object[]) arguments[last];
+      }
+    }
+
+    var sequenceNumber = invocation.getSequenceNumber();
+    var contextId = (null == tracker) ? CaptureContext.NONE : tracker.getContextId(sequenceNumber);
+
+    return new LogEvent(loggerName, level, bundle, message, messageSupplier, parameters, thrown, null, 0,
+        sequenceNumber, contextId);
+  }
+
+}
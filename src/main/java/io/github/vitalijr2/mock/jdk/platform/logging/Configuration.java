@@ -0,0 +1,426 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Settings of the logger finder.
+ * <p>
+ * The settings are read from the classpath resource {@value #RESOURCE_NAME}, then system properties with the prefix
+ * {@value #PREFIX} override them: the key {@code mode} in the resource and the system property
+ * {@code mock.jdk.platform.logging.mode} are the same setting.
+ * <p>
+ * The classpath resource {@value #PREWARM_RESOURCE_NAME} lists names of loggers to create in advance, one per line,
+ * lines which start with {@code #} are ignored. Those names are added to the setting {@code prewarm}.
+ */
+final class Configuration {
+
+  static final String PREFIX = "mock.jdk.platform.logging.";
+  static final String RESOURCE_NAME = "mock-jdk-platform-logging.properties";
+  static final String PREWARM_RESOURCE_NAME = "mock-jdk-platform-logging-prewarm.txt";
+
+  static final String CAPACITY = "capacity";
+  static final String CAPTURE_LEVEL = "capture-level";
+  static final String CAPTURE_SAMPLING = "capture-sampling";
+  static final String EXPORT = "export";
+  static final String FORK_STATISTICS = "fork-statistics";
+  static final String ISOLATED = "isolated";
+  static final String JFR = "jfr";
+  static final String JFR_BATCH_SIZE = "jfr-batch-size";
+  static final String JOURNAL_FILE = "journal-file";
+  static final String JOURNAL_SEGMENT_SIZE = "journal-segment-size";
+  static final String LAZY_SUPPLIERS = "lazy-suppliers";
+  static final String MODE = "mode";
+  static final String PASSTHROUGH = "passthrough";
+  static final String PASSTHROUGH_BATCH_SIZE = "passthrough-batch-size";
+  static final String PASSTHROUGH_QUEUE_SIZE = "passthrough-queue-size";
+  static final String PREWARM = "prewarm";
+  static final String REPORT = "report";
+  static final String REPORT_DIRECTORY = "report-directory";
+  static final String REPORT_SAMPLE_RATE = "report-sample-rate";
+  static final String RETENTION = "retention";
+  static final String ROUTES = "routes";
+  static final String RETENTION_LIMIT = "retention-limit";
+  static final String SNAPSHOT_DIRECTORY = "snapshot-directory";
+  static final String STRIPES = "stripes";
+  static final String UPDATE_SNAPSHOTS = "update-snapshots";
+  static final String WEAK_LOGGERS = "weak-loggers";
+
+  private static final int DEFAULT_CAPACITY = 1024;
+  private static final int DEFAULT_JFR_BATCH_SIZE = 1;
+  private static final int DEFAULT_JOURNAL_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int DEFAULT_PASSTHROUGH_BATCH_SIZE = 256;
+  private static final int DEFAULT_PASSTHROUGH_QUEUE_SIZE = 8192;
+  private static final String DEFAULT_REPORT_DIRECTORY = "target";
+  private static final int DEFAULT_REPORT_SAMPLE_RATE = 100;
+  private static final String DEFAULT_SNAPSHOT_DIRECTORY = "src/test/resources/log-snapshots";
+
+  private final Properties properties;
+
+  @VisibleForTesting
+  Configuration(Properties properties) {
+    this.properties = properties;
+  }
+
+  static Configuration load() {
+    var properties = new Properties();
+
+    try (InputStream resource = Configuration.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+      if (null != resource) {
+        properties.load(resource);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot read " + RESOURCE_NAME, exception);
+    }
+    System.getProperties().stringPropertyNames().stream().filter(key -> key.startsWith(PREFIX))
+        .forEach(key -> properties.setProperty(key.substring(PREFIX.length()), System.getProperty(key)));
+    loadPrewarmLoggers(properties, PREWARM_RESOURCE_NAME);
+
+    return new Configuration(properties);
+  }
+
+  @VisibleForTesting
+  static void loadPrewarmLoggers(Properties properties, String resourceName) {
+    var resource = Configuration.class.getClassLoader().getResourceAsStream(resourceName);
+
+    if (null == resource) {
+      return;
+    }
+    try (var reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+      var loggerNames = reader.lines().map(String::trim).filter(line -> !line.isEmpty() && !line.startsWith("#"))
+          .collect(Collectors.joining(","));
+      var value = properties.getProperty(PREWARM, "").trim();
+
+      if ("false".equalsIgnoreCase(value)) {
+        return;
+      }
+      if (value.isEmpty() || "true".equalsIgnoreCase(value)) {
+        properties.setProperty(PREWARM, loggerNames.isEmpty() ? "true" : loggerNames);
+      } else if (!loggerNames.isEmpty()) {
+        properties.setProperty(PREWARM, value + ',' + loggerNames);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot read " + resourceName, exception);
+    }
+  }
+
+  static Configuration empty() {
+    return new Configuration(new Properties());
+  }
+
+  /**
+   * Initial capacity of the event buffer of a recording logger.
+   *
+   * @return initial capacity, {@value #DEFAULT_CAPACITY} by default
+   */
+  int getCapacity() {
+    return getInt(CAPACITY, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Names of loggers to create in advance.
+   * <p>
+   * The value {@code true} prewarms Mockito without any logger, {@code false} or no value disables prewarming.
+   *
+   * @return logger names, or empty optional if prewarming is disabled
+   */
+  Optional<List<String>> getPrewarmLoggers() {
+    var value = getString(PREWARM);
+
+    if (null == value || "false".equalsIgnoreCase(value)) {
+      return Optional.empty();
+    }
+    if ("true".equalsIgnoreCase(value)) {
+      return Optional.of(List.of());
+    }
+
+    return Optional.of(Arrays.stream(value.split(",")).map(String::trim).filter(name -> !name.isEmpty())
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Write the hot spot report at the end of the test run.
+   *
+   * @return {@code false} by default
+   */
+  boolean isReport() {
+    return getBoolean(REPORT, false);
+  }
+
+  /**
+   * Every test JVM dumps its counts per logger and level at shutdown.
+   *
+   * @return {@code false} by default
+   */
+  boolean isForkStatistics() {
+    return getBoolean(FORK_STATISTICS, false);
+  }
+
+  /**
+   * Directory of the hot spot report.
+   *
+   * @return report directory, {@value #DEFAULT_REPORT_DIRECTORY} by default
+   */
+  Path getReportDirectory() {
+    return Path.of(Optional.ofNullable(getString(REPORT_DIRECTORY)).orElse(DEFAULT_REPORT_DIRECTORY));
+  }
+
+  /**
+   * When the extension exports captured events to the report directory.
+   *
+   * @return export mode, {@link ExportMode#NONE} by default
+   */
+  @NotNull
+  ExportMode getExportMode() {
+    return getEnum(EXPORT, ExportMode.class, ExportMode.NONE);
+  }
+
+  /**
+   * One of how many logging calls is sampled to find its call site.
+   *
+   * @return sample rate, {@value #DEFAULT_REPORT_SAMPLE_RATE} by default
+   */
+  int getReportSampleRate() {
+    return getInt(REPORT_SAMPLE_RATE, DEFAULT_REPORT_SAMPLE_RATE);
+  }
+
+  /**
+   * Which captured events loggers keep.
+   *
+   * @return retention, all events by default
+   */
+  @NotNull
+  RetentionLimit getRetention() {
+    return RetentionLimit.of(getEnum(RETENTION, EventRetention.class, EventRetention.ALL), getInt(RETENTION_LIMIT, 0));
+  }
+
+  /**
+   * Emit Flight Recorder events of logging calls.
+   *
+   * @return {@code false} by default
+   */
+  boolean isJfr() {
+    return getBoolean(JFR, false);
+  }
+
+  /**
+   * How many consecutive calls of a logger on the same thread a Flight Recorder event covers.
+   *
+   * @return batch size, {@value #DEFAULT_JFR_BATCH_SIZE} by default, that is an event per call
+   */
+  int getJfrBatchSize() {
+    return getInt(JFR_BATCH_SIZE, DEFAULT_JFR_BATCH_SIZE);
+  }
+
+  /**
+   * Loggers forward logging calls to the logger finder that would be loaded without this library.
+   *
+   * @return {@code false} by default
+   */
+  boolean isPassthrough() {
+    return getBoolean(PASSTHROUGH, false);
+  }
+
+  /**
+   * Capacity of the queue of forwarded calls.
+   *
+   * @return queue size, {@value #DEFAULT_PASSTHROUGH_QUEUE_SIZE} by default
+   */
+  int getPassthroughQueueSize() {
+    return getInt(PASSTHROUGH_QUEUE_SIZE, DEFAULT_PASSTHROUGH_QUEUE_SIZE);
+  }
+
+  /**
+   * How many forwarded calls the background thread takes from the queue at once.
+   *
+   * @return batch size, {@value #DEFAULT_PASSTHROUGH_BATCH_SIZE} by default
+   */
+  int getPassthroughBatchSize() {
+    return getInt(PASSTHROUGH_BATCH_SIZE, DEFAULT_PASSTHROUGH_BATCH_SIZE);
+  }
+
+  /**
+   * File of the event journal.
+   *
+   * @return journal file, or empty optional if the journal is written to a temporary file
+   */
+  Optional<Path> getJournalFile() {
+    return Optional.ofNullable(getString(JOURNAL_FILE)).map(Path::of);
+  }
+
+  /**
+   * Size of a segment of the event journal that is mapped to memory at once.
+   *
+   * @return segment size in bytes, {@value #DEFAULT_JOURNAL_SEGMENT_SIZE} by default
+   */
+  int getJournalSegmentSize() {
+    return getInt(JOURNAL_SEGMENT_SIZE, DEFAULT_JOURNAL_SEGMENT_SIZE);
+  }
+
+  /**
+   * Number of buffers that threads write to concurrently, it is rounded up to a power of two.
+   *
+   * @return number of stripes, {@code 0} for a single buffer by default
+   */
+  int getStripes() {
+    var stripes = getInt(STRIPES, 0);
+
+    if (0 > stripes) {
+      throw new IllegalArgumentException("Number of stripes must not be negative: " + stripes);
+    }
+
+    return stripes;
+  }
+
+  /**
+   * Routing rules of logger names.
+   *
+   * @return routing rules, no rules by default
+   */
+  @NotNull
+  RoutingRules getRoutingRules() {
+    try {
+      return RoutingRules.parse(getString(ROUTES));
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalArgumentException(exception.getMessage() + " in " + PREFIX + ROUTES, exception);
+    }
+  }
+
+  /**
+   * Minimum recorded levels and sampling of lower levels.
+   *
+   * @return capture policy, all calls are recorded by default
+   */
+  @NotNull
+  CapturePolicy getCapturePolicy() {
+    try {
+      return CapturePolicy.parse(getString(CAPTURE_LEVEL), getString(CAPTURE_SAMPLING));
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalArgumentException(
+          exception.getMessage() + " in " + PREFIX + CAPTURE_LEVEL + " or " + PREFIX + CAPTURE_SAMPLING, exception);
+    }
+  }
+
+  /**
+   * Directory of golden files of {@link LogSnapshot log snapshots}.
+   *
+   * @return snapshot directory, {@value #DEFAULT_SNAPSHOT_DIRECTORY} by default
+   */
+  Path getSnapshotDirectory() {
+    return Path.of(Optional.ofNullable(getString(SNAPSHOT_DIRECTORY)).orElse(DEFAULT_SNAPSHOT_DIRECTORY));
+  }
+
+  /**
+   * Log snapshots write golden files instead of comparing them.
+   *
+   * @return {@code false} by default
+   */
+  boolean isUpdateSnapshots() {
+    return getBoolean(UPDATE_SNAPSHOTS, false);
+  }
+
+  /**
+   * Every test has its own namespace of loggers.
+   *
+   * @return {@code false} by default
+   */
+  boolean isIsolated() {
+    return getBoolean(ISOLATED, false);
+  }
+
+  /**
+   * Loggers that are no longer referenced can be evicted from the shared registry.
+   *
+   * @return {@code false} by default
+   */
+  boolean isWeakLoggers() {
+    return getBoolean(WEAK_LOGGERS, false);
+  }
+
+  /**
+   * Recording loggers keep message suppliers and evaluate them when events are read.
+   *
+   * @return {@code false} by default
+   */
+  boolean isLazySuppliers() {
+    return getBoolean(LAZY_SUPPLIERS, false);
+  }
+
+  /**
+   * What kind of loggers the finder creates.
+   *
+   * @return logger mode, {@link LoggerMode#MOCK} by default
+   */
+  @NotNull
+  LoggerMode getMode() {
+    return getEnum(MODE, LoggerMode.class, LoggerMode.MOCK);
+  }
+
+  boolean getBoolean(String key, boolean defaultValue) {
+    var value = getString(key);
+
+    return (null == value) ? defaultValue : Boolean.parseBoolean(value);
+  }
+
+  <E extends Enum<E>> E getEnum(String key, Class<E> enumType, E defaultValue) {
+    var value = getString(key);
+
+    if (null == value) {
+      return defaultValue;
+    }
+    try {
+      return Enum.valueOf(enumType, value.toUpperCase(Locale.ROOT).replace('-', '_'));
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalArgumentException(
+          "Unknown value of " + PREFIX + key + ": " + value, exception);
+    }
+  }
+
+  int getInt(String key, int defaultValue) {
+    var value = getString(key);
+
+    if (null == value) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException exception) {
+      throw new IllegalArgumentException("Not a number in " + PREFIX + key + ": " + value, exception);
+    }
+  }
+
+  String getString(String key) {
+    var value = properties.getProperty(key);
+
+    return (null == value || value.isBlank()) ? null : value.trim();
+  }
+
+}
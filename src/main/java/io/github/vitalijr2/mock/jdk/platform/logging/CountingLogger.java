@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A logger that only counts logging calls per level.
+ * <p>
+ * It keeps neither messages nor per-call objects: every call is one increment of a striped counter, message suppliers
+ * are not evaluated. Threads that log concurrently do not contend on the same memory, so the logger barely changes
+ * numbers of throughput and soak tests.
+ * <p>
+ * Enable it by the system property {@code mock.jdk.platform.logging.mode=counting}, then check counts with
+ * {@link LogAssertions#getCounts(System.Logger)} or {@link MockLoggerExtension#counts(String)}. {@link MockLoggerExtension}
+ * resets counters like it resets other loggers.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   {@literal @}Test
+ *   void throughput() {
+ *     var helloService = new HelloService();
+ *
+ *     IntStream.range(0, 1_000_000).parallel().forEach(i -&gt; helloService.sayHelloWorld());
+ *
+ *     assertEquals(1_000_000, MockLoggerExtension.counts("HelloService").get(Level.INFO));
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class CountingLogger implements ResettableLogger {
+
+  private final String name;
+  private final LevelCounters counters = new LevelCounters();
+  private final LoggerContext context;
+
+  private volatile boolean used;
+
+  CountingLogger(String name, LoggerContext context) {
+    this.name = name;
+    this.context = context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * All levels except {@link Level#OFF} are loggable unless a {@link LoggableLevel loggable level} is declared or the
+   * capture policy drops the level.
+   *
+   * @param level logging level
+   * @return {@code true} if the level is loggable
+   */
+  @Override
+  public boolean isLoggable(Level level) {
+    return context.isLoggable(name, level, Level.OFF != level);
+  }
+
+  @Override
+  public void log(Level level, String message) {
+    increment(level, message);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier) {
+    increment(level, null);
+  }
+
+  @Override
+  public void log(Level level, Object object) {
+    increment(level, null);
+  }
+
+  @Override
+  public void log(Level level, String message, Throwable thrown) {
+    increment(level, message);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    increment(level, null);
+  }
+
+  @Override
+  public void log(Level level, String format, Object... parameters) {
+    increment(level, format, parameters);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    increment(level, message);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    increment(level, format, parameters);
+  }
+
+  /**
+   * Numbers of logging calls per level. Calls that run concurrently with the snapshot may be counted partially.
+   *
+   * @return counts per level
+   */
+  @NotNull
+  public LevelCounts getCounts() {
+    return counters.snapshot();
+  }
+
+  Supplier<LevelCounts> getCountsSource() {
+    return counters::snapshot;
+  }
+
+  /**
+   * Forget counts.
+   */
+  @Override
+  public void reset() {
+    used = false;
+    counters.reset();
+  }
+
+  private void increment(Level level, String message) {
+    increment(level, message, null);
+  }
+
+  private void increment(Level level, String message, Object[] parameters) {
+    AllocationAccount.loggingCall(context, name, level, message, parameters);
+    if (!used) {
+      used = true;
+      context.markUsed(name);
+    }
+    context.sampleCallSite(name);
+    counters.increment(level);
+    context.eventCaptured(name, level, message);
+  }
+
+  @Override
+  public String toString() {
+    return "Counting logger " + name;
+  }
+
+}
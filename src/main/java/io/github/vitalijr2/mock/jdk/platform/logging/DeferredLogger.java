@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+/**
+ * A cheap placeholder for a logger that is requested by the JDK before Mockito has been initialized.
+ * <p>
+ * The placeholder does not create a mock until something is logged: a new mock is not loggable at any level, so
+ * {@link #isLoggable(Level)} answers {@code false}, or follows a declared {@link LoggableLevel loggable level}, until
+ * the mock exists. If a test has already got the mock, all calls
+ * go to it.
+ */
+final class DeferredLogger implements Logger {
+
+  private final String name;
+  private final LoggerRegistry registry;
+
+  private volatile Logger target;
+
+  DeferredLogger(String name, LoggerRegistry registry) {
+    this.name = name;
+    this.registry = registry;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    var target = registry.getLoggers().get(name);
+
+    return (null != target) ? target.isLoggable(level) : registry.isLoggable(name, level, false);
+  }
+
+  @Override
+  public void log(Level level, String message) {
+    getTarget().log(level, message);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier) {
+    getTarget().log(level, messageSupplier);
+  }
+
+  @Override
+  public void log(Level level, Object object) {
+    getTarget().log(level, object);
+  }
+
+  @Override
+  public void log(Level level, String message, Throwable thrown) {
+    getTarget().log(level, message, thrown);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    getTarget().log(level, messageSupplier, thrown);
+  }
+
+  @Override
+  public void log(Level level, String format, Object... parameters) {
+    getTarget().log(level, format, parameters);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    getTarget().log(level, bundle, message, thrown);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    getTarget().log(level, bundle, format, parameters);
+  }
+
+  @Override
+  public String toString() {
+    return "Deferred logger " + name;
+  }
+
+  Logger getTarget() {
+    var currentTarget = target;
+
+    if (null == currentTarget) {
+      currentTarget = registry.getLogger(name);
+      target = currentTarget;
+    }
+
+    return currentTarget;
+  }
+
+}
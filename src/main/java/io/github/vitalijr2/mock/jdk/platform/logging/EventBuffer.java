@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+/**
+ * Column-oriented storage of logging calls.
+ * <p>
+ * The buffer keeps parallel arrays that are allocated once and grow only when they are full, so a logging call stores
+ * a few references and does not create any objects. {@link LogEvent Events} are built when they are read for the
+ * first time and then kept, so their messages are evaluated and formatted once. A message supplier is kept as is if
+ * suppliers are evaluated lazily.
+ * <p>
+ * The arrays are a ring: with {@link EventRetention#LAST} the oldest event is overwritten, with
+ * {@link EventRetention#FIRST} new events are not stored when the limit is reached. Every call is counted anyway.
+ */
+class EventBuffer implements EventStore {
+
+  private static final Level[] LEVELS = Level.values();
+
+  private final String loggerName;
+  private final long[] counts = new long[LEVELS.length];
+
+  private byte[] levels;
+  private ResourceBundle[] bundles;
+  private String[] messages;
+  private Supplier<?>[] messageSuppliers;
+  private Object[][] parameters;
+  private Throwable[] throwables;
+  private String[] threadNames;
+  private long[] timestamps;
+  private long[] sequences;
+  private long[] contextIds;
+  private LogEvent[] events;
+  private int start;
+  private int size;
+  private long sequence;
+
+  EventBuffer(String loggerName, int capacity) {
+    if (0 >= capacity) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.loggerName = loggerName;
+    levels = new byte[capacity];
+    bundles = new ResourceBundle[capacity];
+    messages = new String[capacity];
+    messageSuppliers = new Supplier<?>[capacity];
+    parameters = new Object[capacity][];
+    throwables = new Throwable[capacity];
+    threadNames = new String[capacity];
+    timestamps = new long[capacity];
+    sequences = new long[capacity];
+    contextIds = new long[capacity];
+    events = new LogEvent[capacity];
+  }
+
+  void add(RetentionLimit retention, Level level, ResourceBundle bundle, String message, Object[] parameters,
+      Throwable thrown) {
+    add(retention, level, bundle, message, (Supplier<String>) null, parameters, thrown);
+  }
+
+  @Override
+  public synchronized void add(RetentionLimit retention, Level level, ResourceBundle bundle, String message,
+      Supplier<String> messageSupplier, Object[] parameters, Throwable thrown) {
+    add(retention, level, bundle, message, messageSupplier, parameters, thrown, ++sequence);
+  }
+
+  /**
+   * Stores a logging call with a sequence number that is assigned by the caller.
+   *
+   * @param retention       current retention
+   * @param level           logging level
+   * @param bundle          resource bundle or {@code null}
+   * @param message         message, {@code null} if there is a message supplier
+   * @param messageSupplier message supplier that is evaluated lazily, or {@code null}
+   * @param parameters      parameters or {@code null}
+   * @param thrown          throwable or {@code null}
+   * @param sequence        sequence number of the call
+   */
+  synchronized void add(RetentionLimit retention, Level level, ResourceBundle bundle, String message,
+      Supplier<String> messageSupplier, Object[] parameters, Throwable thrown, long sequence) {
+    counts[level.ordinal()]++;
+    if (retention.isLimited() && retention.getLimit() <= size) {
+      if (EventRetention.FIRST == retention.getPolicy()) {
+        return;
+      }
+      while (retention.getLimit() <= size) {
+        evictOldest();
+      }
+    }
+    if (levels.length == size) {
+      grow();
+    }
+
+    var index = (start + size) % levels.length;
+
+    levels[index] = (byte) level.ordinal();
+    bundles[index] = bundle;
+    messages[index] = message;
+    messageSuppliers[index] = messageSupplier;
+    this.parameters[index] = parameters;
+    throwables[index] = thrown;
+    threadNames[index] = Thread.currentThread().getName();
+    timestamps[index] = System.currentTimeMillis();
+    sequences[index] = sequence;
+    contextIds[index] = CaptureContext.current();
+    events[index] = null;
+    size++;
+  }
+
+  @Override
+  public synchronized void clear() {
+    Arrays.fill(bundles, null);
+    Arrays.fill(messages, null);
+    Arrays.fill(messageSuppliers, null);
+    Arrays.fill(parameters, null);
+    Arrays.fill(throwables, null);
+    Arrays.fill(threadNames, null);
+    Arrays.fill(events, null);
+    Arrays.fill(counts, 0);
+    start = 0;
+    size = 0;
+  }
+
+  @Override
+  public synchronized void removeContext(long contextId) {
+    var kept = 0;
+
+    for (int i = 0; size > i; i++) {
+      var index = (start + i) % levels.length;
+
+      if (contextId == contextIds[index]) {
+        counts[levels[index]]--;
+        continue;
+      }
+
+      var target = (start + kept) % levels.length;
+
+      if (target != index) {
+        levels[target] = levels[index];
+        bundles[target] = bundles[index];
+        messages[target] = messages[index];
+        messageSuppliers[target] = messageSuppliers[index];
+        parameters[target] = parameters[index];
+        throwables[target] = throwables[index];
+        threadNames[target] = threadNames[index];
+        timestamps[target] = timestamps[index];
+        sequences[target] = sequences[index];
+        contextIds[target] = contextIds[index];
+        events[target] = events[index];
+      }
+      kept++;
+    }
+    while (size > kept) {
+      size--;
+      clearSlot((start + size) % levels.length);
+    }
+  }
+
+  @Override
+  public synchronized LevelCounts getCounts() {
+    return new LevelCounts(counts.clone());
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized List<LogEvent> toList() {
+    var list = new ArrayList<LogEvent>(size);
+
+    for (int i = 0; size > i; i++) {
+      var index = (start + i) % levels.length;
+
+      if (null == events[index]) {
+        events[index] = new LogEvent(loggerName, LEVELS[levels[index]], bundles[index], messages[index],
+            (Supplier<String>) messageSuppliers[index], parameters[index], throwables[index], threadNames[index],
+            timestamps[index], sequences[index], contextIds[index]);
+      }
+      list.add(events[index]);
+    }
+
+    return list;
+  }
+
+  private void evictOldest() {
+    clearSlot(start);
+    start = (start + 1) % levels.length;
+    size--;
+  }
+
+  private void clearSlot(int index) {
+    bundles[index] = null;
+    messages[index] = null;
+    messageSuppliers[index] = null;
+    parameters[index] = null;
+    throwables[index] = null;
+    threadNames[index] = null;
+    events[index] = null;
+  }
+
+  private void grow() {
+    var capacity = levels.length << 1;
+
+    levels = copy(levels, new byte[capacity]);
+    bundles = copy(bundles, new ResourceBundle[capacity]);
+    messages = copy(messages, new String[capacity]);
+    messageSuppliers = copy(messageSuppliers, new Supplier<?>[capacity]);
+    parameters = copy(parameters, new Object[capacity][]);
+    throwables = copy(throwables, new Throwable[capacity]);
+    threadNames = copy(threadNames, new String[capacity]);
+    timestamps = copy(timestamps, new long[capacity]);
+    sequences = copy(sequences, new long[capacity]);
+    contextIds = copy(contextIds, new long[capacity]);
+    events = copy(events, new LogEvent[capacity]);
+    start = 0;
+  }
+
+  private <T> T copy(T source, T target) {
+    var length = Array.getLength(source);
+    var head = length - start;
+
+    System.arraycopy(source, start, target, 0, Math.min(head, size));
+    if (head < size) {
+      System.arraycopy(source, 0, target, head, size - head);
+    }
+
+    return target;
+  }
+
+}
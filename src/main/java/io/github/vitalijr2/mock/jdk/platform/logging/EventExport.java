@@ -0,0 +1,258 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes captured events to a compact binary file, read it back with {@link EventExportReader}.
+ * <p>
+ * The file starts with the magic bytes {@code MJPL} and the format version, then blocks follow. A block is the length
+ * of its records, the length of their deflated bytes and the deflated bytes, so a reader inflates one block at a time.
+ * Logger names, thread names, messages and class names of throwables are dictionary-encoded: a string is defined by a
+ * record once and then referred to by its index. The dictionary is limited, later strings are written in place.
+ * Numbers are variable-length, timestamps are deltas of the previous event. Resource bundles are not written,
+ * parameters are written as strings.
+ * <p>
+ * {@link MockLoggerExtension} exports events of failed tests or of the whole run with the setting {@code export}.
+ *
+ * @since 1.2.0
+ */
+public final class EventExport implements Closeable {
+
+  static final String FILE_PREFIX = "mock-jdk-platform-logging-events";
+  static final String FILE_SUFFIX = ".mjpl";
+  static final byte[] MAGIC = {'M', 'J', 'P', 'L'};
+  static final byte VERSION = 1;
+  static final byte DEFINE_RECORD = 1;
+  static final byte EVENT_RECORD = 2;
+  static final int NULL_STRING = 0;
+  static final int INLINE_STRING = 1;
+  static final int FIRST_REFERENCE = 2;
+  // a block is written once it reaches BLOCK_SIZE, readers take a block over this bound as broken
+  static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+  private static final int BLOCK_SIZE = 256 * 1024;
+  private static final int DICTIONARY_LIMIT = 64 * 1024;
+
+  private final DataOutputStream output;
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+  private final Map<String, Integer> dictionary = new HashMap<>();
+  private final Records block = new Records();
+
+  private byte[] compressed = new byte[BLOCK_SIZE];
+  private long previousTimestamp;
+  private long count;
+
+  EventExport(OutputStream output) throws IOException {
+    this.output = new DataOutputStream(output);
+    this.output.write(MAGIC);
+    this.output.writeByte(VERSION);
+  }
+
+  /**
+   * Creates an export file, an existing file is replaced.
+   *
+   * @param file export file
+   * @return export
+   * @throws UncheckedIOException if the file cannot be created
+   */
+  @NotNull
+  public static EventExport create(Path file) {
+    try {
+      if (null != file.getParent()) {
+        Files.createDirectories(file.getParent());
+      }
+
+      return new EventExport(new BufferedOutputStream(
+          Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE)));
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot create " + file, exception);
+    }
+  }
+
+  /**
+   * Writes an event, a message supplier is evaluated.
+   *
+   * @param event captured event
+   * @throws UncheckedIOException if a full block cannot be written
+   */
+  public synchronized void write(LogEvent event) {
+    var loggerReference = reference(event.getLoggerName());
+    var threadReference = reference(event.getThreadName());
+    var messageReference = reference(event.getMessage());
+    var thrown = event.getThrown();
+    var thrownClass = (null == thrown) ? null
+        : (thrown instanceof RestoredThrowable) ? ((RestoredThrowable) thrown).getClassName()
+            : thrown.getClass().getName();
+    var thrownReference = reference(thrownClass);
+    var timestamp = (null == event.getTimestamp()) ? 0 : event.getTimestamp().toEpochMilli();
+    var parameters = event.getParameters();
+
+    block.write(EVENT_RECORD);
+    block.write(event.getLevel().ordinal());
+    writeReference(loggerReference, event.getLoggerName());
+    writeReference(threadReference, event.getThreadName());
+    writeReference(messageReference, event.getMessage());
+    block.writeZigZag(timestamp - previousTimestamp);
+    block.writeZigZag(event.getSequence());
+    block.writeZigZag(event.getContextId());
+    block.writeVarLong(parameters.length);
+    for (var parameter : parameters) {
+      writeReference(INLINE_STRING, (null == parameter) ? null : String.valueOf(parameter));
+    }
+    writeReference(thrownReference, thrownClass);
+    if (null != thrown) {
+      writeReference(INLINE_STRING, thrown.getMessage());
+    }
+    previousTimestamp = timestamp;
+    count++;
+    if (BLOCK_SIZE <= block.size()) {
+      flushBlock();
+    }
+  }
+
+  /**
+   * Number of written events.
+   *
+   * @return number of events
+   */
+  public synchronized long getCount() {
+    return count;
+  }
+
+  /**
+   * Writes the last block and closes the file.
+   *
+   * @throws UncheckedIOException if the block cannot be written
+   */
+  @Override
+  public synchronized void close() {
+    try (output) {
+      flushBlock();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot close the export", exception);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private int reference(String value) {
+    if (null == value) {
+      return NULL_STRING;
+    }
+
+    var index = dictionary.get(value);
+
+    if (null != index) {
+      return FIRST_REFERENCE + index;
+    }
+    if (DICTIONARY_LIMIT <= dictionary.size()) {
+      return INLINE_STRING;
+    }
+    index = dictionary.size();
+    dictionary.put(value, index);
+    block.write(DEFINE_RECORD);
+    block.writeString(value);
+
+    return FIRST_REFERENCE + index;
+  }
+
+  private void writeReference(int reference, String value) {
+    if (INLINE_STRING == reference && null == value) {
+      block.writeVarLong(NULL_STRING);
+      return;
+    }
+    block.writeVarLong(reference);
+    if (INLINE_STRING == reference) {
+      block.writeString(value);
+    }
+  }
+
+  private void flushBlock() {
+    if (0 == block.size()) {
+      return;
+    }
+    deflater.reset();
+    deflater.setInput(block.buffer(), 0, block.size());
+    deflater.finish();
+
+    var length = 0;
+
+    while (!deflater.finished()) {
+      if (compressed.length == length) {
+        compressed = Arrays.copyOf(compressed, compressed.length << 1);
+      }
+      length += deflater.deflate(compressed, length, compressed.length - length);
+    }
+    try {
+      output.writeInt(block.size());
+      output.writeInt(length);
+      output.write(compressed, 0, length);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot write a block of the export", exception);
+    }
+    block.reset();
+  }
+
+  private static class Records extends ByteArrayOutputStream {
+
+    Records() {
+      super(BLOCK_SIZE + BLOCK_SIZE / 4);
+    }
+
+    byte[] buffer() {
+      return buf;
+    }
+
+    void writeVarLong(long value) {
+      while (0 != (value & ~0x7FL)) {
+        write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      write((int) value);
+    }
+
+    void writeZigZag(long value) {
+      writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeString(String value) {
+      var bytes = value.getBytes(StandardCharsets.UTF_8);
+
+      writeVarLong(bytes.length);
+      write(bytes, 0, bytes.length);
+    }
+
+  }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Streams events of an {@link EventExport export} back.
+ * <p>
+ * Only one block is inflated at a time, so an export of any size is read in constant memory, apart from the
+ * dictionary. A throwable is restored as a throwable without stack trace that keeps the class name and the message of
+ * the original one.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   try (var reader = EventExportReader.open(Path.of("target/events.mjpl"))) {
+ *     reader.stream().filter(event -&gt; Level.ERROR == event.getLevel()).forEach(System.out::println);
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class EventExportReader implements Closeable {
+
+  private static final Level[] LEVELS = Level.values();
+
+  private final DataInputStream input;
+  private final Inflater inflater = new Inflater();
+  private final List<String> dictionary = new ArrayList<>();
+
+  private byte[] compressed = new byte[0];
+  private byte[] block = new byte[0];
+  private int blockSize;
+  private int position;
+  private long previousTimestamp;
+
+  EventExportReader(InputStream input) throws IOException {
+    this.input = new DataInputStream(input);
+
+    var magic = new byte[EventExport.MAGIC.length];
+
+    this.input.readFully(magic);
+    if (!Arrays.equals(EventExport.MAGIC, magic)) {
+      throw new IOException("Not an event export");
+    }
+
+    var version = this.input.readByte();
+
+    if (EventExport.VERSION != version) {
+      throw new IOException("Unsupported version of an event export: " + version);
+    }
+  }
+
+  /**
+   * Opens an export file.
+   *
+   * @param file export file
+   * @return reader
+   * @throws UncheckedIOException if the file cannot be read or it is not an export
+   */
+  @NotNull
+  public static EventExportReader open(Path file) {
+    InputStream input = null;
+
+    try {
+      input = new BufferedInputStream(Files.newInputStream(file));
+
+      return new EventExportReader(input);
+    } catch (IOException exception) {
+      if (null != input) {
+        try {
+          input.close();
+        } catch (IOException closeException) {
+          exception.addSuppressed(closeException);
+        }
+      }
+      throw new UncheckedIOException("Cannot read " + file, exception);
+    }
+  }
+
+  /**
+   * Reads events lazily in the order they were written. The stream can be consumed once.
+   *
+   * @return stream of events
+   */
+  @NotNull
+  public Stream<LogEvent> stream() {
+    return StreamSupport.stream(new Spliterators.AbstractSpliterator<LogEvent>(Long.MAX_VALUE,
+        Spliterator.ORDERED | Spliterator.NONNULL) {
+
+      @Override
+      public boolean tryAdvance(Consumer<? super LogEvent> action) {
+        var event = next();
+
+        if (null == event) {
+          return false;
+        }
+        action.accept(event);
+
+        return true;
+      }
+
+    }, false);
+  }
+
+  @Override
+  public void close() {
+    inflater.end();
+    try {
+      input.close();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot close the export", exception);
+    }
+  }
+
+  /**
+   * Reads the next event.
+   *
+   * @return event, or {@code null} at the end of the export
+   * @throws UncheckedIOException if the export is broken
+   */
+  LogEvent next() {
+    try {
+      while (true) {
+        if (blockSize == position && !readBlock()) {
+          return null;
+        }
+
+        var record = block[position++];
+
+        if (EventExport.DEFINE_RECORD == record) {
+          dictionary.add(readString());
+        } else if (EventExport.EVENT_RECORD == record) {
+          return readEvent();
+        } else {
+          throw new IOException("Unknown record: " + record);
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot read the export", exception);
+    }
+  }
+
+  private boolean readBlock() throws IOException {
+    int size;
+
+    try {
+      size = input.readInt();
+    } catch (EOFException exception) {
+      return false;
+    }
+
+    var length = input.readInt();
+
+    if (0 >= size || EventExport.MAX_BLOCK_SIZE < size || 0 >= length || EventExport.MAX_BLOCK_SIZE < length) {
+      throw new IOException("Broken block of the export: size " + size + ", length " + length);
+    }
+    if (compressed.length < length) {
+      compressed = new byte[length];
+    }
+    if (block.length < size) {
+      block = new byte[size];
+    }
+    input.readFully(compressed, 0, length);
+    inflater.reset();
+    inflater.setInput(compressed, 0, length);
+    try {
+      if (size != inflater.inflate(block, 0, size)) {
+        throw new IOException("Broken block of the export");
+      }
+    } catch (DataFormatException exception) {
+      throw new IOException("Broken block of the export", exception);
+    }
+    blockSize = size;
+    position = 0;
+
+    return true;
+  }
+
+  private LogEvent readEvent() throws IOException {
+    var levelIndex = block[position++];
+
+    if (0 > levelIndex || LEVELS.length <= levelIndex) {
+      throw new IOException("Unknown level: " + levelIndex);
+    }
+
+    var level = LEVELS[levelIndex];
+    var loggerName = readReference();
+    var threadName = readReference();
+    var message = readReference();
+    var timestamp = previousTimestamp + readZigZag();
+    var sequence = readZigZag();
+    var contextId = readZigZag();
+    var parameterCount = (int) readVarLong();
+    Object[] parameters = null;
+
+    if (0 < parameterCount) {
+      parameters = new Object[parameterCount];
+      for (int i = 0; parameterCount > i; i++) {
+        parameters[i] = readReference();
+      }
+    }
+
+    var thrownClass = readReference();
+    var thrown = (null == thrownClass) ? null : new RestoredThrowable(thrownClass, readReference());
+
+    previousTimestamp = timestamp;
+
+    return new LogEvent(loggerName, level, null, message, null, parameters, thrown, threadName, timestamp, sequence,
+        contextId);
+  }
+
+  private String readReference() throws IOException {
+    var reference = readVarLong();
+
+    if (EventExport.NULL_STRING == reference) {
+      return null;
+    }
+    if (EventExport.INLINE_STRING == reference) {
+      return readString();
+    }
+
+    var index = reference - EventExport.FIRST_REFERENCE;
+
+    if (dictionary.size() <= index) {
+      throw new IOException("Unknown dictionary reference: " + reference);
+    }
+
+    return dictionary.get((int) index);
+  }
+
+  private String readString() throws IOException {
+    var length = (int) readVarLong();
+
+    if (blockSize < position + length) {
+      throw new IOException("Broken string of the export");
+    }
+
+    var value = new String(block, position, length, StandardCharsets.UTF_8);
+
+    position += length;
+
+    return value;
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+
+    for (int shift = 0; Long.SIZE > shift; shift += 7) {
+      if (blockSize == position) {
+        throw new IOException("Broken number of the export");
+      }
+
+      var current = block[position++];
+
+      value |= (long) (current & 0x7F) << shift;
+      if (0 == (current & 0x80)) {
+        return value;
+      }
+    }
+
+    throw new IOException("Broken number of the export");
+  }
+
+  private long readZigZag() throws IOException {
+    var value = readVarLong();
+
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Filters and prints {@link EventExport exports}: one line per event, exports are streamed.
+ * <p>
+ * Usage:
+ * <pre>
+ *   java -cp mock-jdk-platform-logging.jar io.github.vitalijr2.mock.jdk.platform.logging.EventExportTool \
+ *       [--logger name] [--level level] [--message regex] [--context id] [--limit number] file...
+ * </pre>
+ * <p>
+ * {@code --level} keeps events at the level or more severe, {@code --message} looks for the pattern in messages.
+ *
+ * @since 1.2.0
+ */
+public final class EventExportTool {
+
+  private static final String USAGE = "Usage: EventExportTool [--logger name] [--level level] [--message regex] "
+      + "[--context id] [--limit number] file...";
+
+  private EventExportTool() {
+  }
+
+  /**
+   * Prints events of export files to the standard output.
+   *
+   * @param arguments options and files
+   */
+  public static void main(String... arguments) {
+    var status = run(arguments, System.out, System.err);
+
+    if (0 != status) {
+      System.exit(status);
+    }
+  }
+
+  @VisibleForTesting
+  static int run(String[] arguments, PrintStream out, PrintStream err) {
+    Predicate<LogEvent> filter = event -> true;
+    var limit = Long.MAX_VALUE;
+    var files = new ArrayList<Path>();
+
+    try {
+      for (int i = 0; arguments.length > i; i++) {
+        var argument = arguments[i];
+
+        if (!argument.startsWith("--")) {
+          files.add(Path.of(argument));
+          continue;
+        }
+        if (arguments.length == i + 1) {
+          throw new IllegalArgumentException("No value of " + argument);
+        }
+
+        var value = arguments[++i];
+
+        switch (argument) {
+          case "--logger":
+            filter = filter.and(event -> value.equals(event.getLoggerName()));
+            break;
+          case "--level":
+            var level = Level.valueOf(value.toUpperCase(Locale.ROOT));
+
+            filter = filter.and(event -> level.getSeverity() <= event.getLevel().getSeverity());
+            break;
+          case "--message":
+            var pattern = Pattern.compile(value);
+
+            filter = filter.and(event -> null != event.getMessage() && pattern.matcher(event.getMessage()).find());
+            break;
+          case "--context":
+            var contextId = Long.parseLong(value);
+
+            filter = filter.and(event -> contextId == event.getContextId());
+            break;
+          case "--limit":
+            limit = Long.parseLong(value);
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option " + argument);
+        }
+      }
+      if (files.isEmpty()) {
+        throw new IllegalArgumentException("No export files");
+      }
+    } catch (IllegalArgumentException exception) {
+      err.println(exception.getMessage());
+      err.println(USAGE);
+      return 2;
+    }
+
+    try {
+      print(files, filter, limit, out);
+    } catch (UncheckedIOException exception) {
+      err.println(exception.getMessage() + ": " + exception.getCause().getMessage());
+      return 1;
+    }
+
+    return 0;
+  }
+
+  private static void print(List<Path> files, Predicate<LogEvent> filter, long limit, PrintStream out) {
+    var remaining = limit;
+
+    for (var file : files) {
+      try (var reader = EventExportReader.open(file)) {
+        for (var event = reader.next(); null != event && 0 < remaining; event = reader.next()) {
+          if (filter.test(event)) {
+            out.println(format(event));
+            remaining--;
+          }
+        }
+      }
+      if (0 == remaining) {
+        return;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static String format(LogEvent event) {
+    var line = new StringBuilder();
+
+    if (null != event.getTimestamp()) {
+      line.append(event.getTimestamp()).append(' ');
+    }
+    if (null != event.getThreadName()) {
+      line.append('[').append(event.getThreadName()).append("] ");
+    }
+
+    return line.append(event).toString();
+  }
+
+}
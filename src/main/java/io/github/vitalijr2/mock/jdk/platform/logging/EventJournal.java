@@ -0,0 +1,340 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Append-only journal of captured events in a memory-mapped file.
+ * <p>
+ * {@link JournalLogger Journal loggers} write events in a compact binary format, so tests that log tens of millions
+ * of messages do not keep them on heap. Threads reserve space for a record by an atomic increment of the journal
+ * position and write their records without locks; a record becomes visible to readers when its length is published.
+ * <p>
+ * The file consists of segments of the same size that are mapped one by one. A record never crosses a segment
+ * boundary, the tail of a segment that is too short for the next record is skipped. Every record starts with its
+ * length, then there is a record type:
+ * <ul>
+ *   <li>logger: logger id and name;</li>
+ *   <li>event: level, logger id, timestamp, context id, thread name, message, parameters and throwable as strings.</li>
+ * </ul>
+ * <p>
+ * Use {@link #query()} to read events back, events are decoded one by one while a stream is consumed.
+ * <p>
+ * {@link #close() Closing} the journal releases its file and mapped segments, the journal cannot be used afterwards.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   try (var errors = MockLoggerExtension.getJournal().query().logger("HelloService").level(Level.ERROR).stream()) {
+ *     assertEquals(0, errors.count());
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class EventJournal implements AutoCloseable {
+
+  static final byte LOGGER_RECORD = 1;
+  static final byte EVENT_RECORD = 2;
+
+  private static final int ALIGNMENT = 8;
+  private static final int INITIAL_RECORD_SIZE = 256;
+  private static final VarHandle RECORD_LENGTH = MethodHandles.byteBufferViewVarHandle(int[].class,
+      ByteOrder.nativeOrder());
+
+  private final Path file;
+  private final FileChannel channel;
+  private final int segmentSize;
+  private final AtomicLong position = new AtomicLong();
+  private final AtomicInteger loggerIds = new AtomicInteger();
+  private final Map<Integer, String> loggerNames = new ConcurrentHashMap<>();
+  private final ThreadLocal<ByteBuffer> records = ThreadLocal.withInitial(
+      () -> ByteBuffer.allocate(INITIAL_RECORD_SIZE));
+
+  private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+  EventJournal(Path file, int segmentSize) {
+    if (ALIGNMENT * INITIAL_RECORD_SIZE > segmentSize) {
+      throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+    }
+    this.file = file;
+    this.segmentSize = segmentSize - segmentSize % ALIGNMENT;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot open the journal " + file, exception);
+    }
+    segment(0);
+  }
+
+  /**
+   * Creates a journal in the configured file or in a temporary file that is deleted on exit.
+   *
+   * @param configuration settings of the finder
+   * @return new journal
+   */
+  static EventJournal create(Configuration configuration) {
+    var file = configuration.getJournalFile().orElseGet(() -> {
+      try {
+        var temporaryFile = Files.createTempFile("mock-jdk-platform-logging", ".journal");
+
+        temporaryFile.toFile().deleteOnExit();
+
+        return temporaryFile;
+      } catch (IOException exception) {
+        throw new UncheckedIOException("Cannot create a journal file", exception);
+      }
+    });
+
+    return new EventJournal(file, configuration.getJournalSegmentSize());
+  }
+
+  /**
+   * File of the journal.
+   *
+   * @return journal file
+   */
+  @NotNull
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Starts a query over all events of the journal.
+   *
+   * @return query without filters
+   */
+  @NotNull
+  public JournalQuery query() {
+    return new JournalQuery(this);
+  }
+
+  /**
+   * Registers a logger: every logger instance gets its own id, even if the name is already known.
+   *
+   * @param loggerName logger name
+   * @return logger id
+   */
+  int register(String loggerName) {
+    var loggerId = loggerIds.incrementAndGet();
+
+    loggerNames.put(loggerId, loggerName);
+    write(record -> {
+      record.put(LOGGER_RECORD);
+      record.putInt(loggerId);
+      putString(record, loggerName);
+    });
+
+    return loggerId;
+  }
+
+  void append(int loggerId, Level level, String message, Object[] parameters, Throwable thrown) {
+    var timestamp = System.currentTimeMillis();
+    var threadName = Thread.currentThread().getName();
+    var contextId = CaptureContext.current();
+
+    write(record -> {
+      record.put(EVENT_RECORD);
+      record.put((byte) level.ordinal());
+      record.putInt(loggerId);
+      record.putLong(timestamp);
+      record.putLong(contextId);
+      putString(record, threadName);
+      putString(record, message);
+      if (null == parameters) {
+        record.putInt(-1);
+      } else {
+        record.putInt(parameters.length);
+        for (var parameter : parameters) {
+          putString(record, (null == parameter) ? null : parameter.toString());
+        }
+      }
+      if (null == thrown) {
+        putString(record, null);
+      } else {
+        putString(record, thrown.getClass().getName());
+        putString(record, thrown.getMessage());
+      }
+    });
+  }
+
+  /**
+   * Current end of the journal: records that are appended later start at or after this position.
+   *
+   * @return journal position
+   */
+  long getPosition() {
+    return position.get();
+  }
+
+  int getSegmentSize() {
+    return segmentSize;
+  }
+
+  String getLoggerName(int loggerId) {
+    return loggerNames.get(loggerId);
+  }
+
+  /**
+   * Reads the length of the record at the position, the length is published after the record.
+   *
+   * @param segment segment buffer
+   * @param offset  offset in the segment
+   * @return length of the record, {@code 0} if it is not written yet, negative length of a skipped tail of a segment
+   */
+  static int getRecordLength(ByteBuffer segment, int offset) {
+    return (int) RECORD_LENGTH.getAcquire(segment, offset);
+  }
+
+  MappedByteBuffer segment(int index) {
+    var current = segments;
+
+    if (current.length > index && null != current[index]) {
+      return current[index];
+    }
+
+    return mapSegment(index);
+  }
+
+  private synchronized MappedByteBuffer mapSegment(int index) {
+    var current = segments;
+
+    if (current.length <= index) {
+      current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+    }
+    if (null == current[index]) {
+      try {
+        current[index] = channel.map(FileChannel.MapMode.READ_WRITE, (long) index * segmentSize, segmentSize);
+      } catch (IOException exception) {
+        throw new UncheckedIOException("Cannot map the journal " + file, exception);
+      }
+    }
+    segments = current;
+
+    return current[index];
+  }
+
+  private void write(RecordWriter writer) {
+    var record = encode(writer);
+    var length = align(record.limit());
+
+    if (length > segmentSize) {
+      throw new IllegalArgumentException("The event does not fit a journal segment: " + length + " bytes");
+    }
+
+    var offset = reserve(length);
+    var segment = segment((int) (offset / segmentSize));
+    var segmentOffset = (int) (offset % segmentSize);
+
+    segment.duplicate().position(segmentOffset + Integer.BYTES).put(record.position(Integer.BYTES));
+    RECORD_LENGTH.setRelease(segment, segmentOffset, length);
+  }
+
+  private ByteBuffer encode(RecordWriter writer) {
+    var record = records.get();
+
+    while (true) {
+      try {
+        record.clear();
+        record.putInt(0);
+        writer.write(record);
+
+        return record.flip();
+      } catch (BufferOverflowException exception) {
+        record = ByteBuffer.allocate(record.capacity() * 2);
+        records.set(record);
+      }
+    }
+  }
+
+  private long reserve(int length) {
+    while (true) {
+      var offset = position.get();
+      var segmentEnd = (offset / segmentSize + 1) * segmentSize;
+
+      if (segmentEnd >= offset + length) {
+        if (position.compareAndSet(offset, offset + length)) {
+          return offset;
+        }
+      } else if (position.compareAndSet(offset, segmentEnd)) {
+        RECORD_LENGTH.setRelease(segment((int) (offset / segmentSize)), (int) (offset % segmentSize),
+            (int) (offset - segmentEnd));
+      }
+    }
+  }
+
+  private static int align(int length) {
+    return (length + ALIGNMENT - 1) & -ALIGNMENT;
+  }
+
+  private static void putString(ByteBuffer record, String value) {
+    if (null == value) {
+      record.putInt(-1);
+    } else {
+      var bytes = value.getBytes(StandardCharsets.UTF_8);
+
+      record.putInt(bytes.length);
+      record.put(bytes);
+    }
+  }
+
+  /**
+   * Closes the file of the journal and drops its mapped segments, they are unmapped when they are collected.
+   * Later writes and queries fail with {@link UncheckedIOException}.
+   */
+  @Override
+  public synchronized void close() {
+    segments = new MappedByteBuffer[0];
+    try {
+      channel.close();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot close the journal " + file, exception);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Event journal " + file;
+  }
+
+  @FunctionalInterface
+  private interface RecordWriter {
+
+    void write(ByteBuffer record);
+
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+/**
+ * Which captured events a logger keeps when their number reaches the retention limit.
+ * <p>
+ * Exact counts per level are kept regardless of the retention, see {@link LogAssertions#getCounts(System.Logger)}.
+ * <p>
+ * A Mockito mock keeps invocations in a list that cannot be trimmed, so {@link #LAST} and {@link #FIRST} are
+ * rejected in the {@link LoggerMode#MOCK mock mode}: use {@link LoggerMode#RECORDING recording loggers} instead.
+ *
+ * @since 1.2.0
+ */
+public enum EventRetention {
+
+  /**
+   * Keep all events, the limit is ignored.
+   */
+  ALL,
+  /**
+   * Keep the last events, older events are evicted.
+   */
+  LAST,
+  /**
+   * Keep the first events, later events are only counted.
+   */
+  FIRST
+
+}
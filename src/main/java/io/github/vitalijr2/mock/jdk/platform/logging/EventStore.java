@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+/**
+ * Storage of logging calls of a {@link RecordingLogger recording logger}.
+ */
+interface EventStore {
+
+  /**
+   * Stores a logging call.
+   *
+   * @param retention       current retention
+   * @param level           logging level
+   * @param bundle          resource bundle or {@code null}
+   * @param message         message, {@code null} if there is a message supplier
+   * @param messageSupplier message supplier that is evaluated lazily, or {@code null}
+   * @param parameters      parameters or {@code null}
+   * @param thrown          throwable or {@code null}
+   */
+  void add(RetentionLimit retention, Level level, ResourceBundle bundle, String message,
+      Supplier<String> messageSupplier, Object[] parameters, Throwable thrown);
+
+  /**
+   * Forget events and counts.
+   */
+  void clear();
+
+  /**
+   * Forget events that were captured in the context of a test, see {@link CaptureContext}. Counts of removed events
+   * are subtracted, events that were evicted are counted still.
+   *
+   * @param contextId context id
+   */
+  void removeContext(long contextId);
+
+  /**
+   * Exact numbers of logging calls per level.
+   *
+   * @return counts per level
+   */
+  LevelCounts getCounts();
+
+  /**
+   * Stored events in the order of their sequence numbers.
+   *
+   * @return copy of events
+   */
+  List<LogEvent> toList();
+
+}
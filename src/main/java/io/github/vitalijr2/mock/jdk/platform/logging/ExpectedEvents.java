@@ -0,0 +1,356 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AssertionFailureBuilder;
+
+/**
+ * Bulk verification of captured events.
+ * <p>
+ * Instead of a Mockito verification per expected event, that scans all invocations of the mock every time, the
+ * expected events are checked in one pass over captured events: an event is matched by its level, its message as
+ * is, its parameters and its throwable, like {@code verify(logger).log(level, message, parameters)} does. An expected
+ * event without parameters matches only events without parameters. Parameters are compared by
+ * {@link Object#equals(Object)}, a throwable is compared by identity unless its class overrides
+ * {@code equals}. Expected events are a sequence with {@link #inOrder()}, otherwise they are a multiset: an event that is
+ * expected twice must be logged twice. With {@link #exactly()} other events are not allowed, like
+ * {@link org.mockito.Mockito#verifyNoMoreInteractions(Object...)} does.
+ * <p>
+ * A failure lists matched ({@code =}), missing ({@code -}) and unexpected ({@code +}) events.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   ExpectedEvents.expect(Level.INFO, "Hello John!")
+ *       .then(Level.INFO, "Hello Jane!")
+ *       .inOrder()
+ *       .exactly()
+ *       .verify(System.getLogger("HelloService"));
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class ExpectedEvents {
+
+  private final List<Key> expected = new ArrayList<>();
+
+  private boolean inOrder;
+  private boolean exactly;
+
+  private ExpectedEvents() {
+  }
+
+  /**
+   * Starts expected events with the first one.
+   *
+   * @param level   expected level
+   * @param message expected message or format
+   * @return expected events
+   */
+  @NotNull
+  public static ExpectedEvents expect(Level level, String message) {
+    return new ExpectedEvents().then(level, message);
+  }
+
+  /**
+   * Starts expected events with the first one that has parameters.
+   *
+   * @param level      expected level
+   * @param format     expected format
+   * @param parameters expected parameters
+   * @return expected events
+   */
+  @NotNull
+  public static ExpectedEvents expect(Level level, String format, Object... parameters) {
+    return new ExpectedEvents().then(level, format, parameters);
+  }
+
+  /**
+   * Starts expected events with the first one that has a throwable.
+   *
+   * @param level   expected level
+   * @param message expected message
+   * @param thrown  expected throwable
+   * @return expected events
+   */
+  @NotNull
+  public static ExpectedEvents expect(Level level, String message, Throwable thrown) {
+    return new ExpectedEvents().then(level, message, thrown);
+  }
+
+  /**
+   * Starts expected events with one that is expected a number of times.
+   *
+   * @param times   how many times the event is expected
+   * @param level   expected level
+   * @param message expected message or format
+   * @return expected events
+   */
+  @NotNull
+  public static ExpectedEvents expect(int times, Level level, String message) {
+    return new ExpectedEvents().then(times, level, message);
+  }
+
+  /**
+   * Adds an expected event.
+   *
+   * @param level   expected level
+   * @param message expected message or format
+   * @return these expected events
+   */
+  @NotNull
+  public ExpectedEvents then(Level level, String message) {
+    expected.add(new Key(level, message, null, null));
+
+    return this;
+  }
+
+  /**
+   * Adds an expected event that has parameters.
+   *
+   * @param level      expected level
+   * @param format     expected format
+   * @param parameters expected parameters
+   * @return these expected events
+   */
+  @NotNull
+  public ExpectedEvents then(Level level, String format, Object... parameters) {
+    expected.add(new Key(level, format, parameters, null));
+
+    return this;
+  }
+
+  /**
+   * Adds an expected event that has a throwable.
+   *
+   * @param level   expected level
+   * @param message expected message
+   * @param thrown  expected throwable
+   * @return these expected events
+   */
+  @NotNull
+  public ExpectedEvents then(Level level, String message, Throwable thrown) {
+    expected.add(new Key(level, message, null, thrown));
+
+    return this;
+  }
+
+  /**
+   * Adds an event that is expected a number of times.
+   *
+   * @param times   how many times the event is expected
+   * @param level   expected level
+   * @param message expected message or format
+   * @return these expected events
+   */
+  @NotNull
+  public ExpectedEvents then(int times, Level level, String message) {
+    var key = new Key(level, message, null, null);
+
+    for (int i = 0; times > i; i++) {
+      expected.add(key);
+    }
+
+    return this;
+  }
+
+  /**
+   * Expected events must be logged in the same order, other events may be logged between them unless
+   * {@link #exactly()} is set.
+   *
+   * @return these expected events
+   */
+  @NotNull
+  public ExpectedEvents inOrder() {
+    inOrder = true;
+
+    return this;
+  }
+
+  /**
+   * No other events may be logged.
+   *
+   * @return these expected events
+   */
+  @NotNull
+  public ExpectedEvents exactly() {
+    exactly = true;
+
+    return this;
+  }
+
+  /**
+   * Verifies captured events of the logger.
+   *
+   * @param logger recording logger or mock logger
+   */
+  public void verify(Logger logger) {
+    var events = CapturedEvents.of(logger);
+    var diff = inOrder ? diffInOrder(events) : diffAnyOrder(events);
+
+    if (diff.failed) {
+      AssertionFailureBuilder.assertionFailure()
+          .message("Captured events do not match expected events " + describeMode() + ":" + diff.lines)
+          .expected(join(expected)).actual(join(keysOf(events))).includeValuesInMessage(false).buildAndThrow();
+    }
+  }
+
+  private Diff diffInOrder(List<LogEvent> events) {
+    var diff = new Diff();
+    var next = 0;
+
+    for (var event : events) {
+      var key = Key.of(event);
+
+      if (expected.size() > next && expected.get(next).equals(key)) {
+        diff.add('=', key);
+        next++;
+      } else if (exactly) {
+        diff.add('+', key);
+        diff.failed = true;
+      }
+    }
+    for (; expected.size() > next; next++) {
+      diff.add('-', expected.get(next));
+      diff.failed = true;
+    }
+
+    return diff;
+  }
+
+  private Diff diffAnyOrder(List<LogEvent> events) {
+    var remaining = new LinkedHashMap<Key, Integer>();
+    var diff = new Diff();
+
+    expected.forEach(key -> remaining.merge(key, 1, Integer::sum));
+    for (var event : events) {
+      var key = Key.of(event);
+      var count = remaining.getOrDefault(key, 0);
+
+      if (0 < count) {
+        remaining.put(key, count - 1);
+        diff.add('=', key);
+      } else if (exactly) {
+        diff.add('+', key);
+        diff.failed = true;
+      }
+    }
+    remaining.forEach((key, count) -> {
+      for (int i = 0; count > i; i++) {
+        diff.add('-', key);
+        diff.failed = true;
+      }
+    });
+
+    return diff;
+  }
+
+  private String describeMode() {
+    return (inOrder ? "in order" : "in any order") + (exactly ? ", exactly" : "");
+  }
+
+  private static List<Key> keysOf(List<LogEvent> events) {
+    var keys = new ArrayList<Key>(events.size());
+
+    events.forEach(event -> keys.add(Key.of(event)));
+
+    return keys;
+  }
+
+  private static String join(List<Key> keys) {
+    var builder = new StringBuilder();
+
+    keys.forEach(key -> builder.append(key).append('\n'));
+
+    return builder.toString();
+  }
+
+  private static class Diff {
+
+    private final StringBuilder lines = new StringBuilder();
+
+    private boolean failed;
+
+    void add(char marker, Key key) {
+      lines.append("\n  ").append(marker).append(' ').append(key);
+    }
+
+  }
+
+  private static class Key {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final Level level;
+    private final String message;
+    private final Object[] parameters;
+    private final Throwable thrown;
+
+    Key(Level level, String message, Object[] parameters, Throwable thrown) {
+      this.level = Objects.requireNonNull(level, "Level is null");
+      this.message = message;
+      this.parameters = (null == parameters) ? NO_PARAMETERS : parameters.clone();
+      this.thrown = thrown;
+    }
+
+    static Key of(LogEvent event) {
+      return new Key(event.getLevel(), event.getMessage(), event.getParameters(), event.getThrown());
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof Key)) {
+        return false;
+      }
+
+      var key = (Key) object;
+
+      return level == key.level && Objects.equals(message, key.message) && Arrays.equals(parameters, key.parameters)
+          && Objects.equals(thrown, key.thrown);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(level, message, Arrays.hashCode(parameters), thrown);
+    }
+
+    @Override
+    public String toString() {
+      var builder = new StringBuilder().append(level).append(' ').append(message);
+
+      if (0 < parameters.length) {
+        builder.append(' ').append(Arrays.toString(parameters));
+      }
+      if (null != thrown) {
+        builder.append(' ').append(thrown);
+      }
+
+      return builder.toString();
+    }
+
+  }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+/**
+ * When {@link MockLoggerExtension} exports captured events, see {@link EventExport}.
+ */
+enum ExportMode {
+
+  /**
+   * Events are not exported.
+   */
+  NONE,
+  /**
+   * Events of a failed test are exported to a file of the test.
+   */
+  FAILURE,
+  /**
+   * Events of all tests are exported to one file of the run.
+   */
+  RUN
+
+}
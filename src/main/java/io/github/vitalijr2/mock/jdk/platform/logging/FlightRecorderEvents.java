@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Emits Flight Recorder events of logging calls.
+ * <p>
+ * Every call is checked against the enabled state of the event type first, so nothing is allocated while Flight
+ * Recorder does not record the events. In the batch mode a thread collects consecutive calls of a logger into one
+ * event and commits it when the batch is full or older than {@value #MAX_BATCH_AGE_MILLIS} milliseconds. The
+ * duration of a batch ends at its last call. Open batches of all threads are committed by {@link #flush()}, which
+ * {@link MockLoggerExtension} calls when it resets loggers and after every test. A committed batch leaves the map
+ * of its thread, so the map holds only open batches.
+ */
+final class FlightRecorderEvents {
+
+  static final long MAX_BATCH_AGE_MILLIS = 1000;
+
+  private static final EventType CALL_TYPE = EventType.getEventType(LoggingCallEvent.class);
+  private static final EventType BATCH_TYPE = EventType.getEventType(LoggingBatchEvent.class);
+  private static final long MAX_BATCH_AGE_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_BATCH_AGE_MILLIS);
+
+  private final int batchSize;
+  private final ThreadLocal<Map<String, Batch>> batches = ThreadLocal.withInitial(ConcurrentHashMap::new);
+  private final Set<Batch> openBatches = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Create an emitter.
+   *
+   * @param batchSize how many calls an event covers, {@code 1} for an event per call
+   */
+  FlightRecorderEvents(int batchSize) {
+    if (0 >= batchSize) {
+      throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+    }
+    this.batchSize = batchSize;
+  }
+
+  void emit(String loggerName, Level level, String message) {
+    if (1 == batchSize) {
+      emitCall(loggerName, level, message);
+    } else {
+      addToBatch(loggerName, level, message);
+    }
+  }
+
+  /**
+   * Commits open batches of all threads, even if they are not full.
+   */
+  void flush() {
+    openBatches.forEach(Batch::commit);
+  }
+
+  @VisibleForTesting
+  int getThreadBatchCount() {
+    return batches.get().size();
+  }
+
+  private static void emitCall(String loggerName, Level level, String message) {
+    if (!CALL_TYPE.isEnabled()) {
+      return;
+    }
+
+    var event = new LoggingCallEvent();
+
+    event.loggerName = loggerName;
+    event.level = level.getName();
+    event.message = message;
+    event.commit();
+  }
+
+  private void addToBatch(String loggerName, Level level, String message) {
+    if (!BATCH_TYPE.isEnabled()) {
+      return;
+    }
+
+    var threadBatches = batches.get();
+    var batch = threadBatches.get(loggerName);
+
+    if (null == batch || !batch.add(level, message)) {
+      batch = new Batch(threadBatches, loggerName, level, message);
+      threadBatches.put(loggerName, batch);
+      openBatches.add(batch);
+    }
+    if (batchSize <= batch.event.calls || MAX_BATCH_AGE_NANOS <= System.nanoTime() - batch.started) {
+      batch.commit();
+    }
+  }
+
+  /**
+   * A batch is filled by its thread and it can be committed by any thread, so both lock it. For the same reason the
+   * map of open batches of a thread is concurrent: a committed batch removes itself from it.
+   */
+  private final class Batch {
+
+    private final Map<String, Batch> threadBatches;
+    private final LoggingBatchEvent event = new LoggingBatchEvent();
+    private final long started = System.nanoTime();
+
+    private boolean committed;
+
+    Batch(Map<String, Batch> threadBatches, String loggerName, Level level, String message) {
+      this.threadBatches = threadBatches;
+      event.loggerName = loggerName;
+      event.level = level.getName();
+      event.thread = Thread.currentThread();
+      event.calls = 1;
+      event.message = message;
+      event.begin();
+    }
+
+    synchronized boolean add(Level level, String message) {
+      if (committed) {
+        return false;
+      }
+      if (Level.valueOf(event.level).getSeverity() < level.getSeverity()) {
+        event.level = level.getName();
+      }
+      event.calls++;
+      event.message = message;
+      event.end();
+
+      return true;
+    }
+
+    synchronized void commit() {
+      if (!committed) {
+        committed = true;
+        openBatches.remove(this);
+        threadBatches.remove(event.loggerName, this);
+        event.commit();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Logging statistics of test JVMs: every fork dumps its counts per logger and level at shutdown, the dumps are merged
+ * into one report of the module.
+ * <p>
+ * A fork appends to its own file in {@value #DIRECTORY} of the report directory. A dump is a sequence of lines, every
+ * line starts with the CRC32 of the rest of the line:
+ * <pre>
+ *   crc32 TAB fork TAB pid TAB timestamp
+ *   crc32 TAB logger TAB name TAB TRACE,DEBUG,INFO,WARNING,ERROR counts
+ *   crc32 TAB end TAB number of loggers
+ * </pre>
+ * Files are only appended to and forced to disk after a dump. A fork that dies in the middle of a dump leaves a torn
+ * line or a dump without its end, the merge skips such dumps and counts them as incomplete, so it never takes
+ * partial numbers.
+ */
+final class ForkStatistics {
+
+  static final String DIRECTORY = "mock-jdk-platform-logging-forks";
+  static final String FILE_SUFFIX = ".stats";
+  static final String TEXT_REPORT = "mock-jdk-platform-logging-statistics.txt";
+  static final String JSON_REPORT = "mock-jdk-platform-logging-statistics.json";
+
+  private static final Level[] LEVELS = Level.values();
+  private static final int CRC_LENGTH = 8;
+
+  private final Map<String, long[]> loggers = new TreeMap<>();
+
+  private int forks;
+  private int incomplete;
+  private int corrupted;
+
+  private ForkStatistics() {
+  }
+
+  /**
+   * Appends a dump of counts to the file of the current fork.
+   *
+   * @param directory report directory
+   * @param counts    counts per level indexed by ordinals of levels, by logger names
+   * @return file of the fork
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  static Path dump(Path directory, Map<String, long[]> counts) {
+    var process = ProcessHandle.current();
+    var file = directory.resolve(DIRECTORY).resolve("fork-" + process.pid() + '-'
+        + process.info().startInstant().map(Instant::toEpochMilli).orElse(0L) + FILE_SUFFIX);
+
+    dump(file, process.pid(), counts);
+
+    return file;
+  }
+
+  static void dump(Path file, long pid, Map<String, long[]> counts) {
+    var records = new StringBuilder();
+
+    appendRecord(records, "fork\t" + pid + '\t' + Instant.now());
+    counts.forEach((name, levelCounts) -> appendRecord(records, "logger\t" + escape(name) + '\t'
+        + String.join(",", toStrings(levelCounts))));
+    appendRecord(records, "end\t" + counts.size());
+    try {
+      Files.createDirectories(file.getParent());
+      try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.APPEND)) {
+        var buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(false);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot write fork statistics to " + file, exception);
+    }
+  }
+
+  /**
+   * Merges dumps of all forks in the directory.
+   *
+   * @param directory directory of fork files
+   * @return merged statistics
+   * @throws UncheckedIOException if a file cannot be read
+   */
+  static ForkStatistics merge(Path directory) {
+    var statistics = new ForkStatistics();
+
+    try (var files = Files.list(directory)) {
+      for (var file : files.filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX)).sorted()
+          .collect(Collectors.toList())) {
+        statistics.read(file);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot read fork statistics from " + directory, exception);
+    }
+
+    return statistics;
+  }
+
+  int getForks() {
+    return forks;
+  }
+
+  int getIncomplete() {
+    return incomplete;
+  }
+
+  int getCorrupted() {
+    return corrupted;
+  }
+
+  Map<String, LevelCounts> getLoggers() {
+    var counts = new TreeMap<String, LevelCounts>();
+
+    loggers.forEach((name, levelCounts) -> counts.put(name, new LevelCounts(levelCounts)));
+
+    return counts;
+  }
+
+  /**
+   * Writes text and JSON reports, loggers are ranked by the number of calls.
+   *
+   * @param directory report directory
+   * @throws UncheckedIOException if a report cannot be written
+   */
+  void write(Path directory) {
+    var ranked = loggers.entrySet().stream()
+        .sorted(Comparator.<Map.Entry<String, long[]>>comparingLong(entry -> total(entry.getValue())).reversed()
+            .thenComparing(Map.Entry::getKey)).collect(Collectors.toList());
+
+    try {
+      Files.createDirectories(directory);
+      try (var writer = Files.newBufferedWriter(directory.resolve(TEXT_REPORT), StandardCharsets.UTF_8)) {
+        writeText(writer, ranked);
+      }
+      try (var writer = Files.newBufferedWriter(directory.resolve(JSON_REPORT), StandardCharsets.UTF_8)) {
+        writeJson(writer, ranked);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot write fork statistics to " + directory, exception);
+    }
+  }
+
+  private void read(Path file) throws IOException {
+    Map<String, long[]> dump = null;
+
+    // a torn multibyte character must not stop reading: the reader replaces it, the checksum rejects the line
+    try (var reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file),
+        StandardCharsets.UTF_8))) {
+      for (var line = reader.readLine(); null != line; line = reader.readLine()) {
+        var fields = parseRecord(line);
+
+        if (null == fields) {
+          corrupted++;
+          dump = abandon(dump);
+        } else if ("fork".equals(fields[0])) {
+          abandon(dump);
+          dump = new HashMap<>();
+        } else if ("logger".equals(fields[0]) && null != dump && 3 == fields.length) {
+          var counts = parseCounts(fields[2]);
+
+          if (null == counts) {
+            corrupted++;
+            dump = abandon(dump);
+          } else {
+            dump.put(unescape(fields[1]), counts);
+          }
+        } else if ("end".equals(fields[0]) && null != dump && String.valueOf(dump.size()).equals(fields[1])) {
+          dump.forEach(this::add);
+          forks++;
+          dump = null;
+        } else {
+          dump = abandon(dump);
+        }
+      }
+    }
+    abandon(dump);
+  }
+
+  private Map<String, long[]> abandon(Map<String, long[]> dump) {
+    if (null != dump) {
+      incomplete++;
+    }
+
+    return null;
+  }
+
+  private void add(String name, long[] counts) {
+    var sum = loggers.computeIfAbsent(name, key -> new long[LEVELS.length]);
+
+    for (int i = 0; sum.length > i; i++) {
+      sum[i] += counts[i];
+    }
+  }
+
+  private void writeText(Writer writer, List<Map.Entry<String, long[]>> ranked) throws IOException {
+    writer.write(String.format("Loggers by number of calls in %d fork(s), %d incomplete dump(s) skipped:%n", forks,
+        incomplete));
+    for (int i = 0; ranked.size() > i; i++) {
+      var entry = ranked.get(i);
+
+      writer.write(String.format("%5d. %s total=%d %s%n", i + 1, entry.getKey(), total(entry.getValue()),
+          new LevelCounts(entry.getValue())));
+    }
+  }
+
+  private void writeJson(Writer writer, List<Map.Entry<String, long[]>> ranked) throws IOException {
+    writer.write("{\"forks\":" + forks + ",\"incomplete\":" + incomplete + ",\"corrupted\":" + corrupted
+        + ",\"total\":"
+        + ranked.stream().mapToLong(entry -> total(entry.getValue())).sum() + ",\"loggers\":[");
+    for (int i = 0; ranked.size() > i; i++) {
+      var entry = ranked.get(i);
+
+      writer.write((0 < i ? "," : "") + "{\"name\":" + HotSpots.quote(entry.getKey()) + ",\"total\":"
+          + total(entry.getValue()) + ",\"levels\":{");
+
+      var first = true;
+
+      for (var level : LEVELS) {
+        if (0 < entry.getValue()[level.ordinal()]) {
+          writer.write((first ? "" : ",") + HotSpots.quote(level.name()) + ':' + entry.getValue()[level.ordinal()]);
+          first = false;
+        }
+      }
+      writer.write("}}");
+    }
+    writer.write(String.format("]}%n"));
+  }
+
+  private static void appendRecord(StringBuilder records, String payload) {
+    records.append(String.format("%08x", checksum(payload))).append('\t').append(payload).append('\n');
+  }
+
+  private static String[] parseRecord(String line) {
+    if (CRC_LENGTH + 1 > line.length() || '\t' != line.charAt(CRC_LENGTH)) {
+      return null;
+    }
+
+    var payload = line.substring(CRC_LENGTH + 1);
+
+    try {
+      if (Long.parseLong(line.substring(0, CRC_LENGTH), 16) != checksum(payload)) {
+        return null;
+      }
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+
+    return payload.split("\t", -1);
+  }
+
+  private static long[] parseCounts(String value) {
+    var fields = value.split(",", -1);
+
+    if (LEVELS.length != fields.length) {
+      return null;
+    }
+
+    var counts = new long[LEVELS.length];
+
+    try {
+      for (int i = 0; counts.length > i; i++) {
+        counts[i] = Long.parseLong(fields[i]);
+      }
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+
+    return counts;
+  }
+
+  private static long checksum(String payload) {
+    var crc = new CRC32();
+
+    crc.update(payload.getBytes(StandardCharsets.UTF_8));
+
+    return crc.getValue();
+  }
+
+  private static String[] toStrings(long[] counts) {
+    var strings = new String[counts.length];
+
+    for (int i = 0; counts.length > i; i++) {
+      strings[i] = Long.toString(counts[i]);
+    }
+
+    return strings;
+  }
+
+  private static long total(long[] counts) {
+    return new LevelCounts(counts).getTotal();
+  }
+
+  private static String escape(String name) {
+    return name.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+  }
+
+  private static String unescape(String name) {
+    var builder = new StringBuilder(name.length());
+
+    for (int i = 0; name.length() > i; i++) {
+      var character = name.charAt(i);
+
+      if ('\\' == character && name.length() > i + 1) {
+        var next = name.charAt(++i);
+
+        builder.append(('t' == next) ? '\t' : ('n' == next) ? '\n' : ('r' == next) ? '\r' : next);
+      } else {
+        builder.append(character);
+      }
+    }
+
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Merges logging statistics of test JVMs into one report of the module.
+ * <p>
+ * With the property {@code mock.jdk.platform.logging.fork-statistics=true} every Surefire or Failsafe fork appends
+ * its counts per logger and level to its own file at shutdown. The tool sums complete dumps of all forks and writes
+ * {@code mock-jdk-platform-logging-statistics.txt} and {@code mock-jdk-platform-logging-statistics.json}, dumps that
+ * a crashed fork left incomplete are skipped.
+ * <p>
+ * Usage:
+ * <pre>
+ *   java -cp mock-jdk-platform-logging.jar io.github.vitalijr2.mock.jdk.platform.logging.ForkStatisticsTool \
+ *       [--output directory] [directory]
+ * </pre>
+ * <p>
+ * The directory of fork files is {@code target/mock-jdk-platform-logging-forks} by default, reports are written to
+ * its parent directory unless {@code --output} is set. In a Maven build run the tool by
+ * {@code exec-maven-plugin} after tests, for example in the {@code verify} phase.
+ *
+ * @since 1.2.0
+ */
+public final class ForkStatisticsTool {
+
+  private static final String USAGE = "Usage: ForkStatisticsTool [--output directory] [directory]";
+
+  private ForkStatisticsTool() {
+  }
+
+  /**
+   * Merges fork files and writes reports.
+   *
+   * @param arguments options and the directory of fork files
+   */
+  public static void main(String... arguments) {
+    var status = run(arguments, System.out, System.err);
+
+    if (0 != status) {
+      System.exit(status);
+    }
+  }
+
+  @VisibleForTesting
+  static int run(String[] arguments, PrintStream out, PrintStream err) {
+    Path directory = null;
+    Path output = null;
+
+    try {
+      for (int i = 0; arguments.length > i; i++) {
+        var argument = arguments[i];
+
+        if ("--output".equals(argument)) {
+          if (arguments.length == i + 1) {
+            throw new IllegalArgumentException("No value of " + argument);
+          }
+          output = Path.of(arguments[++i]);
+        } else if (argument.startsWith("--")) {
+          throw new IllegalArgumentException("Unknown option " + argument);
+        } else if (null == directory) {
+          directory = Path.of(argument);
+        } else {
+          throw new IllegalArgumentException("Too many directories");
+        }
+      }
+    } catch (IllegalArgumentException exception) {
+      err.println(exception.getMessage());
+      err.println(USAGE);
+      return 2;
+    }
+    if (null == directory) {
+      directory = Path.of("target", ForkStatistics.DIRECTORY);
+    }
+    if (null == output) {
+      output = directory.toAbsolutePath().getParent();
+    }
+
+    try {
+      var statistics = ForkStatistics.merge(directory);
+
+      statistics.write(output);
+      out.printf("Merged %d fork(s), %d incomplete dump(s) skipped: %d calls of %d logger(s) in %s%n",
+          statistics.getForks(), statistics.getIncomplete(),
+          statistics.getLoggers().values().stream().mapToLong(LevelCounts::getTotal).sum(),
+          statistics.getLoggers().size(), output.resolve(ForkStatistics.TEXT_REPORT));
+    } catch (UncheckedIOException exception) {
+      err.println(exception.getMessage() + ": " + exception.getCause().getMessage());
+      return 1;
+    }
+
+    return 0;
+  }
+
+}
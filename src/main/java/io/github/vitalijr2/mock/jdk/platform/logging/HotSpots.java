@@ -0,0 +1,349 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static java.util.Objects.requireNonNullElse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.StackWalker.StackFrame;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Collects logging hot spots of a test run: numbers of calls per logger and level, and call sites of sampled calls.
+ * <p>
+ * Counts are taken from loggers before {@link MockLoggerExtension} resets them, counts of loggers that were not
+ * reset are added to a {@link #copy() copy} when the report or fork statistics are written. One of {@code sampleRate} logging
+ * calls is sampled: {@link StackWalker} finds the first frame outside this library, Mockito and the JDK. Classes are
+ * checked once, call sites are cached by class, method and bytecode index, so a sample does not resolve line numbers
+ * again.
+ * <p>
+ * At the end of the run the extension writes a ranked report to {@value #TEXT_REPORT} and {@value #JSON_REPORT}.
+ * Fork statistics need only counts, {@link #countsOnly()} does not sample call sites.
+ */
+final class HotSpots {
+
+  static final String TEXT_REPORT = "mock-jdk-platform-logging-hot-spots.txt";
+  static final String JSON_REPORT = "mock-jdk-platform-logging-hot-spots.json";
+
+  private static final Level[] LEVELS = Level.values();
+  private static final CodeSource LIBRARY = HotSpots.class.getProtectionDomain().getCodeSource();
+  private static final List<String> SKIPPED_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "org.mockito.",
+      "net.bytebuddy.");
+  private static final ClassValue<Boolean> SKIPPED_CLASSES = new ClassValue<>() {
+
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      var className = type.getName();
+
+      return SKIPPED_PACKAGES.stream().anyMatch(className::startsWith) || className.contains("$MockitoMock$")
+          || (null != LIBRARY && Objects.equals(LIBRARY, type.getProtectionDomain().getCodeSource()));
+    }
+
+  };
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance(
+      StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+  private final int sampleRate;
+  private final boolean sampling;
+  private final Map<String, LongAdder[]> loggers = new ConcurrentHashMap<>();
+  private final Map<FrameKey, CallSite> callSites;
+
+  HotSpots(int sampleRate) {
+    this(sampleRate, true, new ConcurrentHashMap<>());
+  }
+
+  private HotSpots(int sampleRate, boolean sampling, Map<FrameKey, CallSite> callSites) {
+    if (0 >= sampleRate) {
+      throw new IllegalArgumentException("Sample rate must be positive: " + sampleRate);
+    }
+    this.sampleRate = sampleRate;
+    this.sampling = sampling;
+    this.callSites = callSites;
+  }
+
+  /**
+   * Create a collector of counts that does not sample call sites.
+   *
+   * @return collector of counts
+   */
+  static HotSpots countsOnly() {
+    return new HotSpots(1, false, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Copies counts, call sites are shared with the copy.
+   *
+   * @return copy of the collector
+   */
+  HotSpots copy() {
+    var copy = new HotSpots(sampleRate, sampling, callSites);
+
+    loggers.forEach((loggerName, adders) -> {
+      var counts = new long[LEVELS.length];
+
+      for (int i = 0; counts.length > i; i++) {
+        counts[i] = adders[i].sum();
+      }
+      copy.add(loggerName, new LevelCounts(counts));
+    });
+
+    return copy;
+  }
+
+  /**
+   * Samples the call site of a logging call with the probability {@code 1 / sampleRate}.
+   *
+   * @param loggerName logger name
+   */
+  void sample(String loggerName) {
+    if (!sampling || 1 < sampleRate && 0 != ThreadLocalRandom.current().nextInt(sampleRate)) {
+      return;
+    }
+    STACK_WALKER.walk(frames -> frames.filter(frame -> !SKIPPED_CLASSES.get(frame.getDeclaringClass())).findFirst())
+        .ifPresent(frame -> callSites.computeIfAbsent(new FrameKey(frame), key -> new CallSite(frame))
+            .add(loggerName));
+  }
+
+  /**
+   * Adds counts of a logger.
+   *
+   * @param loggerName logger name
+   * @param counts     counts per level
+   */
+  void add(String loggerName, LevelCounts counts) {
+    if (0 == counts.getTotal()) {
+      return;
+    }
+
+    var adders = loggers.computeIfAbsent(loggerName, key -> {
+      var levelAdders = new LongAdder[LEVELS.length];
+
+      for (int i = 0; levelAdders.length > i; i++) {
+        levelAdders[i] = new LongAdder();
+      }
+
+      return levelAdders;
+    });
+
+    for (var level : LEVELS) {
+      adders[level.ordinal()].add(counts.get(level));
+    }
+  }
+
+  /**
+   * Counts per logger, ordered by the number of calls.
+   *
+   * @return counts per level indexed by ordinals of levels, by logger names
+   */
+  Map<String, long[]> getCounts() {
+    var counts = new LinkedHashMap<String, long[]>();
+
+    rankLoggers().forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+
+    return counts;
+  }
+
+  /**
+   * Writes text and JSON reports.
+   *
+   * @param directory report directory
+   */
+  void write(Path directory) {
+    var rankedLoggers = rankLoggers();
+    var rankedCallSites = callSites.values().stream()
+        .sorted(Comparator.comparingLong(CallSite::getSamples).reversed().thenComparing(CallSite::toString))
+        .collect(Collectors.toList());
+
+    try {
+      Files.createDirectories(directory);
+      try (var writer = Files.newBufferedWriter(directory.resolve(TEXT_REPORT), StandardCharsets.UTF_8)) {
+        writeText(writer, rankedLoggers, rankedCallSites);
+      }
+      try (var writer = Files.newBufferedWriter(directory.resolve(JSON_REPORT), StandardCharsets.UTF_8)) {
+        writeJson(writer, rankedLoggers, rankedCallSites);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot write the hot spot report to " + directory, exception);
+    }
+  }
+
+  private List<Map.Entry<String, long[]>> rankLoggers() {
+    return loggers.entrySet().stream().map(entry -> {
+      var counts = new long[LEVELS.length];
+
+      for (int i = 0; counts.length > i; i++) {
+        counts[i] = entry.getValue()[i].sum();
+      }
+
+      return Map.entry(entry.getKey(), counts);
+    }).sorted(Comparator.<Map.Entry<String, long[]>>comparingLong(entry -> total(entry.getValue())).reversed()
+        .thenComparing(Map.Entry::getKey)).collect(Collectors.toList());
+  }
+
+  private void writeText(Writer writer, List<Map.Entry<String, long[]>> rankedLoggers, List<CallSite> rankedCallSites)
+      throws IOException {
+    writer.write(String.format("Loggers by number of calls:%n"));
+    for (int i = 0; rankedLoggers.size() > i; i++) {
+      var entry = rankedLoggers.get(i);
+
+      writer.write(String.format("%5d. %s total=%d %s%n", i + 1, entry.getKey(), total(entry.getValue()),
+          new LevelCounts(entry.getValue())));
+    }
+    writer.write(String.format("%nCall sites by number of samples, 1 of %d calls is sampled:%n", sampleRate));
+    for (int i = 0; rankedCallSites.size() > i; i++) {
+      var callSite = rankedCallSites.get(i);
+
+      writer.write(String.format("%5d. %s samples=%d ~calls=%d loggers=%s%n", i + 1, callSite, callSite.getSamples(),
+          callSite.getSamples() * sampleRate, String.join(",", callSite.getLoggers())));
+    }
+  }
+
+  private void writeJson(Writer writer, List<Map.Entry<String, long[]>> rankedLoggers, List<CallSite> rankedCallSites)
+      throws IOException {
+    writer.write("{\"sampleRate\":" + sampleRate + ",\"loggers\":[");
+    for (int i = 0; rankedLoggers.size() > i; i++) {
+      var entry = rankedLoggers.get(i);
+
+      writer.write((0 < i ? "," : "") + "{\"name\":" + quote(entry.getKey()) + ",\"total\":" + total(entry.getValue())
+          + ",\"levels\":{");
+
+      var first = true;
+
+      for (var level : LEVELS) {
+        if (0 < entry.getValue()[level.ordinal()]) {
+          writer.write((first ? "" : ",") + quote(level.name()) + ':' + entry.getValue()[level.ordinal()]);
+          first = false;
+        }
+      }
+      writer.write("}}");
+    }
+    writer.write("],\"callSites\":[");
+    for (int i = 0; rankedCallSites.size() > i; i++) {
+      var callSite = rankedCallSites.get(i);
+
+      writer.write((0 < i ? "," : "") + "{\"site\":" + quote(callSite.toString()) + ",\"samples\":"
+          + callSite.getSamples() + ",\"estimatedCalls\":" + callSite.getSamples() * sampleRate + ",\"loggers\":["
+          + callSite.getLoggers().stream().map(HotSpots::quote).collect(Collectors.joining(",")) + "]}");
+    }
+    writer.write(String.format("]}%n"));
+  }
+
+  private static long total(long[] counts) {
+    var total = 0L;
+
+    for (var count : counts) {
+      total += count;
+    }
+
+    return total;
+  }
+
+  static String quote(String value) {
+    var builder = new StringBuilder(value.length() + 2).append('"');
+
+    for (var character : value.toCharArray()) {
+      if ('"' == character || '\\' == character) {
+        builder.append('\\').append(character);
+      } else if (' ' > character) {
+        builder.append(String.format("\\u%04x", (int) character));
+      } else {
+        builder.append(character);
+      }
+    }
+
+    return builder.append('"').toString();
+  }
+
+  private static final class FrameKey {
+
+    private final Class<?> declaringClass;
+    private final String methodName;
+    private final int byteCodeIndex;
+
+    FrameKey(StackFrame frame) {
+      declaringClass = frame.getDeclaringClass();
+      methodName = frame.getMethodName();
+      byteCodeIndex = frame.getByteCodeIndex();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof FrameKey)) {
+        return false;
+      }
+
+      var frameKey = (FrameKey) other;
+
+      return declaringClass == frameKey.declaringClass && byteCodeIndex == frameKey.byteCodeIndex
+          && methodName.equals(frameKey.methodName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(declaringClass, methodName, byteCodeIndex);
+    }
+
+  }
+
+  private static final class CallSite {
+
+    private final String description;
+    private final LongAdder samples = new LongAdder();
+    private final Set<String> loggers = ConcurrentHashMap.newKeySet();
+
+    CallSite(StackFrame frame) {
+      description = frame.getClassName() + '.' + frame.getMethodName() + '('
+          + requireNonNullElse(frame.getFileName(), "Unknown Source") + ':' + frame.getLineNumber() + ')';
+    }
+
+    void add(String loggerName) {
+      samples.increment();
+      loggers.add(loggerName);
+    }
+
+    long getSamples() {
+      return samples.sum();
+    }
+
+    Set<String> getLoggers() {
+      return new TreeSet<>(loggers);
+    }
+
+    @Override
+    public String toString() {
+      return description;
+    }
+
+  }
+
+}
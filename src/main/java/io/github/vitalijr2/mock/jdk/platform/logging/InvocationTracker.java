@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.mockito.Mockito.mockingDetails;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.mockito.invocation.Invocation;
+import org.mockito.listeners.InvocationListener;
+import org.mockito.listeners.MethodInvocationReport;
+import org.mockito.listeners.VerificationStartedEvent;
+import org.mockito.listeners.VerificationStartedListener;
+
+/**
+ * Listens to invocations of a mock logger: marks the logger as used, counts logging calls per level, remembers the
+ * {@link CaptureContext context} of logging calls. Contexts are kept in a lock-free map by sequence numbers of
+ * invocations. Every time the map doubles, contexts of invocations that the mock does not keep anymore, for example
+ * after {@link org.mockito.Mockito#clearInvocations(Object[]) clearInvocations}, are evicted.
+ * <p>
+ * Mockito registers an invocation before listeners are notified, so a call that the capture policy drops is marked
+ * as ignored for verification and it is skipped by {@link CapturedEvents}.
+ * <p>
+ * If the passthrough is enabled, the tracker replays every logging call on the forwarding logger.
+ * <p>
+ * Mockito notifies invocation listeners about the calls of {@link org.mockito.Mockito#verify(Object) verify} too.
+ * Such a call is not registered by the mock, so the tracker skips the call that follows the start of a verification of
+ * its mock on the same thread: it is neither counted nor forwarded, sampled or captured.
+ */
+class InvocationTracker implements InvocationListener, VerificationStartedListener {
+
+  private static final ThreadLocal<Object> verifiedMock = new ThreadLocal<>();
+
+  private final String loggerName;
+  private final LoggerContext context;
+  private final AtomicLongArray counts = new AtomicLongArray(Level.values().length);
+  private static final int MIN_PRUNE_SIZE = 1024;
+
+  private final ConcurrentNavigableMap<Integer, Long> contextIds = new ConcurrentSkipListMap<>();
+  private final ConcurrentNavigableMap<Integer, LogEvent> events = new ConcurrentSkipListMap<>();
+  private final AtomicInteger added = new AtomicInteger();
+  private volatile int pruneSize = MIN_PRUNE_SIZE;
+  private final CaptureFilter filter;
+  private final Logger passthrough;
+
+  InvocationTracker(String loggerName, LoggerContext context) {
+    this.loggerName = loggerName;
+    this.context = context;
+    this.filter = context.getCapturePolicy().filter(loggerName);
+    this.passthrough = context.getPassthrough(loggerName);
+  }
+
+  /**
+   * Returns the tracker of a mock logger.
+   *
+   * @param logger mock logger
+   * @return tracker, empty if the logger is not a mock from {@link MockLoggerFinder}
+   */
+  static Optional<InvocationTracker> of(Logger logger) {
+    var details = mockingDetails(logger);
+
+    if (!details.isMock()) {
+      return Optional.empty();
+    }
+
+    return details.getMockCreationSettings().getInvocationListeners().stream()
+        .filter(InvocationTracker.class::isInstance).map(InvocationTracker.class::cast).findFirst();
+  }
+
+  @Override
+  public void onVerificationStarted(VerificationStartedEvent event) {
+    verifiedMock.set(event.getMock());
+  }
+
+  @Override
+  public void reportInvocation(MethodInvocationReport methodInvocationReport) {
+    var invocation = (Invocation) methodInvocationReport.getInvocation();
+
+    if (isVerification(invocation)) {
+      return;
+    }
+    context.markUsed(loggerName);
+
+    if (!"log".equals(invocation.getMethod().getName()) || !(invocation.getRawArguments()[0] instanceof Level)) {
+      return;
+    }
+    var arguments = invocation.getRawArguments();
+    var level = (Level) arguments[0];
+
+    AllocationAccount.loggingCall(context, loggerName, level, getMessage(arguments),
+        (arguments[arguments.length - 1] instanceof Object[]) ? (Object[]) arguments[arguments.length - 1] : null);
+    counts.incrementAndGet(level.ordinal());
+    forward(invocation);
+    if (!filter.accept(level)) {
+      invocation.ignoreForVerification();
+      context.sampleCallSite(loggerName);
+      return;
+    }
+
+    var contextId = CaptureContext.current();
+
+    if (CaptureContext.NONE != contextId) {
+      contextIds.put(invocation.getSequenceNumber(), contextId);
+      pruneContextIds(invocation.getMock());
+    }
+    context.sampleCallSite(loggerName);
+    context.eventCaptured(loggerName, level, getMessage(arguments));
+  }
+
+  private static boolean isVerification(Invocation invocation) {
+    if (invocation.getMock() != verifiedMock.get()) {
+      return false;
+    }
+    verifiedMock.remove();
+
+    return true;
+  }
+
+  private void pruneContextIds(Object mock) {
+    if (pruneSize != added.incrementAndGet()) {
+      return;
+    }
+    mockingDetails(mock).getInvocations().stream().mapToInt(Invocation::getSequenceNumber).min()
+        .ifPresentOrElse(oldest -> contextIds.headMap(oldest).clear(), contextIds::clear);
+    added.set(0);
+    pruneSize = Math.max(MIN_PRUNE_SIZE, contextIds.size());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void forward(Invocation invocation) {
+    if (null == passthrough) {
+      return;
+    }
+
+    var types = invocation.getMethod().getParameterTypes();
+    var arguments = invocation.getRawArguments();
+    var level = (Level) arguments[0];
+
+    if (4 == types.length && Throwable.class == types[3]) {
+      passthrough.log(level, (ResourceBundle) arguments[1], (String) arguments[2], (Throwable) arguments[3]);
+    } else if (4 == types.length) {
+      passthrough.log(level, (ResourceBundle) arguments[1], (String) arguments[2], (Object[]) arguments[3]);
+    } else if (3 == types.length && Object[].class == types[2]) {
+      passthrough.log(level, (String) arguments[1], (Object[]) arguments[2]);
+    } else if (3 == types.length && Supplier.class == types[1]) {
+      passthrough.log(level, (Supplier<String>) arguments[1], (Throwable) arguments[2]);
+    } else if (3 == types.length) {
+      passthrough.log(level, (String) arguments[1], (Throwable) arguments[2]);
+    } else if (String.class == types[1]) {
+      passthrough.log(level, (String) arguments[1]);
+    } else if (Supplier.class == types[1]) {
+      passthrough.log(level, (Supplier<String>) arguments[1]);
+    } else {
+      passthrough.log(level, arguments[1]);
+    }
+  }
+
+  private static String getMessage(Object[] arguments) {
+    var message = (arguments[1] instanceof ResourceBundle) ? arguments[2] : arguments[1];
+
+    return (message instanceof String) ? (String) message : null;
+  }
+
+  /**
+   * Returns the context of a logging call.
+   *
+   * @param sequenceNumber sequence number of the invocation
+   * @return context id, {@link CaptureContext#NONE} if it is unknown
+   */
+  long getContextId(int sequenceNumber) {
+    return contextIds.getOrDefault(sequenceNumber, CaptureContext.NONE);
+  }
+
+  /**
+   * Returns the event of a logging call. It is built once per invocation, so the formatted message is cached and a
+   * message supplier is evaluated at most once however often events are read.
+   *
+   * @param invocation logging invocation of the mock
+   * @param builder    builds the event of the invocation
+   * @return event of the invocation
+   */
+  LogEvent getEvent(Invocation invocation, Function<Invocation, LogEvent> builder) {
+    return events.computeIfAbsent(invocation.getSequenceNumber(), sequenceNumber -> builder.apply(invocation));
+  }
+
+  /**
+   * Evicts events of invocations that the mock does not keep anymore.
+   *
+   * @param oldest sequence number of the oldest invocation of the mock, or {@link Integer#MAX_VALUE} if there are no
+   *               invocations
+   */
+  void evictEvents(int oldest) {
+    events.headMap(oldest).clear();
+  }
+
+  LevelCounts getDroppedCounts() {
+    return filter.getDropped();
+  }
+
+  LevelCounts getCounts() {
+    var snapshot = new long[counts.length()];
+
+    for (int i = 0; snapshot.length > i; i++) {
+      snapshot[i] = counts.get(i);
+    }
+
+    return new LevelCounts(snapshot);
+  }
+
+  void reset() {
+    for (int i = 0; counts.length() > i; i++) {
+      counts.set(i, 0);
+    }
+    contextIds.clear();
+    events.clear();
+    added.set(0);
+    pruneSize = MIN_PRUNE_SIZE;
+    filter.reset();
+  }
+
+}
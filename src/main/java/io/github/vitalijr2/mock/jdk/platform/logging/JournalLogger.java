@@ -0,0 +1,226 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A logger that writes events to an {@link EventJournal event journal} in a memory-mapped file.
+ * <p>
+ * It is meant for tests that log tens of millions of messages: events are not kept on heap, only counts per level.
+ * Enable it by the system property {@code mock.jdk.platform.logging.mode=journal}, all loggers of the finder share the
+ * same journal. Resource bundles are not written, and {@link EventRetention retention} does not apply to the journal.
+ * With the property {@code mock.jdk.platform.logging.passthrough=true} calls are forwarded to the real logger too,
+ * without resource bundles.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   {@literal @}Test
+ *   void ingestion() {
+ *     pipeline.run();
+ *
+ *     var logger = (JournalLogger) System.getLogger("Pipeline");
+ *
+ *     try (var events = logger.query().level(Level.WARNING).message(Pattern.compile("dropped")).stream()) {
+ *       assertEquals(0, events.count());
+ *     }
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class JournalLogger implements ResettableLogger {
+
+  private final String name;
+  private final EventJournal journal;
+  private final LoggerContext context;
+  private final LevelCounters counters = new LevelCounters();
+  private final CaptureFilter filter;
+  private final int loggerId;
+  private final Logger passthrough;
+
+  private volatile boolean used;
+  private volatile long since;
+
+  JournalLogger(String name, EventJournal journal, LoggerContext context) {
+    this.name = name;
+    this.journal = journal;
+    this.context = context;
+    this.filter = context.getCapturePolicy().filter(name);
+    this.loggerId = journal.register(name);
+    this.passthrough = context.getPassthrough(name);
+    this.since = journal.getPosition();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * All levels except {@link Level#OFF} are loggable unless a {@link LoggableLevel loggable level} is declared or the
+   * capture policy drops the level.
+   *
+   * @param level logging level
+   * @return {@code true} if the level is loggable
+   */
+  @Override
+  public boolean isLoggable(Level level) {
+    return context.isLoggable(name, level, Level.OFF != level);
+  }
+
+  @Override
+  public void log(Level level, String message) {
+    append(level, message, null, null);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier) {
+    append(level, messageSupplier.get(), null, null);
+  }
+
+  @Override
+  public void log(Level level, Object object) {
+    append(level, object.toString(), null, null);
+  }
+
+  @Override
+  public void log(Level level, String message, Throwable thrown) {
+    append(level, message, null, thrown);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    append(level, messageSupplier.get(), null, thrown);
+  }
+
+  @Override
+  public void log(Level level, String format, Object... parameters) {
+    append(level, format, parameters, null);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    append(level, message, null, thrown);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    append(level, format, parameters, null);
+  }
+
+  /**
+   * Journal of the logger.
+   *
+   * @return event journal
+   */
+  @NotNull
+  public EventJournal getJournal() {
+    return journal;
+  }
+
+  /**
+   * Starts a query over events of this logger since the last reset.
+   *
+   * @return query of the logger events
+   */
+  @NotNull
+  public JournalQuery query() {
+    return journal.query().loggerId(loggerId).since(since);
+  }
+
+  /**
+   * Events of this logger since the last reset. It loads all of them on heap, use {@link #query()} for large
+   * journals.
+   *
+   * @return events in the order they were logged
+   */
+  @NotNull
+  public List<LogEvent> getEvents() {
+    try (var events = query().stream()) {
+      return events.collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Numbers of logging calls per level since the last reset, including calls that were dropped by the capture
+   * policy.
+   *
+   * @return counts per level
+   */
+  @NotNull
+  public LevelCounts getCounts() {
+    return counters.snapshot();
+  }
+
+  /**
+   * Exact numbers of logging calls per level that were not written to the journal because of the capture policy.
+   *
+   * @return counts per level
+   */
+  @NotNull
+  public LevelCounts getDroppedCounts() {
+    return filter.getDropped();
+  }
+
+  Supplier<LevelCounts> getCountsSource() {
+    return counters::snapshot;
+  }
+
+  /**
+   * Forget counts, events that are already in the journal are skipped by {@link #query()}.
+   */
+  @Override
+  public void reset() {
+    used = false;
+    since = journal.getPosition();
+    counters.reset();
+    filter.reset();
+  }
+
+  private void append(Level level, String message, Object[] parameters, Throwable thrown) {
+    AllocationAccount.loggingCall(context, name, level, message, parameters);
+    if (!used) {
+      used = true;
+      context.markUsed(name);
+    }
+    context.sampleCallSite(name);
+    counters.increment(level);
+    if (filter.accept(level)) {
+      journal.append(loggerId, level, message, parameters, thrown);
+      context.eventCaptured(name, level, message);
+    }
+    if (null == passthrough) {
+      return;
+    }
+    if (null == parameters) {
+      passthrough.log(level, message, thrown);
+    } else {
+      passthrough.log(level, message, parameters);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Journal logger " + name;
+  }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A streaming query over an {@link EventJournal event journal}.
+ * <p>
+ * Filters are checked while the journal is read: the logger and the level are checked before the rest of a record
+ * is decoded, only matched events are created. The stream covers events that were written before it was created.
+ * If the stream reaches a record that another thread has reserved but not published yet, it waits for the record up
+ * to {@value #RECORD_TIMEOUT_MILLIS} milliseconds, so a slow writer does not hide the events after its record; if
+ * the record is still not published, the stream ends there.
+ * <p>
+ * A throwable is restored as a throwable without stack trace that keeps the class name and the message of the
+ * original one. The sequence number of an event is the position of its record in the journal.
+ *
+ * @since 1.2.0
+ */
+public final class JournalQuery {
+
+  static final long RECORD_TIMEOUT_MILLIS = 1000;
+
+  private static final Level[] LEVELS = Level.values();
+
+  private final EventJournal journal;
+
+  private String loggerName;
+  private int loggerId;
+  private Level level;
+  private Pattern messagePattern;
+  private long since;
+
+  JournalQuery(EventJournal journal) {
+    this.journal = journal;
+  }
+
+  /**
+   * Only events of loggers with the name.
+   *
+   * @param loggerName logger name
+   * @return this query
+   */
+  @NotNull
+  public JournalQuery logger(String loggerName) {
+    this.loggerName = loggerName;
+    return this;
+  }
+
+  /**
+   * Only events with the level.
+   *
+   * @param level logging level
+   * @return this query
+   */
+  @NotNull
+  public JournalQuery level(Level level) {
+    this.level = level;
+    return this;
+  }
+
+  /**
+   * Only events with messages that contain the pattern.
+   *
+   * @param messagePattern message pattern
+   * @return this query
+   */
+  @NotNull
+  public JournalQuery message(Pattern messagePattern) {
+    this.messagePattern = messagePattern;
+    return this;
+  }
+
+  /**
+   * Only events of the logger instance.
+   *
+   * @param loggerId logger id
+   * @return this query
+   */
+  JournalQuery loggerId(int loggerId) {
+    this.loggerId = loggerId;
+    return this;
+  }
+
+  /**
+   * Only events that are written at or after the journal position.
+   *
+   * @param position journal position
+   * @return this query
+   */
+  JournalQuery since(long position) {
+    this.since = position;
+    return this;
+  }
+
+  /**
+   * Reads matched events lazily in the order they were written.
+   *
+   * @return stream of events
+   */
+  @NotNull
+  public Stream<LogEvent> stream() {
+    return StreamSupport.stream(new Reader(journal.getPosition()), false);
+  }
+
+  private class Reader extends Spliterators.AbstractSpliterator<LogEvent> {
+
+    private final long end;
+    private final Map<Integer, Boolean> matchedLoggers = new HashMap<>();
+
+    private long position = since;
+    private ByteBuffer segment;
+    private int segmentIndex = -1;
+
+    Reader(long end) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LogEvent> action) {
+      var segmentSize = journal.getSegmentSize();
+
+      while (end > position) {
+        var index = (int) (position / segmentSize);
+        var offset = (int) (position % segmentSize);
+
+        if (segmentIndex != index) {
+          segment = journal.segment(index).duplicate();
+          segmentIndex = index;
+        }
+
+        var length = EventJournal.getRecordLength(segment, offset);
+
+        if (0 == length) {
+          length = awaitRecord(offset);
+        }
+        if (0 == length) {
+          // the writer has not published the record in time
+          return false;
+        }
+        if (0 > length) {
+          position -= length;
+          continue;
+        }
+        var recordPosition = position;
+
+        position += length;
+
+        var event = (EventJournal.EVENT_RECORD == segment.get(offset + Integer.BYTES)) ? read(offset, recordPosition)
+            : null;
+
+        if (null != event) {
+          action.accept(event);
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    private int awaitRecord(int offset) {
+      var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RECORD_TIMEOUT_MILLIS);
+      var length = 0;
+
+      while (0 == length && 0 > System.nanoTime() - deadline) {
+        Thread.yield();
+        length = EventJournal.getRecordLength(segment, offset);
+      }
+
+      return length;
+    }
+
+    private LogEvent read(int offset, long recordPosition) {
+      segment.position(offset + Integer.BYTES + 1);
+
+      var eventLevel = LEVELS[segment.get()];
+      var eventLoggerId = segment.getInt();
+
+      if ((null != level && level != eventLevel) || !matchLogger(eventLoggerId)) {
+        return null;
+      }
+
+      var timestamp = segment.getLong();
+      var contextId = segment.getLong();
+      var threadName = getString();
+      var message = getString();
+
+      if (null != messagePattern && (null == message || !messagePattern.matcher(message).find())) {
+        return null;
+      }
+
+      var parameterCount = segment.getInt();
+      Object[] parameters = null;
+
+      if (0 <= parameterCount) {
+        parameters = new Object[parameterCount];
+        for (int i = 0; parameterCount > i; i++) {
+          parameters[i] = getString();
+        }
+      }
+
+      var thrownClass = getString();
+      var thrown = (null == thrownClass) ? null : new RestoredThrowable(thrownClass, getString());
+
+      return new LogEvent(journal.getLoggerName(eventLoggerId), eventLevel, null, message, null, parameters, thrown,
+          threadName, timestamp, recordPosition, contextId);
+    }
+
+    private boolean matchLogger(int eventLoggerId) {
+      if (0 != loggerId && loggerId != eventLoggerId) {
+        return false;
+      }
+      if (null == loggerName) {
+        return true;
+      }
+
+      return matchedLoggers.computeIfAbsent(eventLoggerId,
+          key -> loggerName.equals(journal.getLoggerName(eventLoggerId)));
+    }
+
+    private String getString() {
+      var length = segment.getInt();
+
+      if (0 > length) {
+        return null;
+      }
+
+      var bytes = new byte[length];
+
+      segment.get(bytes);
+
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped counters of logging calls per level: concurrent increments do not contend on the same memory.
+ */
+final class LevelCounters {
+
+  private static final Level[] LEVELS = Level.values();
+
+  private final LongAdder[] counters = new LongAdder[LEVELS.length];
+
+  LevelCounters() {
+    for (int i = 0; counters.length > i; i++) {
+      counters[i] = new LongAdder();
+    }
+  }
+
+  void increment(Level level) {
+    counters[level.ordinal()].increment();
+  }
+
+  /**
+   * Calls that run concurrently with the snapshot may be counted partially.
+   *
+   * @return counts per level
+   */
+  LevelCounts snapshot() {
+    var counts = new long[LEVELS.length];
+
+    for (int i = 0; counts.length > i; i++) {
+      counts[i] = counters[i].sum();
+    }
+
+    return new LevelCounts(counts);
+  }
+
+  void reset() {
+    for (var counter : counters) {
+      counter.reset();
+    }
+  }
+
+}
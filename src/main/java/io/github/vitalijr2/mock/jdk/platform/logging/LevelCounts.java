@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Snapshot of exact numbers of logging calls per level.
+ * <p>
+ * Counts do not depend on {@link EventRetention retention}: evicted events are counted too.
+ *
+ * @since 1.2.0
+ */
+public final class LevelCounts {
+
+  private static final Level[] LEVELS = Level.values();
+
+  private final long[] counts;
+
+  LevelCounts(long[] counts) {
+    this.counts = counts;
+  }
+
+  /**
+   * Number of logging calls with the level.
+   *
+   * @param level logging level
+   * @return number of calls
+   */
+  public long get(Level level) {
+    return counts[level.ordinal()];
+  }
+
+  /**
+   * Number of logging calls with any level.
+   *
+   * @return number of calls
+   */
+  public long getTotal() {
+    return Arrays.stream(counts).sum();
+  }
+
+  LevelCounts plus(LevelCounts other) {
+    var sum = counts.clone();
+
+    for (int i = 0; sum.length > i; i++) {
+      sum[i] += other.counts[i];
+    }
+
+    return new LevelCounts(sum);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other || (other instanceof LevelCounts && Arrays.equals(counts, ((LevelCounts) other).counts));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(counts);
+  }
+
+  @Override
+  public String toString() {
+    var joiner = new StringJoiner(", ", "{", "}");
+
+    for (var level : LEVELS) {
+      if (0 < counts[level.ordinal()]) {
+        joiner.add(level + "=" + counts[level.ordinal()]);
+      }
+    }
+
+    return joiner.toString();
+  }
+
+}
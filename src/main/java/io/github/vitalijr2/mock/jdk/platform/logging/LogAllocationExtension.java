@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * A jUnit extension that measures bytes which the test thread allocates to build messages of logging calls at
+ * disabled levels.
+ * <p>
+ * Allocated bytes are taken from counters of {@link com.sun.management.ThreadMXBean} around logging calls of the test
+ * thread, other threads are not measured. After each test the extension publishes a report entry
+ * {@value #REPORT_KEY} with bytes and calls per logger, and fails the test if a limit of {@link LogAllocationLimit}
+ * is exceeded. Use {@link #allocatedBytes(String)} to check a logger in the middle of a test.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   {@literal @}LogAllocationLimit(loggerBytes = 1024)
+ *   {@literal @}MockLoggers(loggable = {@literal @}LoggableLevel(logger = "", level = Level.INFO))
+ *   class PipelineTest {
+ *
+ *     {@literal @}Test
+ *     void ingestion() {
+ *       pipeline.run();
+ *
+ *       assertEquals(0, LogAllocationExtension.allocatedBytes("Pipeline"));
+ *     }
+ *
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public class LogAllocationExtension implements AfterEachCallback, BeforeEachCallback {
+
+  /**
+   * Key of the report entry.
+   */
+  public static final String REPORT_KEY = "log-allocations";
+
+  /**
+   * Bytes that the current test allocated to build messages of a logger at disabled levels so far.
+   *
+   * @param loggerName logger name
+   * @return allocated bytes, {@code 0} if the test is not measured
+   */
+  public static long allocatedBytes(String loggerName) {
+    var counts = AllocationAccount.current().get(loggerName);
+
+    return (null == counts) ? 0 : counts[0];
+  }
+
+  /**
+   * Opens an account of allocations on the test thread.
+   *
+   * @param context the current extension context; never {@code null}
+   */
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    AllocationAccount.open();
+  }
+
+  /**
+   * Closes the account, publishes the report entry and checks limits.
+   *
+   * @param context the current extension context; never {@code null}
+   */
+  @Override
+  public void afterEach(ExtensionContext context) {
+    var loggers = AllocationAccount.close();
+
+    if (loggers.isEmpty()) {
+      return;
+    }
+
+    var report = new StringJoiner(", ");
+    var total = 0L;
+
+    for (var entry : loggers.entrySet()) {
+      report.add(describe(entry));
+      total += entry.getValue()[0];
+    }
+    context.publishReportEntry(REPORT_KEY, report.toString());
+
+    var limit = findLimit(context);
+
+    if (limit.isEmpty()) {
+      return;
+    }
+    if (0 <= limit.get().bytes() && limit.get().bytes() < total) {
+      fail("Messages of disabled levels allocated " + total + " bytes, the limit is " + limit.get().bytes() + ": "
+          + report);
+    }
+    if (0 <= limit.get().loggerBytes()) {
+      var exceeded = new StringJoiner(", ");
+
+      loggers.entrySet().stream().filter(entry -> limit.get().loggerBytes() < entry.getValue()[0])
+          .forEach(entry -> exceeded.add(describe(entry)));
+      if (0 < exceeded.length()) {
+        fail("Messages of disabled levels allocated more than " + limit.get().loggerBytes()
+            + " bytes per logger: " + exceeded);
+      }
+    }
+  }
+
+  private static String describe(Map.Entry<String, long[]> entry) {
+    return entry.getKey() + '=' + entry.getValue()[0] + " bytes in " + entry.getValue()[1] + " call(s)";
+  }
+
+  private static Optional<LogAllocationLimit> findLimit(ExtensionContext context) {
+    var limit = context.getTestMethod()
+        .flatMap(method -> AnnotationSupport.findAnnotation(method, LogAllocationLimit.class));
+
+    for (var testClass = context.getTestClass().orElse(null); limit.isEmpty() && null != testClass;
+        testClass = testClass.getEnclosingClass()) {
+      limit = AnnotationSupport.findAnnotation(testClass, LogAllocationLimit.class);
+    }
+
+    return limit;
+  }
+
+}
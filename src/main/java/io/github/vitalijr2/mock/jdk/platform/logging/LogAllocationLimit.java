@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Registers {@link LogAllocationExtension} for a test class or a test method and sets limits of bytes that a test may
+ * allocate to build messages of logging calls at disabled levels.
+ * <p>
+ * A level is disabled if it is below the {@link LoggableLevel loggable level} or the capture policy drops it:
+ * <pre><code class="language-java">
+ *   {@literal @}LogAllocationLimit(bytes = 0)
+ *   {@literal @}MockLoggers(loggable = {@literal @}LoggableLevel(logger = "HelloService", level = Level.INFO))
+ *   class HelloServiceTest {
+ *     ...
+ *   }
+ * </code></pre>
+ * <p>
+ * An annotation of a test method overrides the one of its class. Negative limits only report allocations.
+ *
+ * @since 1.2.0
+ */
+@ExtendWith(LogAllocationExtension.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface LogAllocationLimit {
+
+  /**
+   * How many bytes all loggers together may allocate in a test.
+   *
+   * @return limit in bytes, no limit by default
+   */
+  long bytes() default -1;
+
+  /**
+   * How many bytes every logger may allocate in a test.
+   *
+   * @return limit in bytes, no limit by default
+   */
+  long loggerBytes() default -1;
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Assertions over captured logging events.
+ * <p>
+ * They work with {@link RecordingLogger recording loggers} and Mockito mocks from {@link MockLoggerFinder}: logging
+ * invocations of a mock are converted to events. {@link CountingLogger Counting loggers} keep no events, only
+ * {@link #getCounts(Logger)}, {@link #assertNotLogged(Logger, Level)} and {@link #assertNoEvents(Logger)} make sense
+ * for them.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   {@literal @}Test
+ *   void helloWorld() {
+ *     var helloService = new HelloService();
+ *
+ *     assertDoesNotThrow(helloService::sayHelloWorld);
+ *
+ *     var logger = System.getLogger("HelloService");
+ *
+ *     assertLogged(logger, Level.INFO, "Hello World!");
+ *     assertNotLogged(logger, Level.ERROR);
+ *   }
+ * </code></pre>
+ * <p>
+ * Code that logs from other threads is checked with {@link #awaitLog(String, Level, Predicate, Duration)}: the test
+ * thread is parked until the logger captures a matching event, without polling.
+ * <pre><code class="language-java">
+ *   executor.submit(helloService::sayHelloWorld);
+ *
+ *   awaitLog("HelloService", Level.INFO, event -&gt; "Hello World!".equals(event.getMessage()), Duration.ofSeconds(5));
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class LogAssertions {
+
+  private LogAssertions() {
+  }
+
+  /**
+   * Returns captured events of a logger.
+   *
+   * @param logger recording logger or mock logger
+   * @return captured events in the order they were logged
+   */
+  @NotNull
+  public static List<LogEvent> getEvents(Logger logger) {
+    return CapturedEvents.of(logger);
+  }
+
+  /**
+   * Returns captured events that were caused by the current test: they were logged by the test thread or by threads
+   * that it has started, see {@link LogEvent#getContextId()}. Outside of {@link MockLoggerExtension} it returns events
+   * that were captured outside of any test.
+   *
+   * @param logger recording logger or mock logger
+   * @return captured events of the current test in the order they were logged
+   */
+  @NotNull
+  public static List<LogEvent> getTestEvents(Logger logger) {
+    var contextId = CaptureContext.current();
+
+    return getEvents(logger).stream().filter(event -> contextId == event.getContextId()).collect(Collectors.toList());
+  }
+
+  /**
+   * Returns exact numbers of logging calls per level, events that were evicted because of the retention limit are
+   * counted too.
+   *
+   * @param logger recording logger or mock logger
+   * @return counts per level
+   */
+  @NotNull
+  public static LevelCounts getCounts(Logger logger) {
+    return CapturedEvents.countsOf(logger);
+  }
+
+  /**
+   * Returns exact numbers of logging calls per level that were counted but not recorded because of the capture
+   * policy, see {@link MockLoggerFinder}.
+   *
+   * @param logger recording logger or mock logger
+   * @return counts per level
+   */
+  @NotNull
+  public static LevelCounts getDroppedCounts(Logger logger) {
+    return CapturedEvents.droppedCountsOf(logger);
+  }
+
+  /**
+   * Asserts that the logger has captured at least one event with the level and the message.
+   *
+   * @param logger  recording logger or mock logger
+   * @param level   expected level
+   * @param message expected message or format
+   */
+  public static void assertLogged(Logger logger, Level level, String message) {
+    assertLogged(logger, event -> level == event.getLevel() && Objects.equals(message, event.getMessage()),
+        level + " " + message);
+  }
+
+  /**
+   * Asserts that the logger has captured at least one event with the level and the formatted message, see
+   * {@link LogEvent#getFormattedMessage()}. Messages are formatted only if the level matches.
+   *
+   * @param logger           recording logger or mock logger
+   * @param level            expected level
+   * @param formattedMessage expected message with substituted parameters
+   */
+  public static void assertLoggedFormatted(Logger logger, Level level, String formattedMessage) {
+    assertLogged(logger,
+        event -> level == event.getLevel() && Objects.equals(formattedMessage, event.getFormattedMessage()),
+        level + " " + formattedMessage);
+  }
+
+  /**
+   * Asserts that the logger has captured at least one event that matches the condition.
+   *
+   * @param logger      recording logger or mock logger
+   * @param condition   event condition
+   * @param description description of the condition for the failure message
+   */
+  public static void assertLogged(Logger logger, Predicate<LogEvent> condition, String description) {
+    var events = getEvents(logger);
+
+    if (events.stream().noneMatch(condition)) {
+      fail("Expected event <" + description + "> was not logged, captured events:" + describe(events));
+    }
+  }
+
+  /**
+   * Asserts how many events with the level and the message the logger has captured.
+   *
+   * @param logger  recording logger or mock logger
+   * @param times   expected number of events
+   * @param level   expected level
+   * @param message expected message or format
+   */
+  public static void assertLoggedTimes(Logger logger, int times, Level level, String message) {
+    var events = getEvents(logger);
+    var count = events.stream()
+        .filter(event -> level == event.getLevel() && Objects.equals(message, event.getMessage())).count();
+
+    if (times != count) {
+      fail("Expected event <" + level + " " + message + "> was logged " + count + " time(s) instead of " + times
+          + ", captured events:" + describe(events));
+    }
+  }
+
+  /**
+   * Asserts that the logger has not captured any event with the level. It uses exact counts, so evicted events are
+   * taken into account.
+   *
+   * @param logger recording logger or mock logger
+   * @param level  unexpected level
+   */
+  public static void assertNotLogged(Logger logger, Level level) {
+    if (0 < getCounts(logger).get(level)) {
+      fail("Unexpected " + level + " events were logged, captured events:" + describe(getEvents(logger)));
+    }
+  }
+
+  /**
+   * Asserts that the logger has not captured any event.
+   *
+   * @param logger recording logger or mock logger
+   */
+  public static void assertNoEvents(Logger logger) {
+    if (0 < getCounts(logger).getTotal()) {
+      fail("Unexpected events were logged:" + describe(getEvents(logger)));
+    }
+  }
+
+  /**
+   * Waits until the logger of the current test captures an event with the level that matches the condition.
+   * <p>
+   * Events that were captured before the call count too. The test thread is woken up by every captured event of the
+   * logger, it does not poll, and the condition is checked once per event. Counting loggers keep no events, so nothing
+   * matches them.
+   *
+   * @param loggerName logger name
+   * @param level      expected level
+   * @param matcher    event condition
+   * @param timeout    how long to wait
+   * @return the first matching event
+   */
+  @NotNull
+  public static LogEvent awaitLog(String loggerName, Level level, Predicate<LogEvent> matcher, Duration timeout) {
+    return awaitLog(loggerName, 1, level, matcher, timeout).get(0);
+  }
+
+  /**
+   * Waits until the logger of the current test captures a number of events with the level that match the condition,
+   * see {@link #awaitLog(String, Level, Predicate, Duration)}.
+   *
+   * @param loggerName logger name
+   * @param times      expected number of events
+   * @param level      expected level
+   * @param matcher    event condition
+   * @param timeout    how long to wait
+   * @return the first matching events
+   */
+  @NotNull
+  public static List<LogEvent> awaitLog(String loggerName, int times, Level level, Predicate<LogEvent> matcher,
+      Duration timeout) {
+    return awaitLog(MockLoggerExtension.getMockLoggerFinder().getCurrentRegistry(), loggerName, times, level, matcher,
+        timeout);
+  }
+
+  @VisibleForTesting
+  static List<LogEvent> awaitLog(LoggerRegistry registry, String loggerName, int times, Level level,
+      Predicate<LogEvent> matcher, Duration timeout) {
+    if (0 >= times) {
+      throw new IllegalArgumentException("Number of events must be positive: " + times);
+    }
+
+    var logger = registry.getLogger(loggerName);
+    Predicate<LogEvent> condition = event -> level == event.getLevel() && matcher.test(event);
+    var scan = new EventScan(condition, times);
+    List<LogEvent> events;
+
+    try {
+      events = registry.getWaiters().await(loggerName, () -> scan.next(getEvents(logger)), timeout.toNanos(),
+          TimeUnit.NANOSECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return fail("Interrupted while waiting for " + level + " events of " + loggerName, exception);
+    }
+    if (null == events) {
+      // concurrent threads can publish an event after a later one, the last check looks at all events
+      var matchingEvents = getEvents(logger).stream().filter(condition).limit(times).collect(Collectors.toList());
+
+      events = (times == matchingEvents.size()) ? matchingEvents : null;
+    }
+    if (null == events) {
+      fail("Expected " + level + " events of " + loggerName + " were not logged " + times + " time(s) within "
+          + timeout + ", captured events:" + describe(getEvents(logger)));
+    }
+
+    return events;
+  }
+
+  private static String describe(List<LogEvent> events) {
+    if (events.isEmpty()) {
+      return " none";
+    }
+
+    return events.stream().map(LogEvent::toString).collect(Collectors.joining("\n  ", "\n  ", ""));
+  }
+
+  /**
+   * Checks every event once: a wake-up tests only events with a sequence number greater than the last checked one.
+   */
+  private static class EventScan {
+
+    private final Predicate<LogEvent> condition;
+    private final int times;
+    private final List<LogEvent> matchingEvents = new ArrayList<>();
+
+    private long lastSequence = Long.MIN_VALUE;
+
+    EventScan(Predicate<LogEvent> condition, int times) {
+      this.condition = condition;
+      this.times = times;
+    }
+
+    List<LogEvent> next(List<LogEvent> events) {
+      var start = events.size();
+
+      while (0 < start && lastSequence < events.get(start - 1).getSequence()) {
+        start--;
+      }
+      for (int i = start; events.size() > i; i++) {
+        var event = events.get(i);
+
+        lastSequence = Math.max(lastSequence, event.getSequence());
+        if (condition.test(event)) {
+          matchingEvents.add(event);
+          if (times == matchingEvents.size()) {
+            return List.copyOf(matchingEvents);
+          }
+        }
+      }
+
+      return null;
+    }
+
+  }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A captured logging call.
+ * <p>
+ * The message is kept as is: if the call had parameters, the message is a format and the parameters are available
+ * separately. {@link #getFormattedMessage()} renders the message like the platform logger does, the message is
+ * rendered on first request and then cached.
+ * <p>
+ * A message supplier of a mock or of a recording logger with lazy suppliers is evaluated on first request too.
+ *
+ * @since 1.2.0
+ */
+public final class LogEvent {
+
+  private final String loggerName;
+  private final Level level;
+  private final ResourceBundle bundle;
+  private final Object[] parameters;
+  private final Throwable thrown;
+  private final String threadName;
+  private final long timestamp;
+  private final long sequence;
+  private final long contextId;
+
+  private volatile String message;
+  private volatile Supplier<String> messageSupplier;
+  private volatile String formattedMessage;
+
+  LogEvent(String loggerName, Level level, ResourceBundle bundle, String message, Object[] parameters,
+      Throwable thrown, String threadName, long timestamp) {
+    this(loggerName, level, bundle, message, null, parameters, thrown, threadName, timestamp, 0);
+  }
+
+  LogEvent(String loggerName, Level level, ResourceBundle bundle, String message, Supplier<String> messageSupplier,
+      Object[] parameters, Throwable thrown, String threadName, long timestamp, long sequence) {
+    this(loggerName, level, bundle, message, messageSupplier, parameters, thrown, threadName, timestamp, sequence,
+        CaptureContext.NONE);
+  }
+
+  LogEvent(String loggerName, Level level, ResourceBundle bundle, String message, Supplier<String> messageSupplier,
+      Object[] parameters, Throwable thrown, String threadName, long timestamp, long sequence, long contextId) {
+    this.loggerName = loggerName;
+    this.level = level;
+    this.bundle = bundle;
+    this.message = message;
+    this.messageSupplier = messageSupplier;
+    this.parameters = parameters;
+    this.thrown = thrown;
+    this.threadName = threadName;
+    this.timestamp = timestamp;
+    this.sequence = sequence;
+    this.contextId = contextId;
+  }
+
+  /**
+   * Name of the logger that captured the event.
+   *
+   * @return logger name
+   */
+  @NotNull
+  public String getLoggerName() {
+    return loggerName;
+  }
+
+  /**
+   * Logging level.
+   *
+   * @return level
+   */
+  @NotNull
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * Resource bundle of the logging call.
+   *
+   * @return resource bundle or {@code null}
+   */
+  @Nullable
+  public ResourceBundle getBundle() {
+    return bundle;
+  }
+
+  /**
+   * Logged message or format as is. Objects are converted to strings, a message supplier that was not evaluated at
+   * capture time is evaluated on the first call.
+   *
+   * @return message, it can be {@code null} if code under test logged {@code null}
+   */
+  @Nullable
+  public String getMessage() {
+    if (null != messageSupplier) {
+      synchronized (this) {
+        if (null != messageSupplier) {
+          message = messageSupplier.get();
+          messageSupplier = null;
+        }
+      }
+    }
+
+    return message;
+  }
+
+  /**
+   * Message as the platform logger would print it: a message of a resource bundle is localized, a message with
+   * parameters is formatted by {@link MessageFormat}. A format that {@link MessageFormat} cannot parse is returned as
+   * is.
+   *
+   * @return formatted message, it can be {@code null} if code under test logged {@code null}
+   */
+  @Nullable
+  public String getFormattedMessage() {
+    var formatted = formattedMessage;
+
+    if (null == formatted) {
+      formatted = format();
+      formattedMessage = formatted;
+    }
+
+    return formatted;
+  }
+
+  /**
+   * Parameters of the message format.
+   *
+   * @return parameters, empty array if there are no parameters
+   */
+  @NotNull
+  public Object[] getParameters() {
+    return (null == parameters) ? new Object[0] : parameters.clone();
+  }
+
+  /**
+   * Throwable of the logging call.
+   *
+   * @return throwable or {@code null}
+   */
+  @Nullable
+  public Throwable getThrown() {
+    return thrown;
+  }
+
+  /**
+   * Name of the thread that made the logging call.
+   *
+   * @return thread name, {@code null} for events that are taken from Mockito mocks
+   */
+  @Nullable
+  public String getThreadName() {
+    return threadName;
+  }
+
+  /**
+   * Time of the logging call.
+   *
+   * @return timestamp, {@code null} for events that are taken from Mockito mocks
+   */
+  @Nullable
+  public Instant getTimestamp() {
+    return (0 == timestamp) ? null : Instant.ofEpochMilli(timestamp);
+  }
+
+  private String format() {
+    var text = getMessage();
+
+    if (null == text) {
+      return null;
+    }
+    if (null != bundle && bundle.containsKey(text)) {
+      text = bundle.getString(text);
+    }
+    if (null != parameters && 0 < parameters.length) {
+      try {
+        text = MessageFormat.format(text, parameters);
+      } catch (IllegalArgumentException exception) {
+        // keep the format as is
+      }
+    }
+
+    return text;
+  }
+
+  /**
+   * Sequence number of the event: events of the same logger are ordered by it, even if they were captured by
+   * different threads. Events of mocks have Mockito's sequence numbers, they order events of all mocks.
+   *
+   * @return sequence number
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Identifier of the test that caused the event: {@link MockLoggerExtension} gives every test its own context, and
+   * threads that the test starts inherit it.
+   *
+   * @return context id, {@code 0} if the event was captured outside of any test
+   */
+  public long getContextId() {
+    return contextId;
+  }
+
+  @Override
+  public String toString() {
+    var builder = new StringBuilder().append(loggerName).append(' ').append(level).append(' ').append(getMessage());
+
+    if (null != parameters && 0 < parameters.length) {
+      builder.append(' ').append(Arrays.toString(parameters));
+    }
+    if (null != thrown) {
+      builder.append(' ').append(thrown);
+    }
+
+    return builder.toString();
+  }
+
+}
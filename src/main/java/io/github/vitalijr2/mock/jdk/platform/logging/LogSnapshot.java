@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.junit.jupiter.api.AssertionFailureBuilder;
+
+/**
+ * Snapshot assertions: captured events of one or more loggers are compared with a golden file.
+ * <p>
+ * Every event is a line: the logger name, the level, the formatted message and the throwable if any, line breaks of
+ * messages are escaped. Events of several loggers follow each other in the order of the loggers. Normalization rules
+ * replace volatile parts like timestamps and ids on both sides before lines are compared.
+ * <p>
+ * Both sides are streamed and compared by {@link StreamingDiff}: the golden file is read line by line, events of a
+ * journal logger are read by a query, so large logs are compared in linear time and bounded memory. A failure shows
+ * missing ({@code -}) and unexpected ({@code +}) lines with line numbers of the golden file.
+ * <p>
+ * With the property {@code mock.jdk.platform.logging.update-snapshots=true} golden files are written instead of
+ * compared. A relative name of a golden file is resolved against {@code mock.jdk.platform.logging.snapshot-directory},
+ * {@code src/test/resources/log-snapshots} by default.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   {@literal @}MockLoggers
+ *   class CheckoutTest {
+ *
+ *     {@literal @}Test
+ *     void checkout() {
+ *       workflow.run();
+ *
+ *       LogSnapshot.of(System.getLogger("Checkout"), System.getLogger("Payment"))
+ *           .normalizeTimestamps()
+ *           .normalizeIds()
+ *           .assertMatches("checkout.log");
+ *     }
+ *
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class LogSnapshot {
+
+  private static final Pattern TIMESTAMP = Pattern.compile(
+      "\\d{4}-\\d{2}-\\d{2}[T ]\\d{2}:\\d{2}:\\d{2}(?:[.,]\\d+)?(?:Z|[+-]\\d{2}:?\\d{2})?");
+  private static final Pattern UUID = Pattern.compile(
+      "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+  private static final int DIFF_WINDOW = 64;
+  private static final int REPORT_LIMIT = 100;
+
+  private final List<Logger> loggers;
+  private final Configuration configuration;
+  private final List<UnaryOperator<String>> rules = new ArrayList<>();
+
+  @VisibleForTesting
+  LogSnapshot(List<Logger> loggers, Configuration configuration) {
+    this.loggers = loggers;
+    this.configuration = configuration;
+  }
+
+  /**
+   * Starts a snapshot of captured events of loggers.
+   *
+   * @param loggers recording, journal or mock loggers
+   * @return snapshot
+   */
+  @NotNull
+  public static LogSnapshot of(Logger... loggers) {
+    return new LogSnapshot(List.of(loggers), Configuration.load());
+  }
+
+  /**
+   * Replaces every match of the pattern.
+   *
+   * @param regex       regular expression
+   * @param replacement replacement, it can refer to groups
+   * @return this snapshot
+   */
+  @NotNull
+  public LogSnapshot normalize(String regex, String replacement) {
+    var pattern = Pattern.compile(regex);
+
+    rules.add(line -> pattern.matcher(line).replaceAll(replacement));
+
+    return this;
+  }
+
+  /**
+   * Replaces ISO-8601 dates with time by {@code <timestamp>}.
+   *
+   * @return this snapshot
+   */
+  @NotNull
+  public LogSnapshot normalizeTimestamps() {
+    rules.add(line -> TIMESTAMP.matcher(line).replaceAll("<timestamp>"));
+
+    return this;
+  }
+
+  /**
+   * Replaces UUIDs by {@code <uuid>}.
+   *
+   * @return this snapshot
+   */
+  @NotNull
+  public LogSnapshot normalizeIds() {
+    rules.add(line -> UUID.matcher(line).replaceAll("<uuid>"));
+
+    return this;
+  }
+
+  /**
+   * Compares captured events with the golden file in the snapshot directory, or writes it in update mode.
+   *
+   * @param name file name relative to the snapshot directory
+   */
+  public void assertMatches(String name) {
+    assertMatches(configuration.getSnapshotDirectory().resolve(name));
+  }
+
+  /**
+   * Compares captured events with the golden file, or writes it in update mode.
+   *
+   * @param goldenFile golden file
+   * @throws UncheckedIOException if the golden file cannot be read or written
+   */
+  public void assertMatches(Path goldenFile) {
+    if (configuration.isUpdateSnapshots()) {
+      update(goldenFile);
+      return;
+    }
+    if (Files.notExists(goldenFile)) {
+      AssertionFailureBuilder.assertionFailure()
+          .message("Golden file " + goldenFile + " does not exist, run tests with the system property "
+              + Configuration.PREFIX + Configuration.UPDATE_SNAPSHOTS + "=true to create it").buildAndThrow();
+    }
+    try (var golden = Files.newBufferedReader(goldenFile, StandardCharsets.UTF_8); var lines = lines()) {
+      var diff = new StreamingDiff(normalized(golden), lines.iterator(), DIFF_WINDOW, REPORT_LIMIT).run();
+
+      if (!diff.isEqual()) {
+        AssertionFailureBuilder.assertionFailure()
+            .message("Captured events do not match golden file " + goldenFile + ": " + diff.getMissing()
+                + " missing, " + diff.getUnexpected() + " unexpected line(s)" + diff.getReport())
+            .buildAndThrow();
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot read " + goldenFile, exception);
+    }
+  }
+
+  private void update(Path goldenFile) {
+    try {
+      if (null != goldenFile.getParent()) {
+        Files.createDirectories(goldenFile.getParent());
+      }
+      try (var writer = Files.newBufferedWriter(goldenFile, StandardCharsets.UTF_8); var lines = lines()) {
+        for (var iterator = lines.iterator(); iterator.hasNext(); ) {
+          writer.write(iterator.next());
+          writer.write('\n');
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Cannot write " + goldenFile, exception);
+    }
+  }
+
+  private Stream<String> lines() {
+    return loggers.stream().flatMap(LogSnapshot::events).map(LogSnapshot::toLine).map(this::normalize);
+  }
+
+  private Iterator<String> normalized(BufferedReader golden) {
+    return golden.lines().map(this::normalize).iterator();
+  }
+
+  private String normalize(String line) {
+    var normalized = line;
+
+    for (var rule : rules) {
+      normalized = rule.apply(normalized);
+    }
+
+    return normalized;
+  }
+
+  private static Stream<LogEvent> events(Logger logger) {
+    var target = CapturedEvents.unwrap(logger);
+
+    return (target instanceof JournalLogger) ? ((JournalLogger) target).query().stream()
+        : CapturedEvents.of(logger).stream();
+  }
+
+  @VisibleForTesting
+  static String toLine(LogEvent event) {
+    var line = new StringBuilder().append(event.getLoggerName()).append(' ').append(event.getLevel()).append(' ')
+        .append(event.getFormattedMessage());
+
+    if (null != event.getThrown()) {
+      line.append(' ').append(event.getThrown());
+    }
+
+    return line.toString().replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Test threads that wait for logging events.
+ * <p>
+ * Loggers call {@link #signal(String)} after they capture an event. While nobody waits it costs one volatile read, a
+ * waiting thread is parked on the condition of its logger name and is woken up by the next captured event of that
+ * logger instead of polling.
+ */
+final class LogWaiters {
+
+  private final Map<String, Monitor> monitors = new ConcurrentHashMap<>();
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  /**
+   * Wakes up threads that wait for events of the logger.
+   *
+   * @param loggerName logger name
+   */
+  void signal(String loggerName) {
+    if (0 == waiting.get()) {
+      return;
+    }
+
+    var monitor = monitors.get(loggerName);
+
+    if (null != monitor) {
+      monitor.signal();
+    }
+  }
+
+  /**
+   * Checks the condition every time the logger captures an event until it is met or the timeout elapses.
+   *
+   * @param loggerName logger name
+   * @param condition  returns a result if the condition is met, otherwise {@code null}
+   * @param timeout    timeout
+   * @param unit       time unit of the timeout
+   * @param <T>        type of the result
+   * @return result of the condition, {@code null} if the timeout elapsed
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  <T> T await(String loggerName, Supplier<T> condition, long timeout, TimeUnit unit) throws InterruptedException {
+    var monitor = monitors.computeIfAbsent(loggerName, key -> new Monitor());
+    var deadline = System.nanoTime() + unit.toNanos(timeout);
+
+    waiting.incrementAndGet();
+    try {
+      while (true) {
+        var version = monitor.getVersion();
+        var result = condition.get();
+
+        if (null != result) {
+          return result;
+        }
+
+        var remaining = deadline - System.nanoTime();
+
+        if (0 >= remaining) {
+          return null;
+        }
+        monitor.await(version, remaining);
+      }
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  /**
+   * Every captured event increments the version, so a waiting thread does not miss an event that was captured
+   * between its check and parking.
+   */
+  private static class Monitor {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition captured = lock.newCondition();
+
+    private long version;
+
+    long getVersion() {
+      lock.lock();
+      try {
+        return version;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void await(long seenVersion, long nanos) throws InterruptedException {
+      lock.lock();
+      try {
+        while (seenVersion == version && 0 < nanos) {
+          nanos = captured.awaitNanos(nanos);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void signal() {
+      lock.lock();
+      try {
+        version++;
+        captured.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.mockito.Answers.RETURNS_DEFAULTS;
+
+import java.io.Serializable;
+import java.lang.System.Logger.Level;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Default answer of mock loggers: {@code isLoggable} follows {@link LoggableLevel loggable levels} of the context,
+ * other methods return defaults.
+ * <p>
+ * The default answer is a part of mock settings, so {@link org.mockito.Mockito#reset(Object[])} keeps it.
+ */
+class LoggableAnswer implements Answer<Object>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String loggerName;
+  private final transient LoggerContext context;
+
+  LoggableAnswer(String loggerName, LoggerContext context) {
+    this.loggerName = loggerName;
+    this.context = context;
+  }
+
+  @Override
+  public Object answer(InvocationOnMock invocation) throws Throwable {
+    if (null != context && "isLoggable".equals(invocation.getMethod().getName())) {
+      return context.isLoggable(loggerName, invocation.getArgument(0), false);
+    }
+
+    return RETURNS_DEFAULTS.answer(invocation);
+  }
+
+}
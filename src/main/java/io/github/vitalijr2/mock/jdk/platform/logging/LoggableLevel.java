@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The lowest level that {@link System.Logger#isLoggable(Level)} accepts, see {@link MockLoggers#loggable()}.
+ * <p>
+ * It is not a Mockito stubbing: the extension does not have to reset it or to stub it again, explicit stubbings of
+ * {@code isLoggable} take precedence.
+ *
+ * @since 1.2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface LoggableLevel {
+
+  /**
+   * Logger name, the empty name applies the level to all loggers that are not listed by name.
+   *
+   * @return logger name
+   */
+  String logger() default "";
+
+  /**
+   * The lowest loggable level: {@code isLoggable} returns {@code true} for this level and more severe ones.
+   * {@link Level#OFF} disables all levels.
+   *
+   * @return loggable level
+   */
+  Level level();
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+/**
+ * Shared state of loggers in the same {@link LoggerRegistry}.
+ */
+interface LoggerContext {
+
+  /**
+   * A context that tracks nothing and keeps all events.
+   */
+  LoggerContext DETACHED = new LoggerContext() {
+
+    @Override
+    public void markUsed(String loggerName) {
+      // nothing to track
+    }
+
+    @Override
+    public RetentionLimit getRetention() {
+      return RetentionLimit.ALL;
+    }
+
+    @Override
+    public void sampleCallSite(String loggerName) {
+      // nothing to sample
+    }
+
+    @Override
+    public Level getLoggableLevel(String loggerName) {
+      return null;
+    }
+
+    @Override
+    public CapturePolicy getCapturePolicy() {
+      return CapturePolicy.ALL;
+    }
+
+    @Override
+    public void eventCaptured(String loggerName, Level level, String message) {
+      // nobody waits
+    }
+
+    @Override
+    public Logger getPassthrough(String loggerName) {
+      return null;
+    }
+
+  };
+
+  /**
+   * Called when a logger gets an interaction or a stubbing.
+   *
+   * @param loggerName logger name
+   */
+  void markUsed(String loggerName);
+
+  /**
+   * Current retention of captured events.
+   *
+   * @return retention
+   */
+  RetentionLimit getRetention();
+
+  /**
+   * Called on every logging call, it may record the call site for the hot spot report.
+   *
+   * @param loggerName logger name
+   */
+  void sampleCallSite(String loggerName);
+
+  /**
+   * The lowest loggable level of a logger, see {@link LoggableLevel}.
+   *
+   * @param loggerName logger name
+   * @return loggable level, or {@code null} if it is not declared
+   */
+  Level getLoggableLevel(String loggerName);
+
+  /**
+   * Which logging calls loggers record.
+   *
+   * @return capture policy
+   */
+  CapturePolicy getCapturePolicy();
+
+  /**
+   * Called after a logger has captured an event, it wakes up threads that wait for events of the logger and emits a
+   * Flight Recorder event.
+   *
+   * @param loggerName logger name
+   * @param level      logging level
+   * @param message    message or format as is, {@code null} for a message supplier
+   */
+  void eventCaptured(String loggerName, Level level, String message);
+
+  /**
+   * A logger that forwards calls to the real logger asynchronously, see {@link Passthrough}.
+   *
+   * @param loggerName logger name
+   * @return forwarding logger, or {@code null} if the passthrough is disabled
+   */
+  Logger getPassthrough(String loggerName);
+
+  /**
+   * Checks the level against the declared loggable level of a logger. A level that the capture policy drops is not
+   * loggable, so code under test does not build messages that are not recorded anyway.
+   *
+   * @param loggerName logger name
+   * @param level      logging level
+   * @param otherwise  result if the loggable level is not declared
+   * @return {@code true} if the level is loggable
+   */
+  default boolean isLoggable(String loggerName, Level level, boolean otherwise) {
+    if (getCapturePolicy().isDropped(loggerName, level)) {
+      return false;
+    }
+
+    var loggableLevel = getLoggableLevel(loggerName);
+
+    if (null == loggableLevel) {
+      return otherwise;
+    }
+
+    return Level.OFF != level && Level.OFF != loggableLevel && loggableLevel.getSeverity() <= level.getSeverity();
+  }
+
+}
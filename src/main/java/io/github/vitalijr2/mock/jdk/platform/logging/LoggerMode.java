@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+/**
+ * What kind of loggers {@link MockLoggerFinder} creates.
+ * <p>
+ * The mode is set by the system property {@code mock.jdk.platform.logging.mode} or by the key {@code mode} of the
+ * classpath resource {@code mock-jdk-platform-logging.properties}.
+ *
+ * @since 1.2.0
+ */
+public enum LoggerMode {
+
+  /**
+   * Mockito mocks, the default mode.
+   */
+  MOCK,
+  /**
+   * {@link RecordingLogger Recording loggers}: they keep events in a preallocated buffer without Mockito's per-call
+   * overhead, use {@link LogAssertions} to check them.
+   */
+  RECORDING,
+  /**
+   * {@link CountingLogger Counting loggers}: they keep only numbers of logging calls per level, use
+   * {@link LogAssertions#getCounts(System.Logger)} to check them.
+   */
+  COUNTING,
+  /**
+   * {@link JournalLogger Journal loggers}: they write events to a memory-mapped file, use
+   * {@link JournalLogger#query()} or {@link EventJournal#query()} to read them back.
+   */
+  JOURNAL
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * A namespace of loggers: a logger name is a key.
+ * <p>
+ * The registry tracks loggers that got interactions or stubbings since the last reset, and holds settings that its
+ * loggers share.
+ */
+class LoggerRegistry implements LoggerContext {
+
+  private final Map<String, Logger> loggers;
+  private final BiFunction<String, LoggerContext, Logger> loggerFactory;
+  private final AtomicReference<Set<String>> usedLoggers = new AtomicReference<>(ConcurrentHashMap.newKeySet());
+  private final HotSpots hotSpots;
+  private final LogWaiters waiters = new LogWaiters();
+  private final FlightRecorderEvents flightRecorderEvents;
+  private final CapturePolicy capturePolicy;
+  private final Passthrough passthrough;
+
+  private volatile RetentionLimit retention;
+  private volatile Map<String, Level> loggableLevels = Map.of();
+
+  /**
+   * Create a registry.
+   *
+   * @param loggers       logger map
+   * @param loggerFactory creates a logger by its name and the context of this registry
+   * @param retention     retention of captured events
+   */
+  LoggerRegistry(Map<String, Logger> loggers, BiFunction<String, LoggerContext, Logger> loggerFactory,
+      RetentionLimit retention) {
+    this(loggers, loggerFactory, retention, null, null, CapturePolicy.ALL, null);
+  }
+
+  /**
+   * Create a registry that samples call sites, emits Flight Recorder events, applies a capture policy and forwards
+   * logging calls.
+   *
+   * @param loggers              logger map
+   * @param loggerFactory        creates a logger by its name and the context of this registry
+   * @param retention            retention of captured events
+   * @param hotSpots             collector of hot spots, {@code null} if the report is disabled
+   * @param flightRecorderEvents emitter of Flight Recorder events, {@code null} if they are disabled
+   * @param capturePolicy        which logging calls loggers record
+   * @param passthrough          forwards logging calls to real loggers, {@code null} if it is disabled
+   */
+  LoggerRegistry(Map<String, Logger> loggers, BiFunction<String, LoggerContext, Logger> loggerFactory,
+      RetentionLimit retention, HotSpots hotSpots, FlightRecorderEvents flightRecorderEvents,
+      CapturePolicy capturePolicy, Passthrough passthrough) {
+    this.loggers = loggers;
+    this.loggerFactory = loggerFactory;
+    this.retention = retention;
+    this.hotSpots = hotSpots;
+    this.flightRecorderEvents = flightRecorderEvents;
+    this.capturePolicy = capturePolicy;
+    this.passthrough = passthrough;
+  }
+
+  Logger getLogger(String name) {
+    return loggers.computeIfAbsent(name, key -> loggerFactory.apply(key, this));
+  }
+
+  @Override
+  public void markUsed(String loggerName) {
+    if (usedLoggers.get().add(loggerName) && loggers instanceof WeakLoggerMap) {
+      ((WeakLoggerMap) loggers).pin(loggerName);
+    }
+  }
+
+  @Override
+  public RetentionLimit getRetention() {
+    return retention;
+  }
+
+  @Override
+  public void sampleCallSite(String loggerName) {
+    if (null != hotSpots) {
+      hotSpots.sample(loggerName);
+    }
+  }
+
+  @Override
+  public Level getLoggableLevel(String loggerName) {
+    var levels = loggableLevels;
+
+    if (levels.isEmpty()) {
+      return null;
+    }
+
+    var level = levels.get(loggerName);
+
+    return (null == level) ? levels.get("") : level;
+  }
+
+  @Override
+  public CapturePolicy getCapturePolicy() {
+    return capturePolicy;
+  }
+
+  @Override
+  public void eventCaptured(String loggerName, Level level, String message) {
+    waiters.signal(loggerName);
+    if (null != flightRecorderEvents) {
+      flightRecorderEvents.emit(loggerName, level, message);
+    }
+  }
+
+  @Override
+  public Logger getPassthrough(String loggerName) {
+    return (null == passthrough) ? null : passthrough.getLogger(loggerName);
+  }
+
+  LogWaiters getWaiters() {
+    return waiters;
+  }
+
+  /**
+   * Replaces loggable levels of loggers, the empty name stands for all loggers that are not listed.
+   *
+   * @param loggableLevels loggable levels by logger name
+   */
+  void setLoggableLevels(Map<String, Level> loggableLevels) {
+    this.loggableLevels = loggableLevels;
+  }
+
+  void setRetention(RetentionLimit retention) {
+    this.retention = retention;
+  }
+
+  Map<String, Logger> getLoggers() {
+    return loggers;
+  }
+
+  /**
+   * Returns names of loggers that got interactions or stubbings since the previous call of
+   * {@link #takeUsedLoggers()}, tracking goes on.
+   *
+   * @return names of used loggers
+   */
+  Set<String> getUsedLoggers() {
+    return Collections.unmodifiableSet(usedLoggers.get());
+  }
+
+  /**
+   * Returns names of loggers that got interactions or stubbings since the previous call, and starts tracking anew.
+   * Weak loggers are held strongly while they are used, they are released here.
+   *
+   * @return names of used loggers
+   */
+  Set<String> takeUsedLoggers() {
+    if (usedLoggers.get().isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    var takenLoggers = usedLoggers.getAndSet(ConcurrentHashMap.newKeySet());
+
+    if (loggers instanceof WeakLoggerMap) {
+      ((WeakLoggerMap) loggers).unpin(takenLoggers);
+    }
+
+    return takenLoggers;
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+/**
+ * Where {@link MockLoggerFinder} sends a logger that matches a routing rule.
+ * <p>
+ * Rules are set by the system property {@code mock.jdk.platform.logging.routes} or by the key {@code routes} of the
+ * classpath resource {@code mock-jdk-platform-logging.properties}: comma-separated pairs of a selector and a route,
+ * the first matching rule wins. A selector is a name prefix, a glob with {@code *} and {@code ?}, or
+ * {@code module:} and the name of the module that requests the logger:
+ * <pre>
+ *   routes=jdk.internal.=noop, sun.net.*=platform, module:java.net.http=counting
+ * </pre>
+ * Loggers that do not match any rule are routed to {@link #MOCK}.
+ *
+ * @since 1.2.0
+ */
+public enum LoggerRoute {
+
+  /**
+   * A logger of the finder's {@link LoggerMode mode}: a mock, recording or journal logger.
+   */
+  MOCK,
+  /**
+   * A {@link CountingLogger counting logger} whatever the mode is.
+   */
+  COUNTING,
+  /**
+   * A shared logger that is not loggable at any level and drops all calls.
+   */
+  NOOP,
+  /**
+   * A logger of the real backend: the first other logger finder on the class path, the same one that the
+   * passthrough uses, or {@code java.util.logging} if there is none.
+   */
+  PLATFORM
+
+}
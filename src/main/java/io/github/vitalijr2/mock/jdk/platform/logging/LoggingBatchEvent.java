@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event of consecutive logging calls of a logger on the same thread, its duration spans from the
+ * first call to the last one. An open batch can be committed by another thread, the logging thread is kept in a
+ * field.
+ */
+@Name(LoggingBatchEvent.NAME)
+@Label("Logging Batch")
+@Category("Mock JDK Platform Logging")
+@Description("Consecutive logging calls of a logger on the same thread")
+@StackTrace(false)
+class LoggingBatchEvent extends Event {
+
+  static final String NAME = "io.github.vitalijr2.mock.jdk.platform.logging.LoggingBatch";
+
+  @Label("Logger")
+  String loggerName;
+
+  @Label("Logging Thread")
+  Thread thread;
+
+  @Label("Calls")
+  int calls;
+
+  @Label("Most Severe Level")
+  String level;
+
+  @Label("Last Message")
+  @Description("Message or format of the last call as is, a message supplier is not evaluated")
+  String message;
+
+}
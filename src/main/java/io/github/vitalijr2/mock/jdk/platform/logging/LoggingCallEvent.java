@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event of a logging call, the thread is recorded by Flight Recorder.
+ */
+@Name(LoggingCallEvent.NAME)
+@Label("Logging Call")
+@Category("Mock JDK Platform Logging")
+@Description("A logging call that a logger of MockLoggerFinder has captured")
+@StackTrace(false)
+class LoggingCallEvent extends Event {
+
+  static final String NAME = "io.github.vitalijr2.mock.jdk.platform.logging.LoggingCall";
+
+  @Label("Logger")
+  String loggerName;
+
+  @Label("Level")
+  String level;
+
+  @Label("Message")
+  @Description("Message or format as is, a message supplier is not evaluated")
+  String message;
+
+}
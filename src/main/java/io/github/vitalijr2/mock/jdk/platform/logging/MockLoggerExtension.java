@@ -18,9 +18,13 @@ package io.github.vitalijr2.mock.jdk.platform.logging;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.reset;
 
+import java.lang.System.Logger.Level;
 import java.lang.System.LoggerFinder;
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import org.jetbrains.annotations.VisibleForTesting;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -28,11 +32,34 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.support.AnnotationSupport;
 
 /**
  * A jUnit extension to clean and reset mock loggers.
  * <p>
- * Clean and reset mock loggers before and after tests.
+ * Clean and reset mock loggers before and after tests. Only loggers that got interactions or stubbings since the
+ * previous reset are processed, untouched loggers cost nothing. Use {@link MockLoggers#resetBeforeEach()} and
+ * {@link MockLoggers#resetAfterEach()} to skip one of the resets.
+ * <p>
+ * If the finder is isolated (the system property {@code mock.jdk.platform.logging.isolated=true}), every test gets
+ * its own loggers instead of resets, so tests can run in parallel. {@link System#getLogger(String)} returns a logger
+ * that forwards calls to the logger of the current test: it is bound to the test thread and inherited by threads that
+ * the test starts. Use {@link #getTestLogger(String)} to verify the mock of the current test.
+ * <p>
+ * Every test gets its own {@link LogEvent#getContextId() context}: events that the test and threads started by it
+ * capture are tagged with it, so {@link LogAssertions#getTestEvents(System.Logger)} sees only events of the current
+ * test, and {@link MockLoggers#scopedReset()} removes only them.
+ * <p>
+ * With the property {@code mock.jdk.platform.logging.report=true} the extension collects numbers of logging calls per
+ * logger and level before it resets loggers, and sampled call sites of logging calls. At the end of the test run it
+ * writes a ranked report of logging hot spots in text and JSON to the directory
+ * {@code mock.jdk.platform.logging.report-directory}, {@code target} by default. With the property
+ * {@code mock.jdk.platform.logging.fork-statistics=true} it collects the same counts, and every test JVM dumps them
+ * at shutdown, see {@link ForkStatisticsTool}.
+ * <p>
+ * With the property {@code mock.jdk.platform.logging.export=failure} the extension exports events of a failed test to
+ * a compact binary file in the same directory, with {@code export=run} it exports events of all tests to one file. Use
+ * {@link EventExportReader} or {@link EventExportTool} to read them.
  * <p>
  * Example:
  * <pre><code class="language-java">
@@ -67,6 +94,9 @@ import org.junit.platform.commons.logging.LoggerFactory;
  */
 public class MockLoggerExtension implements AfterEachCallback, BeforeEachCallback {
 
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(
+      MockLoggerExtension.class);
+
   private final MockLoggerFinder loggerFinder;
   private final Logger extensionLogger;
 
@@ -94,6 +124,55 @@ public class MockLoggerExtension implements AfterEachCallback, BeforeEachCallbac
     }
   }
 
+  /**
+   * Returns the logger of the current test.
+   * <p>
+   * If the finder is isolated, it is the mock (or the recording logger) of the current test, otherwise it is the same
+   * logger that {@link System#getLogger(String)} returns.
+   * <p>
+   * Example:
+   * <pre><code class="language-java">
+   *   verify(MockLoggerExtension.getTestLogger("HelloService")).log(Level.INFO, "Hello World!");
+   * </code></pre>
+   *
+   * @param name logger name
+   * @return logger of the current test
+   * @since 1.2.0
+   */
+  public static System.Logger getTestLogger(String name) {
+    return getMockLoggerFinder().getCurrentRegistry().getLogger(name);
+  }
+
+  /**
+   * Returns numbers of logging calls per level of the logger of the current test.
+   * <p>
+   * It is meant for {@link LoggerMode#COUNTING counting loggers}, but works with loggers of any mode.
+   *
+   * @param name logger name
+   * @return snapshot of counts per level
+   * @since 1.2.0
+   */
+  public static LevelCounts counts(String name) {
+    return CapturedEvents.countsOf(getTestLogger(name));
+  }
+
+  /**
+   * Returns the event journal of the finder.
+   *
+   * @return event journal
+   * @throws ExtensionConfigurationException if the finder is not in the {@link LoggerMode#JOURNAL journal} mode
+   * @since 1.2.0
+   */
+  public static EventJournal getJournal() {
+    var loggerFinder = getMockLoggerFinder();
+
+    if (LoggerMode.JOURNAL != loggerFinder.getMode()) {
+      throw new ExtensionConfigurationException("The logger finder is not in the journal mode");
+    }
+
+    return loggerFinder.getJournal();
+  }
+
   /**
    * Clean and reset mock loggers after tests. You are still able to run tasks in
    * {@link org.junit.jupiter.api.AfterEach}.
@@ -102,9 +181,34 @@ public class MockLoggerExtension implements AfterEachCallback, BeforeEachCallbac
    */
   @Override
   public void afterEach(ExtensionContext context) {
-    var processedLoggers = cleanAndResetLoggers();
+    try {
+      afterTest(context);
+    } finally {
+      CaptureContext.close();
+    }
+  }
+
+  private void afterTest(ExtensionContext context) {
+    loggerFinder.flushFlightRecorderEvents();
+    exportEvents(context);
+    if (loggerFinder.isIsolated()) {
+      loggerFinder.closeTestRegistry();
+      return;
+    }
 
-    extensionLogger.debug(() -> "Clean and reset the loggers: " + String.join(", ", processedLoggers));
+    var settings = findSettings(context);
+
+    if (settings.map(MockLoggers::scopedReset).orElse(false)) {
+      removeTestEvents(CaptureContext.current());
+    } else if (settings.map(MockLoggers::resetAfterEach).orElse(true)) {
+      cleanAndResetLoggers(getStubbingSnapshot(context, settings));
+    }
+    if (settings.map(MockLoggers::retentionLimit).orElse(0) > 0) {
+      loggerFinder.getCurrentRegistry().setRetention(loggerFinder.getDefaultRetention());
+    }
+    if (settings.map(mockLoggers -> 0 < mockLoggers.loggable().length).orElse(false)) {
+      loggerFinder.getCurrentRegistry().setLoggableLevels(Map.of());
+    }
   }
 
   /**
@@ -115,21 +219,190 @@ public class MockLoggerExtension implements AfterEachCallback, BeforeEachCallbac
    */
   @Override
   public void beforeEach(ExtensionContext context) {
-    var processedLoggers = cleanAndResetLoggers();
+    var settings = findSettings(context);
+    var retention = settings.filter(mockLoggers -> 0 < mockLoggers.retentionLimit())
+        .map(mockLoggers -> RetentionLimit.of(mockLoggers.retention(), mockLoggers.retentionLimit()))
+        .map(loggerFinder::checkRetention).orElseGet(loggerFinder::getDefaultRetention);
+
+    CaptureContext.open();
+
+    if (loggerFinder.isReport()) {
+      context.getRoot().getStore(NAMESPACE)
+          .getOrComputeIfAbsent(HotSpots.class, key -> new HotSpotReport(), HotSpotReport.class);
+    }
+    var loggableLevels = settings.map(MockLoggerExtension::getLoggableLevels).orElseGet(Map::of);
+
+    if (loggerFinder.isIsolated()) {
+      loggerFinder.openTestRegistry(retention);
+      loggerFinder.getCurrentRegistry().setLoggableLevels(loggableLevels);
+      return;
+    }
+    if (settings.map(MockLoggers::keepStubbings).orElse(false)) {
+      var registry = loggerFinder.getCurrentRegistry();
 
-    extensionLogger.debug(() -> "Clean and reset the loggers: " + String.join(", ", processedLoggers));
+      context.getParent().orElse(context).getStore(NAMESPACE).getOrComputeIfAbsent(StubbingSnapshot.class,
+          key -> new StubbingSnapshot(registry.getLoggers()), StubbingSnapshot.class);
+    }
+    if (settings.map(mockLoggers -> mockLoggers.resetBeforeEach() && !mockLoggers.scopedReset()).orElse(true)) {
+      cleanAndResetLoggers(getStubbingSnapshot(context, settings));
+    }
+    loggerFinder.getCurrentRegistry().setRetention(retention);
+    if (!loggableLevels.isEmpty()) {
+      loggerFinder.getCurrentRegistry().setLoggableLevels(loggableLevels);
+    }
   }
 
-  private List<String> cleanAndResetLoggers() {
-    var processedLoggers = new ArrayList<String>();
+  private static Optional<MockLoggers> findSettings(ExtensionContext context) {
+    for (var testClass = context.getTestClass().orElse(null); null != testClass;
+        testClass = testClass.getEnclosingClass()) {
+      var settings = AnnotationSupport.findAnnotation(testClass, MockLoggers.class);
 
-    loggerFinder.getLoggers().forEach((loggerName, logger) -> {
-      clearInvocations(logger);
-      reset(logger);
-      processedLoggers.add(loggerName);
+      if (settings.isPresent()) {
+        return settings;
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  private static Map<String, Level> getLoggableLevels(MockLoggers settings) {
+    var loggableLevels = new HashMap<String, Level>();
+
+    for (var loggableLevel : settings.loggable()) {
+      loggableLevels.put(loggableLevel.logger(), loggableLevel.level());
+    }
+
+    return Map.copyOf(loggableLevels);
+  }
+
+  private static StubbingSnapshot getStubbingSnapshot(ExtensionContext context, Optional<MockLoggers> settings) {
+    if (!settings.map(MockLoggers::keepStubbings).orElse(false)) {
+      return null;
+    }
+
+    return context.getParent().orElse(context).getStore(NAMESPACE)
+        .get(StubbingSnapshot.class, StubbingSnapshot.class);
+  }
+
+  private void cleanAndResetLoggers(StubbingSnapshot stubbingSnapshot) {
+    loggerFinder.flushFlightRecorderEvents();
+
+    var registry = loggerFinder.getCurrentRegistry();
+    var usedLoggers = registry.takeUsedLoggers();
+
+    if (usedLoggers.isEmpty()) {
+      return;
+    }
+
+    var loggers = registry.getLoggers();
+    var hotSpots = loggerFinder.getHotSpots().orElse(null);
+
+    usedLoggers.forEach(loggerName -> {
+      var logger = loggers.get(loggerName);
+
+      if (null != hotSpots && null != logger) {
+        hotSpots.add(loggerName, CapturedEvents.countsOf(logger));
+      }
+      if (logger instanceof ResettableLogger) {
+        ((ResettableLogger) logger).reset();
+      } else if (null != logger && (null == stubbingSnapshot || !stubbingSnapshot.restore(logger))) {
+        clearInvocations(logger);
+        reset(logger);
+        InvocationTracker.of(logger).ifPresent(InvocationTracker::reset);
+      }
     });
 
-    return processedLoggers;
+    extensionLogger.debug(() -> "Clean and reset the loggers: " + String.join(", ", usedLoggers));
+  }
+
+  private void removeTestEvents(long contextId) {
+    loggerFinder.getCurrentRegistry().getLoggers().values().stream().map(CapturedEvents::unwrap)
+        .filter(RecordingLogger.class::isInstance)
+        .forEach(logger -> ((RecordingLogger) logger).removeContext(contextId));
+    extensionLogger.debug(() -> "Remove events of the test context " + contextId);
+  }
+
+  private void exportEvents(ExtensionContext context) {
+    var exportMode = loggerFinder.getExportMode();
+
+    if (ExportMode.NONE == exportMode
+        || (ExportMode.FAILURE == exportMode && context.getExecutionException().isEmpty())) {
+      return;
+    }
+
+    var registry = loggerFinder.getCurrentRegistry();
+
+    if (registry.getUsedLoggers().isEmpty()) {
+      return;
+    }
+    if (ExportMode.RUN == exportMode) {
+      var runExport = context.getRoot().getStore(NAMESPACE)
+          .getOrComputeIfAbsent(RunExport.class, key -> new RunExport(), RunExport.class);
+
+      writeTestEvents(runExport.export, registry);
+      return;
+    }
+
+    var file = loggerFinder.getReportDirectory().resolve(
+        EventExport.FILE_PREFIX + '-' + context.getTestClass().map(Class::getName).orElse("test") + '.'
+            + context.getTestMethod().map(Method::getName).orElse("test") + '-' + CaptureContext.current()
+            + EventExport.FILE_SUFFIX);
+
+    try (var export = EventExport.create(file)) {
+      writeTestEvents(export, registry);
+    }
+    extensionLogger.info(() -> "Captured events of the failed test are exported to " + file.toAbsolutePath());
+  }
+
+  private static void writeTestEvents(EventExport export, LoggerRegistry registry) {
+    var contextId = CaptureContext.current();
+    var loggers = registry.getLoggers();
+
+    for (var loggerName : registry.getUsedLoggers()) {
+      var logger = loggers.get(loggerName);
+
+      if (null != logger) {
+        CapturedEvents.of(logger).stream()
+            .filter(event -> contextId == event.getContextId() || CaptureContext.NONE == event.getContextId())
+            .forEach(export::write);
+      }
+    }
+  }
+
+  /**
+   * Writes the hot spot report when the root context is closed, that is at the end of the test run. The finder adds
+   * counts of loggers that were not reset after the last test, fork statistics are dumped later at shutdown.
+   */
+  private class HotSpotReport implements ExtensionContext.Store.CloseableResource {
+
+    @Override
+    public void close() {
+      var directory = loggerFinder.getReportDirectory();
+
+      loggerFinder.collectHotSpots().ifPresent(hotSpots -> {
+        hotSpots.write(directory);
+        extensionLogger.info(() -> "Logging hot spots are written to " + directory.toAbsolutePath());
+      });
+    }
+
+  }
+
+  /**
+   * Export of the whole run, the file is closed when the root context is closed.
+   */
+  private class RunExport implements ExtensionContext.Store.CloseableResource {
+
+    private final Path file = loggerFinder.getReportDirectory().resolve(EventExport.FILE_PREFIX
+        + EventExport.FILE_SUFFIX);
+    private final EventExport export = EventExport.create(file);
+
+    @Override
+    public void close() {
+      export.close();
+      extensionLogger.info(() -> export.getCount() + " captured events are exported to "
+          + file.toAbsolutePath());
+    }
+
   }
 
 }
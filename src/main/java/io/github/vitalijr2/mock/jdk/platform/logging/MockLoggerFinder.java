@@ -16,16 +16,98 @@
 package io.github.vitalijr2.mock.jdk.platform.logging;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
 
 import java.lang.System.Logger;
 import java.lang.System.LoggerFinder;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
  * Uses {@link org.mockito.Mockito#mock(Class, String)} to get a mock that is adapted for {@link Logger}.
  * <p>
+ * Since 1.2.0 the finder can create {@link RecordingLogger recording}, {@link CountingLogger counting} or
+ * {@link JournalLogger journal} loggers instead of mocks, see
+ * {@link LoggerMode}. The finder is configured by the classpath resource {@code mock-jdk-platform-logging.properties}
+ * and system properties with the prefix {@code mock.jdk.platform.logging.}, system properties win:
+ * <table>
+ *   <caption>Settings</caption>
+ *   <tr><th>Key</th><th>Default</th><th>Description</th></tr>
+ *   <tr><td>{@code mode}</td><td>{@code mock}</td><td>{@code mock}, {@code recording},
+ *   {@code counting} or {@code journal}</td></tr>
+ *   <tr><td>{@code capacity}</td><td>{@code 1024}</td><td>initial size of an event buffer of a recording
+ *   logger</td></tr>
+ *   <tr><td>{@code lazy-suppliers}</td><td>{@code false}</td><td>recording loggers evaluate message suppliers when
+ *   events are read instead of capture time; mocks always keep suppliers, journal loggers always evaluate them</td></tr>
+ *   <tr><td>{@code prewarm}</td><td>{@code false}</td><td>{@code true} or comma-separated logger names: generate
+ *   the mock class and create those loggers on a background thread at start-up; names can be listed in the classpath
+ *   resource {@code mock-jdk-platform-logging-prewarm.txt} too</td></tr>
+ *   <tr><td>{@code report}</td><td>{@code false}</td><td>{@link MockLoggerExtension} writes a report of logging
+ *   hot spots at the end of the test run</td></tr>
+ *   <tr><td>{@code report-directory}</td><td>{@code target}</td><td>directory of the hot spot report</td></tr>
+ *   <tr><td>{@code fork-statistics}</td><td>{@code false}</td><td>every test JVM appends its counts per logger and
+ *   level to its own file at shutdown, {@link ForkStatisticsTool} merges files of all forks into one report; the
+ *   finder counts calls of its shared loggers with or without {@link MockLoggerExtension}</td></tr>
+ *   <tr><td>{@code report-sample-rate}</td><td>{@code 100}</td><td>one of how many logging calls is sampled to find
+ *   its call site</td></tr>
+ *   <tr><td>{@code retention}</td><td>{@code all}</td><td>{@code all}, {@code last} or {@code first}: which events
+ *   a logger keeps, see {@link EventRetention}</td></tr>
+ *   <tr><td>{@code retention-limit}</td><td></td><td>how many events a logger keeps, it is required if retention
+ *   is not {@code all}; limited retention is not supported in the mock mode</td></tr>
+ *   <tr><td>{@code journal-file}</td><td></td><td>file of the {@link EventJournal event journal}, a temporary file
+ *   by default</td></tr>
+ *   <tr><td>{@code journal-segment-size}</td><td>{@code 67108864}</td><td>how many bytes of the journal are mapped
+ *   to memory at once</td></tr>
+ *   <tr><td>{@code stripes}</td><td>{@code 0}</td><td>recording loggers split their buffers into stripes, so
+ *   threads that log concurrently do not contend; events are merged by sequence numbers when they are read</td></tr>
+ *   <tr><td>{@code routes}</td><td></td><td>comma-separated routing rules {@code selector=route}: loggers that
+ *   match a name prefix, a glob or {@code module:name} get a mock, a counting, a no-op or the platform logger, see
+ *   {@link LoggerRoute}</td></tr>
+ *   <tr><td>{@code weak-loggers}</td><td>{@code false}</td><td>loggers that are no longer referenced are evicted
+ *   from the shared registry, their counts go to the hot spot report; a logger that is used since the last reset is
+ *   held strongly until the extension resets it, so a test verifies the same mock that was logged to; it does not
+ *   apply to isolated tests</td></tr>
+ *   <tr><td>{@code jfr}</td><td>{@code false}</td><td>loggers emit Flight Recorder events of logging calls with
+ *   the logger name, the level, the message template and the thread; nothing is emitted while Flight Recorder does
+ *   not record them</td></tr>
+ *   <tr><td>{@code jfr-batch-size}</td><td>{@code 1}</td><td>how many consecutive calls of a logger on the same
+ *   thread one Flight Recorder event covers; {@link MockLoggerExtension} commits batches that are not full after
+ *   every test</td></tr>
+ *   <tr><td>{@code capture-level}</td><td></td><td>minimum recorded level: a level for all loggers and
+ *   comma-separated rules {@code prefix=level}; calls below it are counted but not recorded, and {@code isLoggable}
+ *   returns {@code false} for them unless they are sampled; counting loggers record nothing anyway</td></tr>
+ *   <tr><td>{@code capture-sampling}</td><td></td><td>lower levels are sampled per logger: {@code N} records one of
+ *   {@code N} calls, {@code N/s} records at most {@code N} calls per second;
+ *   <strong>in the mock mode both keys affect only verification</strong>: Mockito stores a dropped call before the
+ *   policy sees it, so the call is hidden from {@code verifyNoMoreInteractions}, {@code inOrder} and
+ *   {@link LogAssertions}, but an explicit {@code verify} still matches it and it still takes memory, use
+ *   {@code mode=recording} to save memory</td></tr>
+ *   <tr><td>{@code export}</td><td>{@code none}</td><td>{@code none}, {@code failure} or {@code run}:
+ *   {@link MockLoggerExtension} exports captured events of a failed test to its own file, or events of all tests to
+ *   one file in the report directory, see {@link EventExport}</td></tr>
+ *   <tr><td>{@code snapshot-directory}</td><td>{@code src/test/resources/log-snapshots}</td><td>directory of
+ *   golden files of {@link LogSnapshot log snapshots}</td></tr>
+ *   <tr><td>{@code update-snapshots}</td><td>{@code false}</td><td>log snapshots write golden files instead of
+ *   comparing them</td></tr>
+ *   <tr><td>{@code passthrough}</td><td>{@code false}</td><td>mock, recording and journal loggers also forward
+ *   logging calls to the logger finder that would be loaded without this library, or to {@code java.util.logging};
+ *   calls go through a bounded queue to a background thread</td></tr>
+ *   <tr><td>{@code passthrough-queue-size}</td><td>{@code 8192}</td><td>how many calls wait to be forwarded, calls
+ *   that do not fit are dropped</td></tr>
+ *   <tr><td>{@code passthrough-batch-size}</td><td>{@code 256}</td><td>how many calls the background thread
+ *   forwards at once</td></tr>
+ *   <tr><td>{@code isolated}</td><td>{@code false}</td><td>every test has its own loggers, see
+ *   {@link MockLoggerExtension#getTestLogger(String)}</td></tr>
+ * </table>
+ * <p>
  * Example:
  * <pre><code class="language-java">
  *   {@literal @}Test
@@ -42,30 +124,102 @@ import org.jetbrains.annotations.VisibleForTesting;
  */
 public class MockLoggerFinder extends LoggerFinder {
 
-  private final Map<String, Logger> loggers;
+  private final LoggerRegistry registry;
+  private final Configuration configuration;
+  private final LoggerMode mode;
+  private final RetentionLimit retention;
+  private final boolean isolated;
+  private final boolean report;
+  private final HotSpots hotSpots;
+  private final FlightRecorderEvents flightRecorderEvents;
+  private final CapturePolicy capturePolicy;
+  private final ExportMode exportMode;
+  private final Passthrough passthrough;
+  private final RoutingRules routingRules;
+  private final Map<String, Route> routes = new ConcurrentHashMap<>();
+  private final Map<String, Logger> routingLoggers = new ConcurrentHashMap<>();
+  private final Map<String, Logger> deferredLoggers = new ConcurrentHashMap<>();
+  private final ThreadLocal<LoggerRegistry> testRegistry = new InheritableThreadLocal<>();
+
+  private volatile boolean mockitoReady;
+  private volatile EventJournal journal;
+  private volatile Function<String, Logger> platformLoggers;
 
   /**
    * Create a map-based logger finder. The finder uses a concurrent map: a logger name is a key.
    */
   public MockLoggerFinder() {
-    this(new ConcurrentHashMap<>());
+    this(new ConcurrentHashMap<>(), Configuration.load());
+    configuration.getPrewarmLoggers().ifPresent(this::prewarm);
+    if (configuration.isForkStatistics()) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::dumpStatistics, "mock-logger-fork-statistics"));
+    }
+    if (null != passthrough) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> passthrough.flush(Passthrough.SHUTDOWN_TIMEOUT),
+          "mock-logger-passthrough-flush"));
+    }
   }
 
   @VisibleForTesting
   MockLoggerFinder(Map<String, Logger> loggers) {
-    this.loggers = loggers;
+    this(loggers, Configuration.empty());
+  }
+
+  @VisibleForTesting
+  MockLoggerFinder(Map<String, Logger> loggers, Configuration configuration) {
+    this.configuration = configuration;
+    this.mode = configuration.getMode();
+    this.retention = checkRetention(configuration.getRetention());
+    this.isolated = configuration.isIsolated();
+    this.report = configuration.isReport();
+    this.hotSpots = report ? new HotSpots(configuration.getReportSampleRate())
+        : configuration.isForkStatistics() ? HotSpots.countsOnly() : null;
+    this.routingRules = configuration.getRoutingRules();
+    this.flightRecorderEvents = configuration.isJfr() ? new FlightRecorderEvents(configuration.getJfrBatchSize())
+        : null;
+    this.capturePolicy = configuration.getCapturePolicy();
+    this.exportMode = configuration.getExportMode();
+    this.passthrough = configuration.isPassthrough() ? Passthrough.create(configuration) : null;
+    this.registry = new LoggerRegistry(
+        configuration.isWeakLoggers() ? new WeakLoggerMap((null == hotSpots) ? null : hotSpots::add) : loggers,
+        this::createLogger, retention, hotSpots, flightRecorderEvents, capturePolicy, passthrough);
   }
 
   /**
    * Returns an instance of Logger for the given name, module is ignored.
+   * <p>
+   * In the isolated mode it returns a logger that forwards calls to the logger of the current test.
+   * <p>
+   * If a system module requests a logger before Mockito has created any mock, it gets a cheap placeholder that
+   * creates the mock only when something is logged.
+   * <p>
+   * Routing rules are evaluated once per name, the module that requests the name first decides its route. The logger
+   * is cached along with the route, so a known name costs one map lookup. Weak loggers are not cached, so that they
+   * can still be evicted.
    *
    * @param name   logging name
    * @param module logging module
-   * @return mock logger
+   * @return mock, recording, counting, journal, no-op or platform logger
    */
   @Override
   public Logger getLogger(String name, Module module) {
-    return loggers.computeIfAbsent(name, key -> mock(Logger.class, "Mock for logger " + key));
+    var route = getRoute(name, module);
+
+    if (null != route.logger) {
+      return route.logger;
+    }
+    if (isolated) {
+      return route.cache(routingLoggers.computeIfAbsent(name, key -> new RoutingLogger(key, this)));
+    }
+    if (!mockitoReady && LoggerMode.MOCK == mode && LoggerRoute.MOCK == route.route && isSystemModule(module)) {
+      var logger = registry.getLoggers().get(name);
+
+      return (null != logger) ? logger : deferredLoggers.computeIfAbsent(name, key -> new DeferredLogger(key, registry));
+    }
+
+    var logger = registry.getLogger(name);
+
+    return configuration.isWeakLoggers() ? logger : route.cache(logger);
   }
 
   /**
@@ -74,7 +228,334 @@ public class MockLoggerFinder extends LoggerFinder {
    * @return mock loggers
    */
   Map<String, Logger> getLoggers() {
-    return loggers;
+    return registry.getLoggers();
+  }
+
+  /**
+   * Returns names of loggers that got interactions or stubbings since the previous call, and starts tracking anew.
+   * Loggers that are not in the list are untouched since the last reset, {@link MockLoggerExtension} skips them.
+   *
+   * @return names of used loggers
+   */
+  Set<String> takeUsedLoggers() {
+    return registry.takeUsedLoggers();
+  }
+
+  /**
+   * What kind of loggers the finder creates.
+   *
+   * @return logger mode
+   */
+  LoggerMode getMode() {
+    return mode;
+  }
+
+  /**
+   * Every test has its own loggers.
+   *
+   * @return {@code true} if the finder is isolated
+   */
+  boolean isIsolated() {
+    return isolated;
+  }
+
+  /**
+   * Returns the registry of the test that is bound to the current thread, or the shared registry.
+   *
+   * @return logger registry
+   */
+  LoggerRegistry getCurrentRegistry() {
+    var currentRegistry = testRegistry.get();
+
+    return (null == currentRegistry) ? registry : currentRegistry;
+  }
+
+  /**
+   * Check that loggers of the finder can apply the retention. Mockito keeps invocations of a mock in a list that
+   * cannot be trimmed, so mock loggers support only {@link EventRetention#ALL}.
+   *
+   * @param retention retention of captured events
+   * @return the same retention
+   * @throws IllegalArgumentException if the retention is limited and the finder creates mock loggers
+   */
+  RetentionLimit checkRetention(RetentionLimit retention) {
+    if (LoggerMode.MOCK == mode && retention.isLimited()) {
+      throw new IllegalArgumentException(
+          "Retention " + retention + " is not supported by mock loggers, use mode=recording");
+    }
+
+    return retention;
+  }
+
+  /**
+   * Retention of captured events that is configured for the finder.
+   *
+   * @return retention
+   */
+  RetentionLimit getDefaultRetention() {
+    return retention;
+  }
+
+  /**
+   * Returns the collector of logging hot spots.
+   *
+   * @return hot spots, or empty optional if the report is disabled
+   */
+  Optional<HotSpots> getHotSpots() {
+    return Optional.ofNullable(hotSpots);
+  }
+
+  /**
+   * The extension writes the hot spot report at the end of the test run.
+   *
+   * @return {@code true} if the report is enabled
+   */
+  boolean isReport() {
+    return report;
+  }
+
+  /**
+   * Appends counts per logger and level of this JVM to its file of fork statistics, see {@link ForkStatistics}.
+   *
+   * @return file of the fork, or empty optional if counts are not collected
+   */
+  Optional<Path> dumpStatistics() {
+    return collectHotSpots().map(collected -> ForkStatistics.dump(getReportDirectory(), collected.getCounts()));
+  }
+
+  /**
+   * Returns hot spots with counts of loggers that were not reset yet. Loggers that are used without
+   * {@link MockLoggerExtension} are never reset, so the finder counts them itself. The counts are added to a copy:
+   * the report and fork statistics can be collected one after another without counting the same calls twice.
+   *
+   * @return hot spots of the whole run, or empty optional if counts are not collected
+   */
+  Optional<HotSpots> collectHotSpots() {
+    return getHotSpots().map(collected -> {
+      var hotSpotsOfRun = collected.copy();
+
+      registry.getLoggers().forEach(
+          (loggerName, logger) -> hotSpotsOfRun.add(loggerName, CapturedEvents.countsOf(logger)));
+
+      return hotSpotsOfRun;
+    });
+  }
+
+  /**
+   * Directory of the hot spot report and event exports.
+   *
+   * @return report directory
+   */
+  Path getReportDirectory() {
+    return configuration.getReportDirectory();
+  }
+
+  /**
+   * When the extension exports captured events.
+   *
+   * @return export mode
+   */
+  ExportMode getExportMode() {
+    return exportMode;
+  }
+
+  /**
+   * Returns the event journal of the finder, it is created on first use.
+   *
+   * @return event journal
+   */
+  EventJournal getJournal() {
+    var currentJournal = journal;
+
+    if (null == currentJournal) {
+      synchronized (this) {
+        currentJournal = journal;
+        if (null == currentJournal) {
+          currentJournal = EventJournal.create(configuration);
+          journal = currentJournal;
+        }
+      }
+    }
+
+    return currentJournal;
+  }
+
+  /**
+   * Creates a new registry and binds it to the current thread. Threads that are started by the current one inherit
+   * the registry.
+   *
+   * @param retention retention of captured events
+   */
+  void openTestRegistry(RetentionLimit retention) {
+    testRegistry.set(new LoggerRegistry(new ConcurrentHashMap<>(), this::createLogger, retention, hotSpots,
+        flightRecorderEvents, capturePolicy, passthrough));
+  }
+
+  /**
+   * Commits open batches of Flight Recorder events.
+   */
+  void flushFlightRecorderEvents() {
+    if (null != flightRecorderEvents) {
+      flightRecorderEvents.flush();
+    }
+  }
+
+  /**
+   * Unbinds the test registry from the current thread, its loggers are dropped after their counts are collected.
+   */
+  void closeTestRegistry() {
+    var currentRegistry = testRegistry.get();
+
+    if (null != currentRegistry && null != hotSpots) {
+      currentRegistry.getLoggers()
+          .forEach((loggerName, logger) -> hotSpots.add(loggerName, CapturedEvents.countsOf(logger)));
+    }
+    testRegistry.remove();
+  }
+
+  /**
+   * Generates the mock class and creates loggers on a background thread, so the first test that logs does not pay
+   * for Mockito initialization.
+   *
+   * @param loggerNames names of loggers to create
+   * @return completion of prewarming
+   */
+  CompletableFuture<Void> prewarm(List<String> loggerNames) {
+    var executor = (Executor) task -> {
+      var thread = new Thread(task, "mock-logger-prewarm");
+
+      thread.setDaemon(true);
+      thread.start();
+    };
+
+    return CompletableFuture.runAsync(() -> {
+      if (LoggerMode.MOCK == mode) {
+        mock(Logger.class, CapturedEvents.MOCK_NAME_PREFIX + "prewarm");
+        mockitoReady = true;
+      }
+      loggerNames.forEach(registry::getLogger);
+    }, executor);
+  }
+
+  private static boolean isSystemModule(Module module) {
+    if (null == module || !module.isNamed() || ModuleLayer.boot() != module.getLayer()) {
+      return false;
+    }
+
+    var classLoader = module.getClassLoader();
+
+    return null == classLoader || ClassLoader.getPlatformClassLoader() == classLoader;
+  }
+
+  private Route getRoute(String name, Module module) {
+    if (routingRules.isEmpty()) {
+      return Route.MOCK;
+    }
+
+    var route = routes.get(name);
+
+    if (null == route) {
+      // the platform backend is looked up outside of the map: the lookup may request loggers itself
+      route = createRoute(name, module);
+
+      var previous = routes.putIfAbsent(name, route);
+
+      if (null != previous) {
+        route = previous;
+      }
+    }
+
+    return route;
+  }
+
+  private Route createRoute(String name, Module module) {
+    var route = routingRules.route(name, module);
+
+    if (LoggerRoute.NOOP == route) {
+      return new Route(route, NoOpLogger.INSTANCE);
+    }
+    if (LoggerRoute.PLATFORM == route) {
+      return new Route(route, getPlatformLoggers().apply(name));
+    }
+
+    return new Route(route, null);
+  }
+
+  /**
+   * Route of a logger that the registry creates. Loggers that the finder returns have their routes cached with the
+   * module of the caller. Prewarmed loggers and loggers that tests request by name do not know the module, so their
+   * routes are evaluated without it and not cached: the first caller with a module still decides.
+   */
+  private LoggerRoute getRegistryRoute(String name) {
+    var route = routes.get(name);
+
+    return (null == route) ? routingRules.route(name, null) : route.route;
+  }
+
+  private Function<String, Logger> getPlatformLoggers() {
+    var currentLoggers = platformLoggers;
+
+    if (null == currentLoggers) {
+      currentLoggers = Passthrough.findBackend();
+      platformLoggers = currentLoggers;
+    }
+
+    return currentLoggers;
+  }
+
+  private Logger createLogger(String name, LoggerContext context) {
+    if (LoggerRoute.COUNTING == getRegistryRoute(name)) {
+      return new CountingLogger(name, context);
+    }
+    if (LoggerMode.RECORDING == mode) {
+      var stripes = configuration.getStripes();
+      var buffer = (0 < stripes) ? new StripedEventBuffer(name, configuration.getCapacity(), stripes)
+          : new EventBuffer(name, configuration.getCapacity());
+
+      return new RecordingLogger(name, buffer, configuration.isLazySuppliers(), context);
+    }
+    if (LoggerMode.COUNTING == mode) {
+      return new CountingLogger(name, context);
+    }
+    if (LoggerMode.JOURNAL == mode) {
+      return new JournalLogger(name, getJournal(), context);
+    }
+
+    var tracker = new InvocationTracker(name, context);
+    var logger = mock(Logger.class, withSettings().name(CapturedEvents.MOCK_NAME_PREFIX + name)
+        .defaultAnswer(new LoggableAnswer(name, context)).invocationListeners(tracker)
+        .verificationStartedListeners(tracker));
+
+    mockitoReady = true;
+
+    return logger;
+  }
+
+  private static final class Route {
+
+    static final Route MOCK = new Route(LoggerRoute.MOCK, null);
+
+    final LoggerRoute route;
+
+    volatile Logger logger;
+
+    Route(LoggerRoute route, Logger logger) {
+      this.route = route;
+      this.logger = logger;
+    }
+
+    /**
+     * Caches the logger of a mock route. The shared route of a finder without routing rules caches nothing: there is
+     * no route lookup to save.
+     */
+    Logger cache(Logger resolvedLogger) {
+      if (MOCK != this) {
+        logger = resolvedLogger;
+      }
+
+      return resolvedLogger;
+    }
+
   }
 
 }
@@ -15,6 +15,7 @@
  */
 package io.github.vitalijr2.mock.jdk.platform.logging;
 
+import java.lang.System.Logger.Level;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -23,6 +24,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
  * Registers {@link MockLoggerExtension} for a test class.
+ * <p>
+ * By default the extension resets used loggers both before and after each test. If all tests of the class use the
+ * extension, one of the resets is redundant and can be skipped:
+ * <pre><code class="language-java">
+ *   {@literal @}MockLoggers(resetBeforeEach = false)
+ *   class HelloServiceAnnotationTest {
+ *     ...
+ *   }
+ * </code></pre>
+ * <p>
+ * Long-running tests can limit how many events loggers keep, exact counts per level are available anyway:
+ * <pre><code class="language-java">
+ *   {@literal @}MockLoggers(retention = EventRetention.FIRST, retentionLimit = 1000)
+ *   class SoakTest {
+ *     ...
+ *   }
+ * </code></pre>
+ * <p>
+ * Stubbings that tests share can be declared once: loggable levels do not need Mockito at all, and stubbings of
+ * {@link org.junit.jupiter.api.BeforeAll} survive resets with {@link #keepStubbings()}:
+ * <pre><code class="language-java">
+ *   {@literal @}MockLoggers(loggable = {@literal @}LoggableLevel(logger = "HelloService", level = Level.INFO))
+ *   class HelloServiceTest {
+ *     ...
+ *   }
+ * </code></pre>
+ * <p>
+ * Tests that share loggers and run concurrently should not reset them, {@link #scopedReset()} removes only events
+ * that were caused by the test.
  *
  * @since 1.1.3
  */
@@ -31,4 +61,69 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @Target(ElementType.TYPE)
 public @interface MockLoggers {
 
+  /**
+   * Clean and reset used loggers before each test.
+   *
+   * @return {@code true} by default
+   * @since 1.2.0
+   */
+  boolean resetBeforeEach() default true;
+
+  /**
+   * Clean and reset used loggers after each test.
+   *
+   * @return {@code true} by default
+   * @since 1.2.0
+   */
+  boolean resetAfterEach() default true;
+
+  /**
+   * Which captured events loggers keep during tests of the class, it takes effect only with positive
+   * {@link #retentionLimit()}.
+   *
+   * @return {@link EventRetention#LAST} by default
+   * @since 1.2.0
+   */
+  EventRetention retention() default EventRetention.LAST;
+
+  /**
+   * How many events a logger keeps during tests of the class. Zero keeps the retention that is configured for the
+   * finder. A positive limit requires {@link LoggerMode#RECORDING recording loggers}, the mock mode rejects it.
+   *
+   * @return {@code 0} by default
+   * @since 1.2.0
+   */
+  int retentionLimit() default 0;
+
+  /**
+   * The lowest levels that {@link System.Logger#isLoggable(Level)} accepts during tests of the class. They apply to
+   * all kinds of loggers and do not use Mockito stubbings, so resets do not remove them.
+   *
+   * @return no loggable levels by default
+   * @since 1.2.0
+   */
+  LoggableLevel[] loggable() default {};
+
+  /**
+   * Keep stubbings of mock loggers that exist before the first test of the class, for example stubbings of
+   * {@link org.junit.jupiter.api.BeforeAll}. Instead of a reset the extension clears invocations and restores those
+   * stubbings if a test has changed them. The stubbings are reset when the class is finished. It does not apply to
+   * isolated tests.
+   *
+   * @return {@code false} by default
+   * @since 1.2.0
+   */
+  boolean keepStubbings() default false;
+
+  /**
+   * Instead of resets before and after each test, remove only events that the test and threads started by it have
+   * captured, see {@link LogEvent#getContextId()}. Recording loggers drop those events, mocks cannot forget single
+   * invocations: use {@link LogAssertions#getTestEvents(System.Logger)} to see events of the current test only. It
+   * overrides {@link #resetBeforeEach()} and {@link #resetAfterEach()}.
+   *
+   * @return {@code false} by default
+   * @since 1.2.0
+   */
+  boolean scopedReset() default false;
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+/**
+ * A shared logger that drops all calls, see {@link LoggerRoute#NOOP}. It is not loggable at any level and does not
+ * evaluate message suppliers.
+ */
+final class NoOpLogger implements Logger {
+
+  static final NoOpLogger INSTANCE = new NoOpLogger();
+
+  private NoOpLogger() {
+  }
+
+  @Override
+  public String getName() {
+    return "no-op";
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    return false;
+  }
+
+  @Override
+  public void log(Level level, String message) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, Object object) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, String message, Throwable thrown) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, String format, Object... parameters) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    // drop the call
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    // drop the call
+  }
+
+  @Override
+  public String toString() {
+    return "No-op logger";
+  }
+
+}
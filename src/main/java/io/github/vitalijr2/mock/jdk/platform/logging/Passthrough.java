@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.System.LoggerFinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.ServiceLoader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Forwards logging calls to the loggers of the {@link LoggerFinder} that would be loaded without this library, so
+ * tests can verify logging and still see the real output.
+ * <p>
+ * That finder is found by {@link ServiceLoader} with providers of this library skipped, if there is none, calls go to
+ * {@code java.util.logging} like the default platform logger does, see {@link PlatformLogger}.
+ * <p>
+ * Calls are put to a bounded queue and a daemon thread drains it in batches, so slow output does not hold up the code
+ * under test: levels are checked and message suppliers are evaluated on the calling thread, parameters are formatted
+ * by the backend on the background thread. All passthroughs share one thread that is started by the first forwarded call,
+ * so logger finders that tests create and drop do not leave threads behind. If the queue is full, the call is not forwarded and it is counted as
+ * dropped. A failing backend call is counted as failed, the thread goes on. {@link MockLoggerFinder} flushes queued
+ * calls when the JVM shuts down.
+ */
+final class Passthrough {
+
+  static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(1);
+
+  private final Function<String, Logger> delegates;
+  private final BlockingQueue<Runnable> queue;
+  private final int batchSize;
+  private final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+  private final AtomicLong accepted = new AtomicLong();
+  private final AtomicLong forwarded = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final Object drained = new Object();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * Create a passthrough.
+   *
+   * @param delegates real loggers by name
+   * @param queueSize capacity of the queue
+   * @param batchSize how many calls the thread takes from the queue at once
+   */
+  @VisibleForTesting
+  Passthrough(Function<String, Logger> delegates, int queueSize, int batchSize) {
+    if (0 >= queueSize || 0 >= batchSize) {
+      throw new IllegalArgumentException("Queue and batch sizes must be positive: " + queueSize + ", " + batchSize);
+    }
+    this.delegates = delegates;
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Create a passthrough to the loggers of the other logger finder.
+   *
+   * @param configuration configuration with sizes of the queue and batches
+   * @return passthrough
+   */
+  static Passthrough create(Configuration configuration) {
+    return new Passthrough(findBackend(), configuration.getPassthroughQueueSize(),
+        configuration.getPassthroughBatchSize());
+  }
+
+  /**
+   * Returns loggers of the real backend: the first other logger finder, or {@code java.util.logging} if there is
+   * none. The passthrough and the {@link LoggerRoute#PLATFORM platform route} share it.
+   *
+   * @return factory of backend loggers by name
+   */
+  static Function<String, Logger> findBackend() {
+    return findLoggerFinder().<Function<String, Logger>>map(
+        finder -> name -> finder.getLogger(name, Passthrough.class.getModule())).orElse(PlatformLogger::new);
+  }
+
+  /**
+   * Looks for a logger finder that is not provided by this library.
+   *
+   * @return the first other logger finder, or empty optional if there is none
+   */
+  static Optional<LoggerFinder> findLoggerFinder() {
+    return ServiceLoader.load(LoggerFinder.class, ClassLoader.getSystemClassLoader()).stream()
+        .filter(provider -> !MockLoggerFinder.class.isAssignableFrom(provider.type())).findFirst()
+        .map(ServiceLoader.Provider::get);
+  }
+
+  /**
+   * Returns a logger that forwards calls through the queue to the real logger with the same name.
+   *
+   * @param name logger name
+   * @return forwarding logger
+   */
+  Logger getLogger(String name) {
+    return loggers.computeIfAbsent(name, key -> new ForwardingLogger(delegates.apply(key)));
+  }
+
+  /**
+   * Waits until all calls that are accepted so far are forwarded.
+   *
+   * @param timeout how long to wait at most
+   * @return {@code true} if the queue is drained
+   */
+  boolean flush(Duration timeout) {
+    var deadline = System.nanoTime() + timeout.toNanos();
+    var target = accepted.get();
+
+    synchronized (drained) {
+      while (forwarded.get() < target) {
+        var remaining = deadline - System.nanoTime();
+
+        if (0 >= remaining) {
+          return false;
+        }
+        try {
+          TimeUnit.NANOSECONDS.timedWait(drained, remaining);
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Number of calls that were not forwarded because the queue was full.
+   *
+   * @return dropped calls
+   */
+  long getDropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Number of calls that the real logger failed on.
+   *
+   * @return failed calls
+   */
+  long getFailed() {
+    return failed.get();
+  }
+
+  private void enqueue(Runnable call) {
+    if (queue.offer(call)) {
+      accepted.incrementAndGet();
+      if (scheduled.compareAndSet(false, true)) {
+        Drainer.PENDING.add(this);
+      }
+    } else {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private void drain(List<Runnable> batch) {
+    // a call that is queued from now on schedules the passthrough again
+    scheduled.set(false);
+    while (0 < queue.drainTo(batch, batchSize)) {
+      for (var call : batch) {
+        try {
+          call.run();
+        } catch (Throwable throwable) {
+          // a failing backend must not stop the thread: later calls would pile up in the queue
+          failed.incrementAndGet();
+        }
+      }
+      forwarded.addAndGet(batch.size());
+      synchronized (drained) {
+        drained.notifyAll();
+      }
+      batch.clear();
+    }
+  }
+
+  /**
+   * The thread that drains queues of all passthroughs: a passthrough is pending while its queue has calls.
+   */
+  private static final class Drainer {
+
+    static final BlockingQueue<Passthrough> PENDING = new LinkedBlockingQueue<>();
+
+    static {
+      var thread = new Thread(Drainer::run, "mock-logger-passthrough");
+
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    private static void run() {
+      var batch = new ArrayList<Runnable>();
+
+      while (true) {
+        try {
+          PENDING.take().drain(batch);
+        } catch (InterruptedException exception) {
+          return;
+        }
+      }
+    }
+
+  }
+
+  private class ForwardingLogger implements Logger {
+
+    private final Logger delegate;
+
+    ForwardingLogger(Logger delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+      return delegate.getName();
+    }
+
+    @Override
+    public boolean isLoggable(Level level) {
+      return delegate.isLoggable(level);
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+      if (delegate.isLoggable(level)) {
+        enqueue(() -> delegate.log(level, bundle, message, thrown));
+      }
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+      if (delegate.isLoggable(level)) {
+        var copy = (null == parameters) ? null : parameters.clone();
+
+        enqueue(() -> delegate.log(level, bundle, format, copy));
+      }
+    }
+
+  }
+
+}
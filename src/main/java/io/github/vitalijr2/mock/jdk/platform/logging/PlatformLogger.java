@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.Arrays;
+import java.util.ResourceBundle;
+import java.util.logging.LogRecord;
+
+/**
+ * A logger that writes to {@code java.util.logging} like the default platform logger does, it is the backend of
+ * {@link LoggerRoute#PLATFORM} and {@link Passthrough} if there is no other logger finder. A level is mapped to the
+ * {@code java.util.logging} level with the same severity.
+ */
+final class PlatformLogger implements Logger {
+
+  private static final java.util.logging.Level[] LEVELS = Arrays.stream(Level.values())
+      .map(level -> java.util.logging.Level.parse(String.valueOf(level.getSeverity())))
+      .toArray(java.util.logging.Level[]::new);
+
+  private final java.util.logging.Logger logger;
+
+  PlatformLogger(String name) {
+    this.logger = java.util.logging.Logger.getLogger(name);
+  }
+
+  static java.util.logging.Level toJulLevel(Level level) {
+    return LEVELS[level.ordinal()];
+  }
+
+  @Override
+  public String getName() {
+    return logger.getName();
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    return logger.isLoggable(toJulLevel(level));
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    if (isLoggable(level)) {
+      var logRecord = createRecord(level, bundle, message);
+
+      logRecord.setThrown(thrown);
+      logger.log(logRecord);
+    }
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    if (isLoggable(level)) {
+      var logRecord = createRecord(level, bundle, format);
+
+      logRecord.setParameters(parameters);
+      logger.log(logRecord);
+    }
+  }
+
+  private LogRecord createRecord(Level level, ResourceBundle bundle, String message) {
+    var logRecord = new LogRecord(toJulLevel(level), message);
+
+    logRecord.setLoggerName(logger.getName());
+    logRecord.setResourceBundle(bundle);
+    // the caller is not inferred: it would be this adapter
+    logRecord.setSourceClassName(null);
+
+    return logRecord;
+  }
+
+  @Override
+  public String toString() {
+    return "Platform logger " + logger.getName();
+  }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A logger that records logging calls instead of Mockito mocks.
+ * <p>
+ * A Mockito mock keeps an invocation object with arguments, location and stack trace for every call. The recording
+ * logger puts the level, the message, parameters, throwable, thread name and timestamp into a preallocated buffer,
+ * that is much cheaper for code under test that logs a lot. Use {@link LogAssertions} to check recorded events.
+ * <p>
+ * Enable it by the system property {@code mock.jdk.platform.logging.mode=recording}, the property
+ * {@code mock.jdk.platform.logging.capacity} sets initial size of the buffer. The buffer grows unless a retention
+ * limit is set, see {@link EventRetention}.
+ * <p>
+ * Message suppliers are evaluated at capture time like a real logger does. With the property
+ * {@code mock.jdk.platform.logging.lazy-suppliers=true} the logger keeps suppliers and evaluates them when an event
+ * is read, so the cost of building messages in code under test can be measured separately.
+ * <p>
+ * If many threads log through the same logger, the property {@code mock.jdk.platform.logging.stripes} splits the
+ * buffer: threads write to different buffers that are merged by sequence numbers only when events are read.
+ * <p>
+ * The capture policy, see {@link MockLoggerFinder}, drops or samples calls below a minimum level: a dropped call is
+ * counted but not recorded, its message supplier is not evaluated unless the call is forwarded.
+ * <p>
+ * With the property {@code mock.jdk.platform.logging.passthrough=true} every call is forwarded to the real logger
+ * through a background thread as well, whether it is recorded or not.
+ * <p>
+ * Example:
+ * <pre><code class="language-java">
+ *   {@literal @}Test
+ *   void helloWorld() {
+ *     var helloService = new HelloService();
+ *
+ *     assertDoesNotThrow(helloService::sayHelloWorld);
+ *
+ *     assertLogged(System.getLogger("HelloService"), Level.INFO, "Hello World!");
+ *   }
+ * </code></pre>
+ *
+ * @since 1.2.0
+ */
+public final class RecordingLogger implements ResettableLogger {
+
+  private final String name;
+  private final EventStore buffer;
+  private final LoggerContext context;
+  private final CaptureFilter filter;
+  private final boolean lazySuppliers;
+  private final Logger passthrough;
+
+  private volatile boolean used;
+
+  RecordingLogger(String name, int capacity) {
+    this(name, new EventBuffer(name, capacity), false, LoggerContext.DETACHED);
+  }
+
+  RecordingLogger(String name, int capacity, boolean lazySuppliers, LoggerContext context) {
+    this(name, new EventBuffer(name, capacity), lazySuppliers, context);
+  }
+
+  RecordingLogger(String name, EventStore buffer, boolean lazySuppliers, LoggerContext context) {
+    this.name = name;
+    this.buffer = buffer;
+    this.lazySuppliers = lazySuppliers;
+    this.context = context;
+    this.filter = context.getCapturePolicy().filter(name);
+    this.passthrough = context.getPassthrough(name);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * All levels except {@link Level#OFF} are loggable unless a {@link LoggableLevel loggable level} is declared or the
+   * capture policy drops the level.
+   *
+   * @param level logging level
+   * @return {@code true} if the level is loggable
+   */
+  @Override
+  public boolean isLoggable(Level level) {
+    return context.isLoggable(name, level, Level.OFF != level);
+  }
+
+  @Override
+  public void log(Level level, String message) {
+    add(level, null, message, null, null);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier) {
+    add(level, messageSupplier, null);
+  }
+
+  @Override
+  public void log(Level level, Object object) {
+    add(level, null, object.toString(), null, null);
+  }
+
+  @Override
+  public void log(Level level, String message, Throwable thrown) {
+    add(level, null, message, null, thrown);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    add(level, messageSupplier, thrown);
+  }
+
+  @Override
+  public void log(Level level, String format, Object... parameters) {
+    add(level, null, format, parameters, null);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    add(level, bundle, message, null, thrown);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    add(level, bundle, format, parameters, null);
+  }
+
+  /**
+   * Recorded events in the order they were logged.
+   *
+   * @return copy of recorded events
+   */
+  @NotNull
+  public List<LogEvent> getEvents() {
+    return buffer.toList();
+  }
+
+  /**
+   * Exact numbers of logging calls per level, including events that were evicted or not kept because of the
+   * retention limit, and calls that were dropped by the capture policy.
+   *
+   * @return counts per level
+   */
+  @NotNull
+  public LevelCounts getCounts() {
+    return buffer.getCounts().plus(filter.getDropped());
+  }
+
+  /**
+   * Exact numbers of logging calls per level that were not recorded because of the capture policy.
+   *
+   * @return counts per level
+   */
+  @NotNull
+  public LevelCounts getDroppedCounts() {
+    return filter.getDropped();
+  }
+
+  Supplier<LevelCounts> getCountsSource() {
+    var buffer = this.buffer;
+    var filter = this.filter;
+
+    return () -> buffer.getCounts().plus(filter.getDropped());
+  }
+
+  /**
+   * Forget recorded events and counts.
+   */
+  @Override
+  public void reset() {
+    used = false;
+    buffer.clear();
+    filter.reset();
+  }
+
+  /**
+   * Forget events of a test, events of other tests are kept.
+   *
+   * @param contextId context of the test
+   */
+  void removeContext(long contextId) {
+    buffer.removeContext(contextId);
+  }
+
+  private void add(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    AllocationAccount.loggingCall(context, name, level, null, null);
+    if (!filter.accept(level)) {
+      track();
+      forward(level, messageSupplier, thrown);
+    } else if (lazySuppliers) {
+      track();
+      buffer.add(context.getRetention(), level, null, null, messageSupplier, null, thrown);
+      context.eventCaptured(name, level, null);
+      forward(level, messageSupplier, thrown);
+    } else {
+      var message = messageSupplier.get();
+
+      record(level, null, message, null, thrown);
+      forward(level, null, message, null, thrown);
+    }
+  }
+
+  private void add(Level level, ResourceBundle bundle, String message, Object[] parameters, Throwable thrown) {
+    AllocationAccount.loggingCall(context, name, level, message, parameters);
+    if (filter.accept(level)) {
+      record(level, bundle, message, parameters, thrown);
+    } else {
+      track();
+    }
+    forward(level, bundle, message, parameters, thrown);
+  }
+
+  private void forward(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    if (null != passthrough) {
+      passthrough.log(level, messageSupplier, thrown);
+    }
+  }
+
+  private void forward(Level level, ResourceBundle bundle, String message, Object[] parameters, Throwable thrown) {
+    if (null == passthrough) {
+      return;
+    }
+    if (null == parameters) {
+      passthrough.log(level, bundle, message, thrown);
+    } else {
+      passthrough.log(level, bundle, message, parameters);
+    }
+  }
+
+  private void record(Level level, ResourceBundle bundle, String message, Object[] parameters, Throwable thrown) {
+    track();
+    buffer.add(context.getRetention(), level, bundle, message, null, parameters, thrown);
+    context.eventCaptured(name, level, message);
+  }
+
+  private void track() {
+    if (!used) {
+      used = true;
+      context.markUsed(name);
+    }
+    context.sampleCallSite(name);
+  }
+
+  @Override
+  public String toString() {
+    return "Recording logger " + name;
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+/**
+ * A throwable that is read back from a journal or an export: it keeps the class name and the message of the original
+ * one, but not its stack trace.
+ */
+class RestoredThrowable extends Throwable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String className;
+
+  RestoredThrowable(String className, String message) {
+    super(message, null, false, false);
+    this.className = className;
+  }
+
+  String getClassName() {
+    return className;
+  }
+
+  @Override
+  public String toString() {
+    var message = getLocalizedMessage();
+
+    return (null == message) ? className : className + ": " + message;
+  }
+
+}
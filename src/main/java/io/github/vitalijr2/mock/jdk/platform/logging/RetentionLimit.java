@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+/**
+ * Retention policy with its limit.
+ */
+final class RetentionLimit {
+
+  static final RetentionLimit ALL = new RetentionLimit(EventRetention.ALL, 0);
+
+  private final EventRetention policy;
+  private final int limit;
+
+  private RetentionLimit(EventRetention policy, int limit) {
+    this.policy = policy;
+    this.limit = limit;
+  }
+
+  static RetentionLimit of(EventRetention policy, int limit) {
+    if (EventRetention.ALL == policy) {
+      return ALL;
+    }
+    if (0 >= limit) {
+      throw new IllegalArgumentException("Retention limit must be positive: " + limit);
+    }
+
+    return new RetentionLimit(policy, limit);
+  }
+
+  EventRetention getPolicy() {
+    return policy;
+  }
+
+  int getLimit() {
+    return limit;
+  }
+
+  boolean isLimited() {
+    return EventRetention.ALL != policy;
+  }
+
+  @Override
+  public String toString() {
+    return isLimited() ? policy + " " + limit : policy.toString();
+  }
+
+}
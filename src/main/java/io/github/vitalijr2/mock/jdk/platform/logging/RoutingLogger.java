@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+/**
+ * Forwards logging calls to the logger with the same name in the registry of the current test.
+ * <p>
+ * Code under test usually keeps loggers in static fields, so it cannot get a logger of each test directly. The
+ * isolated {@link MockLoggerFinder} returns routing loggers instead, they choose the target logger on every call.
+ */
+final class RoutingLogger implements Logger {
+
+  private final String name;
+  private final MockLoggerFinder loggerFinder;
+
+  RoutingLogger(String name, MockLoggerFinder loggerFinder) {
+    this.name = name;
+    this.loggerFinder = loggerFinder;
+  }
+
+  /**
+   * Returns the logger of the current test.
+   *
+   * @return target logger
+   */
+  Logger getTarget() {
+    return loggerFinder.getCurrentRegistry().getLogger(name);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    return getTarget().isLoggable(level);
+  }
+
+  @Override
+  public void log(Level level, String message) {
+    getTarget().log(level, message);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier) {
+    getTarget().log(level, messageSupplier);
+  }
+
+  @Override
+  public void log(Level level, Object object) {
+    getTarget().log(level, object);
+  }
+
+  @Override
+  public void log(Level level, String message, Throwable thrown) {
+    getTarget().log(level, message, thrown);
+  }
+
+  @Override
+  public void log(Level level, Supplier<String> messageSupplier, Throwable thrown) {
+    getTarget().log(level, messageSupplier, thrown);
+  }
+
+  @Override
+  public void log(Level level, String format, Object... parameters) {
+    getTarget().log(level, format, parameters);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+    getTarget().log(level, bundle, message, thrown);
+  }
+
+  @Override
+  public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+    getTarget().log(level, bundle, format, parameters);
+  }
+
+  @Override
+  public String toString() {
+    return "Routing logger " + name;
+  }
+
+}
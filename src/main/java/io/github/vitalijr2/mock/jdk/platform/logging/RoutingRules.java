@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Routing rules of logger names, see {@link LoggerRoute}.
+ */
+final class RoutingRules {
+
+  private static final String MODULE_SELECTOR = "module:";
+  private static final RoutingRules EMPTY = new RoutingRules(List.of());
+
+  private final List<Rule> rules;
+
+  private RoutingRules(List<Rule> rules) {
+    this.rules = rules;
+  }
+
+  /**
+   * Parses comma-separated rules {@code selector=route}.
+   *
+   * @param value rules, can be {@code null}
+   * @return routing rules
+   * @throws IllegalArgumentException if a rule is wrong
+   */
+  static RoutingRules parse(String value) {
+    if (null == value || value.isBlank()) {
+      return EMPTY;
+    }
+
+    var rules = new ArrayList<Rule>();
+
+    for (var rule : value.split(",")) {
+      if (rule.isBlank()) {
+        continue;
+      }
+
+      var separator = rule.lastIndexOf('=');
+      var selector = (0 < separator) ? rule.substring(0, separator).trim() : "";
+
+      if (selector.isEmpty() || MODULE_SELECTOR.equals(selector)) {
+        throw new IllegalArgumentException("Wrong routing rule: " + rule.trim());
+      }
+      try {
+        rules.add(new Rule(selector,
+            LoggerRoute.valueOf(rule.substring(separator + 1).trim().toUpperCase(Locale.ROOT))));
+      } catch (IllegalArgumentException exception) {
+        throw new IllegalArgumentException("Wrong routing rule: " + rule.trim(), exception);
+      }
+    }
+
+    return new RoutingRules(List.copyOf(rules));
+  }
+
+  boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  /**
+   * Finds the route of a logger.
+   *
+   * @param loggerName logger name
+   * @param module     module that requests the logger, can be {@code null}
+   * @return route of the first matching rule, {@link LoggerRoute#MOCK} if no rule matches
+   */
+  LoggerRoute route(String loggerName, Module module) {
+    var moduleName = (null == module) ? null : module.getName();
+
+    for (var rule : rules) {
+      if (rule.matches(loggerName, moduleName)) {
+        return rule.route;
+      }
+    }
+
+    return LoggerRoute.MOCK;
+  }
+
+  private static class Rule {
+
+    private final String prefix;
+    private final Pattern glob;
+    private final String moduleName;
+    private final LoggerRoute route;
+
+    Rule(String selector, LoggerRoute route) {
+      this.route = route;
+      if (selector.startsWith(MODULE_SELECTOR)) {
+        moduleName = selector.substring(MODULE_SELECTOR.length()).trim();
+        prefix = null;
+        glob = null;
+      } else if (0 <= selector.indexOf('*') || 0 <= selector.indexOf('?')) {
+        moduleName = null;
+        prefix = null;
+        glob = toPattern(selector);
+      } else {
+        moduleName = null;
+        prefix = selector;
+        glob = null;
+      }
+    }
+
+    private static Pattern toPattern(String glob) {
+      var regex = new StringBuilder();
+      var literal = new StringBuilder();
+
+      for (var character : glob.toCharArray()) {
+        if ('*' == character || '?' == character) {
+          if (0 < literal.length()) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+          }
+          regex.append(('*' == character) ? ".*" : ".");
+        } else {
+          literal.append(character);
+        }
+      }
+      if (0 < literal.length()) {
+        regex.append(Pattern.quote(literal.toString()));
+      }
+
+      return Pattern.compile(regex.toString());
+    }
+
+    boolean matches(String loggerName, String requestingModule) {
+      if (null != moduleName) {
+        return moduleName.equals(requestingModule);
+      }
+      if (null != glob) {
+        return glob.matcher(loggerName).matches();
+      }
+
+      return loggerName.startsWith(prefix);
+    }
+
+  }
+
+}
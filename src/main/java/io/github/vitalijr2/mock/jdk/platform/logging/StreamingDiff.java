@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * A diff of two streams of lines that keeps only a window of lines in memory.
+ * <p>
+ * Equal lines are consumed in pairs. At the first mismatch the diff looks ahead at most {@code window} lines on both
+ * sides for the nearest pair of equal lines, lines before it are missing ({@code -}) on the expected side or
+ * unexpected ({@code +}) on the actual side. If there is no such pair, the current lines are changed. The look-ahead
+ * indexes lines of the expected side by their text, so the time is {@code O(lines * window)} at worst and the
+ * buffers keep about {@code window} lines; a reordering of more than {@code window} lines is reported as changed
+ * lines.
+ * <p>
+ * The report keeps a limited number of differences, the numbers of missing and unexpected lines are exact.
+ */
+final class StreamingDiff {
+
+  private final Window expected;
+  private final Window actual;
+  private final int window;
+  private final int reportLimit;
+  private final StringBuilder report = new StringBuilder();
+
+  private long missing;
+  private long unexpected;
+  private long reported;
+  private long expectedLine;
+  private long actualLine;
+
+  StreamingDiff(Iterator<String> expected, Iterator<String> actual, int window, int reportLimit) {
+    this.expected = new Window(expected);
+    this.actual = new Window(actual);
+    this.window = window;
+    this.reportLimit = reportLimit;
+  }
+
+  /**
+   * Compares all lines.
+   *
+   * @return this diff
+   */
+  StreamingDiff run() {
+    while (true) {
+      var expectedHead = expected.peek(0);
+      var actualHead = actual.peek(0);
+
+      if (null == expectedHead && null == actualHead) {
+        return this;
+      }
+      if (null != expectedHead && expectedHead.equals(actualHead)) {
+        expected.next();
+        actual.next();
+        expectedLine++;
+        actualLine++;
+        continue;
+      }
+      resync();
+    }
+  }
+
+  boolean isEqual() {
+    return 0 == missing && 0 == unexpected;
+  }
+
+  long getMissing() {
+    return missing;
+  }
+
+  long getUnexpected() {
+    return unexpected;
+  }
+
+  /**
+   * Differences with line numbers of the expected side, the report is cut after the limit.
+   *
+   * @return report lines that start with a line break
+   */
+  String getReport() {
+    var hidden = missing + unexpected - reported;
+
+    return (0 < hidden) ? report + "\n  ... " + hidden + " more difference(s)" : report.toString();
+  }
+
+  private void resync() {
+    var expectedIndexes = new HashMap<String, Integer>();
+
+    for (int i = 0; window >= i; i++) {
+      var line = expected.peek(i);
+
+      if (null == line) {
+        break;
+      }
+      expectedIndexes.putIfAbsent(line, i);
+    }
+
+    var bestExpected = -1;
+    var bestActual = -1;
+
+    for (int j = 0; window >= j; j++) {
+      var line = actual.peek(j);
+
+      if (null == line || (0 <= bestExpected && bestExpected + bestActual < j)) {
+        break;
+      }
+
+      var i = expectedIndexes.get(line);
+
+      // the nearest pair wins, of equally near pairs the one with fewer missing lines
+      if (null != i && (0 > bestExpected || i + j < bestExpected + bestActual
+          || (i + j == bestExpected + bestActual && i < bestExpected))) {
+        bestExpected = i;
+        bestActual = j;
+      }
+    }
+    if (0 <= bestExpected) {
+      skip(bestExpected, bestActual);
+    } else {
+      skip((null == expected.peek(0)) ? 0 : 1, (null == actual.peek(0)) ? 0 : 1);
+    }
+  }
+
+  @VisibleForTesting
+  int getPeakBufferSize() {
+    return Math.max(expected.peakSize, actual.peakSize);
+  }
+
+  private void skip(int skippedExpected, int skippedActual) {
+    if (reportLimit > reported) {
+      report.append("\n  @@ line ").append(expectedLine + 1);
+    }
+    for (int i = 0; skippedExpected > i; i++) {
+      add('-', expected.next());
+      missing++;
+      expectedLine++;
+    }
+    for (int i = 0; skippedActual > i; i++) {
+      add('+', actual.next());
+      unexpected++;
+      actualLine++;
+    }
+  }
+
+  private void add(char marker, String line) {
+    if (reportLimit > reported) {
+      report.append("\n  ").append(marker).append(' ').append(line);
+      reported++;
+    }
+  }
+
+  private static class Window {
+
+    private final Iterator<String> lines;
+    private final List<String> buffer = new ArrayList<>();
+
+    private int head;
+    private int peakSize;
+
+    Window(Iterator<String> lines) {
+      this.lines = lines;
+    }
+
+    String peek(int index) {
+      while (buffer.size() - head <= index && lines.hasNext()) {
+        buffer.add(lines.next());
+      }
+      peakSize = Math.max(peakSize, buffer.size());
+
+      return (buffer.size() - head <= index) ? null : buffer.get(head + index);
+    }
+
+    String next() {
+      if (buffer.size() == head) {
+        return lines.next();
+      }
+
+      var line = buffer.get(head++);
+
+      // consumed lines are dropped once they take half of the buffer, so it does not grow beyond the window
+      if (head > buffer.size() / 2) {
+        buffer.subList(0, head).clear();
+        head = 0;
+      }
+
+      return line;
+    }
+
+  }
+
+}
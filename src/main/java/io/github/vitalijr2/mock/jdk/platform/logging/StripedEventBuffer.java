@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Storage of logging calls for code under test that logs from many threads through the same logger.
+ * <p>
+ * A thread writes to one of several {@link EventBuffer buffers} that is chosen by its id, so threads rarely contend on
+ * the same lock. A call takes a sequence number from an atomic counter; when events are read, the buffers are merged
+ * in the order of sequence numbers.
+ * <p>
+ * Every buffer applies the retention limit to its own events. The first or the last events of the logger are among
+ * the first or the last events of the buffers, so the merged view is trimmed to the limit exactly.
+ */
+class StripedEventBuffer implements EventStore {
+
+  private final EventBuffer[] stripes;
+  private final int mask;
+  private final AtomicLong sequence = new AtomicLong();
+
+  private volatile RetentionLimit retention = RetentionLimit.ALL;
+
+  StripedEventBuffer(String loggerName, int capacity, int stripeCount) {
+    if (0 >= stripeCount) {
+      throw new IllegalArgumentException("Number of stripes must be positive: " + stripeCount);
+    }
+
+    var size = Integer.highestOneBit(stripeCount);
+
+    if (size < stripeCount) {
+      size <<= 1;
+    }
+    stripes = new EventBuffer[size];
+    for (int i = 0; size > i; i++) {
+      stripes[i] = new EventBuffer(loggerName, Math.max(1, capacity / size));
+    }
+    mask = size - 1;
+  }
+
+  @Override
+  public void add(RetentionLimit retention, Level level, ResourceBundle bundle, String message,
+      Supplier<String> messageSupplier, Object[] parameters, Throwable thrown) {
+    if (this.retention != retention) {
+      this.retention = retention;
+    }
+    stripes[(int) Thread.currentThread().getId() & mask].add(retention, level, bundle, message, messageSupplier,
+        parameters, thrown, sequence.incrementAndGet());
+  }
+
+  @Override
+  public void clear() {
+    for (var stripe : stripes) {
+      stripe.clear();
+    }
+  }
+
+  @Override
+  public void removeContext(long contextId) {
+    for (var stripe : stripes) {
+      stripe.removeContext(contextId);
+    }
+  }
+
+  @Override
+  public LevelCounts getCounts() {
+    var counts = new long[Level.values().length];
+
+    for (var stripe : stripes) {
+      var stripeCounts = stripe.getCounts();
+
+      for (var level : Level.values()) {
+        counts[level.ordinal()] += stripeCounts.get(level);
+      }
+    }
+
+    return new LevelCounts(counts);
+  }
+
+  @Override
+  public List<LogEvent> toList() {
+    var events = new ArrayList<LogEvent>();
+
+    for (var stripe : stripes) {
+      events.addAll(stripe.toList());
+    }
+    events.sort(Comparator.comparingLong(LogEvent::getSequence));
+
+    var currentRetention = retention;
+
+    if (!currentRetention.isLimited() || currentRetention.getLimit() >= events.size()) {
+      return events;
+    }
+    if (EventRetention.FIRST == currentRetention.getPolicy()) {
+      return new ArrayList<>(events.subList(0, currentRetention.getLimit()));
+    }
+
+    return new ArrayList<>(events.subList(events.size() - currentRetention.getLimit(), events.size()));
+  }
+
+  int getStripeCount() {
+    return stripes.length;
+  }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.reset;
+
+import java.lang.System.Logger;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentMatcher;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.MatchableInvocation;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.Stubbing;
+
+/**
+ * Stubbings of mock loggers that a test class has declared before its first test, for example in
+ * {@link org.junit.jupiter.api.BeforeAll}.
+ * <p>
+ * After a test the extension restores the snapshot instead of a full reset. If the test has neither stubbed anything
+ * nor consumed consecutive answers like {@code thenReturn(a, b)}, the stubbings are the same objects with the same
+ * answers, and only invocations are cleared. Otherwise the mock is reset and the stubbings of the snapshot are applied
+ * again in their original order, with their original matchers and a fresh copy of their answers, so every test starts
+ * at the first answer of a sequence.
+ * <p>
+ * When the test class is finished, its stubbings are reset.
+ */
+final class StubbingSnapshot implements ExtensionContext.Store.CloseableResource {
+
+  private static final String ANSWERS_FIELD = "answers";
+
+  private final Map<Logger, List<Stubbing>> stubbings = new HashMap<>();
+  private final Map<Logger, List<List<Answer<?>>>> answers = new HashMap<>();
+
+  StubbingSnapshot(Map<String, Logger> loggers) {
+    loggers.values().forEach(logger -> {
+      var details = mockingDetails(logger);
+
+      if (details.isMock() && !details.getStubbings().isEmpty()) {
+        var loggerStubbings = new ArrayList<>(details.getStubbings());
+        var loggerAnswers = new ArrayList<List<Answer<?>>>();
+
+        loggerStubbings.forEach(stubbing -> loggerAnswers.add(List.copyOf(getAnswers(stubbing))));
+        stubbings.put(logger, loggerStubbings);
+        answers.put(logger, loggerAnswers);
+      }
+    });
+  }
+
+  /**
+   * Clears invocations of a mock logger and restores its stubbings.
+   *
+   * @param logger mock logger
+   * @return {@code false} if the logger is not in the snapshot
+   */
+  boolean restore(Logger logger) {
+    var snapshot = stubbings.get(logger);
+
+    if (null == snapshot) {
+      return false;
+    }
+    var snapshotAnswers = answers.get(logger);
+
+    if (!isIntact(logger, snapshot, snapshotAnswers)) {
+      reset(logger);
+      for (int i = 0; snapshot.size() > i; i++) {
+        stub(logger, snapshot.get(i), snapshotAnswers.get(i));
+      }
+      stubbings.put(logger, new ArrayList<>(mockingDetails(logger).getStubbings()));
+    }
+    clearInvocations(logger);
+    InvocationTracker.of(logger).ifPresent(InvocationTracker::reset);
+
+    return true;
+  }
+
+  int size() {
+    return stubbings.size();
+  }
+
+  @Override
+  public void close() {
+    stubbings.keySet().forEach(logger -> {
+      clearInvocations(logger);
+      reset(logger);
+      InvocationTracker.of(logger).ifPresent(InvocationTracker::reset);
+    });
+  }
+
+  private static boolean isIntact(Logger logger, List<Stubbing> snapshot, List<List<Answer<?>>> snapshotAnswers) {
+    if (!snapshot.equals(new ArrayList<>(mockingDetails(logger).getStubbings()))) {
+      return false;
+    }
+    for (int i = 0; snapshot.size() > i; i++) {
+      if (!snapshotAnswers.get(i).equals(List.copyOf(getAnswers(snapshot.get(i))))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Mockito keeps consecutive answers of a stubbing in a queue and consumes it on every call, the public API does not
+   * expose the queue.
+   */
+  @SuppressWarnings("unchecked")
+  private static Collection<Answer<?>> getAnswers(Stubbing stubbing) {
+    try {
+      var field = stubbing.getClass().getDeclaredField(ANSWERS_FIELD);
+
+      field.setAccessible(true);
+
+      var queue = (Collection<Answer<?>>) field.get(stubbing);
+
+      synchronized (queue) {
+        return new ArrayList<>(queue);
+      }
+    } catch (NoSuchFieldException | IllegalAccessException | RuntimeException exception) {
+      throw new IllegalStateException("Cannot read answers of the stubbing: " + stubbing, exception);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void stub(Logger logger, Stubbing stubbing, List<Answer<?>> stubbingAnswers) {
+    if (!(stubbing instanceof MatchableInvocation) || stubbingAnswers.isEmpty()) {
+      throw new IllegalStateException("Cannot restore the stubbing: " + stubbing);
+    }
+
+    var method = stubbing.getInvocation().getMethod();
+    var matchers = ((MatchableInvocation) stubbing).getMatchers();
+    var stubber = Mockito.doAnswer(stubbingAnswers.get(0));
+
+    for (int i = 1; stubbingAnswers.size() > i; i++) {
+      stubber = stubber.doAnswer(stubbingAnswers.get(i));
+    }
+
+    var target = stubber.when(logger);
+
+    matchers.forEach(matcher -> ArgumentMatchers.argThat((ArgumentMatcher<Object>) matcher));
+    try {
+      method.invoke(target, arguments(method, matchers.size()));
+    } catch (IllegalAccessException | InvocationTargetException exception) {
+      throw new IllegalStateException("Cannot restore the stubbing: " + stubbing, exception);
+    }
+  }
+
+  private static Object[] arguments(Method method, int matcherCount) {
+    var parameterTypes = method.getParameterTypes();
+    var arguments = new Object[parameterTypes.length];
+
+    if (method.isVarArgs()) {
+      var last = parameterTypes.length - 1;
+
+      arguments[last] = Array.newInstance(parameterTypes[last].getComponentType(),
+          Math.max(0, matcherCount - last));
+    }
+
+    return arguments;
+  }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 Vitalij Berdinskih
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import java.lang.System.Logger;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A logger map with weak values: a logger that is no longer referenced by code under test or by tests is evicted by
+ * the garbage collector.
+ * <p>
+ * A reference keeps the counts of its logger, that is the invocation tracker of a mock, the counters of a counting or
+ * journal logger, or the event buffer of a recording logger, but not the logger itself. When an evicted logger is
+ * expunged, its counts are passed to the eviction listener, so the hot spot report does not lose them. Evicted
+ * loggers are expunged on every access to the map.
+ * <p>
+ * A logger that is used since the last reset is pinned: the map holds it strongly, so a test that verifies a
+ * dynamically named mock gets the same mock that code under test has logged to, even if code under test no longer
+ * references it. The registry pins a logger on its first use and unpins it when it takes used loggers for the reset.
+ * <p>
+ * Views of the map are snapshots of live loggers.
+ */
+final class WeakLoggerMap extends AbstractMap<String, Logger> {
+
+  private final Map<String, LoggerReference> references = new ConcurrentHashMap<>();
+  private final Map<String, Logger> pinnedLoggers = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Logger> queue = new ReferenceQueue<>();
+  private final BiConsumer<String, LevelCounts> evictionListener;
+
+  /**
+   * Create a map.
+   *
+   * @param evictionListener gets counts of evicted loggers, {@code null} if nobody needs them
+   */
+  WeakLoggerMap(BiConsumer<String, LevelCounts> evictionListener) {
+    this.evictionListener = evictionListener;
+  }
+
+  @Override
+  public Logger get(Object name) {
+    expunge();
+
+    var reference = references.get(name);
+
+    return (null == reference) ? null : reference.get();
+  }
+
+  @Override
+  public Logger computeIfAbsent(String name, Function<? super String, ? extends Logger> loggerFactory) {
+    var logger = get(name);
+
+    if (null != logger) {
+      return logger;
+    }
+
+    var holder = new Logger[1];
+
+    references.compute(name, (key, reference) -> {
+      holder[0] = (null == reference) ? null : reference.get();
+      if (null != holder[0]) {
+        return reference;
+      }
+      holder[0] = loggerFactory.apply(key);
+
+      return new LoggerReference(key, holder[0], queue,
+          (null == evictionListener) ? null : CapturedEvents.countsSourceOf(holder[0]));
+    });
+
+    return holder[0];
+  }
+
+  /**
+   * Holds the logger strongly until it is unpinned.
+   *
+   * @param name logger name
+   */
+  void pin(String name) {
+    var logger = get(name);
+
+    if (null != logger) {
+      pinnedLoggers.put(name, logger);
+    }
+  }
+
+  /**
+   * Holds loggers weakly again.
+   *
+   * @param names logger names
+   */
+  void unpin(Collection<String> names) {
+    names.forEach(pinnedLoggers::remove);
+  }
+
+  @Override
+  public Set<Entry<String, Logger>> entrySet() {
+    expunge();
+
+    var liveLoggers = new HashMap<String, Logger>();
+
+    references.forEach((name, reference) -> {
+      var logger = reference.get();
+
+      if (null != logger) {
+        liveLoggers.put(name, logger);
+      }
+    });
+
+    return liveLoggers.entrySet();
+  }
+
+  private void expunge() {
+    for (var reference = queue.poll(); null != reference; reference = queue.poll()) {
+      var loggerReference = (LoggerReference) reference;
+
+      references.remove(loggerReference.name, loggerReference);
+      if (null != loggerReference.counts) {
+        var counts = loggerReference.counts.get();
+
+        if (0 < counts.getTotal()) {
+          evictionListener.accept(loggerReference.name, counts);
+        }
+      }
+    }
+  }
+
+  private static class LoggerReference extends WeakReference<Logger> {
+
+    private final String name;
+    private final Supplier<LevelCounts> counts;
+
+    LoggerReference(String name, Logger logger, ReferenceQueue<Logger> queue, Supplier<LevelCounts> counts) {
+      super(logger, queue);
+      this.name = name;
+      this.counts = counts;
+    }
+
+  }
+
+}
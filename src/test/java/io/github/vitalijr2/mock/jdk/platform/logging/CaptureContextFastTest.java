@@ -0,0 +1,90 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class CaptureContextFastTest {
+
+  @AfterEach
+  @BeforeEach
+  void closeContext() {
+    CaptureContext.close();
+  }
+
+  @DisplayName("A thread started by the test inherits its context")
+  @Test
+  void startedThread() throws InterruptedException {
+    // given
+    var contextId = CaptureContext.open();
+    var threadContextId = new AtomicLong(-1);
+    var thread = new Thread(() -> threadContextId.set(CaptureContext.current()));
+
+    // when
+    thread.start();
+    thread.join();
+
+    // then
+    assertEquals(contextId, threadContextId.get());
+  }
+
+  @DisplayName("A pooled thread keeps the context it was created with")
+  @Test
+  void pooledThread() throws ExecutionException, InterruptedException {
+    // given
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      var before = executor.submit(CaptureContext::current).get();
+      var contextId = CaptureContext.open();
+
+      // when
+      var during = executor.submit(CaptureContext::current).get();
+
+      // then
+      assertAll("Not propagated", () -> assertEquals(CaptureContext.NONE, before),
+          () -> assertEquals(CaptureContext.NONE, during), () -> assertEquals(contextId, CaptureContext.current()));
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @DisplayName("A pooled thread created by an older test keeps its context")
+  @Test
+  void pooledThreadOfOlderTest() throws ExecutionException, InterruptedException {
+    // given
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      var olderContextId = CaptureContext.open();
+
+      executor.submit(CaptureContext::current).get();
+
+      var contextId = CaptureContext.open();
+
+      // when
+      var pooledContextId = executor.submit(CaptureContext::current).get();
+
+      // then
+      assertAll("Context of the older test", () -> assertEquals(olderContextId, pooledContextId),
+          () -> assertNotEquals(contextId, pooledContextId));
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+  }
+
+}
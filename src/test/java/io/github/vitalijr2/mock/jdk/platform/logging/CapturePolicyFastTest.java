@@ -0,0 +1,218 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@Tag("fast")
+class CapturePolicyFastTest {
+
+  @DisplayName("The first matching rule wins, the default level applies to other loggers")
+  @ParameterizedTest(name = "{0}")
+  @CsvSource({"com.example.Service, DEBUG", "com.example.Client, INFO", "HelloService, WARNING"})
+  void minimumLevel(String loggerName, Level level) {
+    // given
+    var policy = CapturePolicy.parse("com.example.Service=debug, com.example.=INFO, WARNING", null);
+
+    // when and then
+    assertEquals(level, policy.getMinimumLevel(loggerName));
+  }
+
+  @DisplayName("Without sampling lower levels are dropped")
+  @Test
+  void dropped() {
+    // given
+    var policy = CapturePolicy.parse("WARNING", null);
+
+    // when and then
+    assertAll("Dropped levels", () -> assertTrue(policy.isDropped("test", Level.INFO)),
+        () -> assertFalse(policy.isDropped("test", Level.WARNING)),
+        () -> assertFalse(CapturePolicy.parse("WARNING", "10").isDropped("test", Level.INFO)),
+        () -> assertFalse(CapturePolicy.ALL.isDropped("test", Level.TRACE)),
+        () -> assertSame(CaptureFilter.ALL, CapturePolicy.parse("com.example.=INFO", null).filter("test")));
+  }
+
+  @DisplayName("No policy")
+  @Test
+  void noPolicy() {
+    assertAll("No policy", () -> assertSame(CapturePolicy.ALL, Configuration.empty().getCapturePolicy()),
+        () -> assertSame(CapturePolicy.ALL, CapturePolicy.parse(" , ", "10")),
+        () -> assertNull(CapturePolicy.ALL.getMinimumLevel("test")),
+        () -> assertTrue(CaptureFilter.ALL.accept(Level.TRACE)),
+        () -> assertEquals(0, CaptureFilter.ALL.getDropped().getTotal()));
+  }
+
+  @DisplayName("One of N calls is sampled, dropped calls are counted exactly")
+  @Test
+  void sampleOneOfN() {
+    // given
+    var filter = CapturePolicy.parse("INFO", "3").filter("test");
+
+    // when
+    var accepted = IntStream.range(0, 10).filter(i -> filter.accept(Level.DEBUG)).toArray();
+
+    filter.accept(Level.ERROR);
+
+    // then
+    assertAll("Sampled calls", () -> assertThat(accepted.length, is(4)),
+        () -> assertEquals(6, filter.getDropped().get(Level.DEBUG)),
+        () -> assertEquals(6, filter.getDropped().getTotal()));
+  }
+
+  @DisplayName("At most N calls per second are sampled")
+  @Test
+  void samplePerSecond() {
+    // given
+    var clock = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(500));
+    var filter = CapturePolicy.parse("INFO", "2/s", clock::get).filter("test");
+
+    // when
+    var firstSecond = IntStream.range(0, 5).filter(i -> filter.accept(Level.TRACE)).count();
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    var secondSecond = IntStream.range(0, 5).filter(i -> filter.accept(Level.TRACE)).count();
+
+    // then
+    assertAll("Sampled calls", () -> assertEquals(2, firstSecond), () -> assertEquals(2, secondSecond),
+        () -> assertEquals(6, filter.getDropped().get(Level.TRACE)));
+
+    // when
+    filter.reset();
+
+    // then
+    assertAll("Reset", () -> assertEquals(0, filter.getDropped().getTotal()),
+        () -> assertTrue(filter.accept(Level.TRACE)));
+  }
+
+  @DisplayName("Recording logger counts dropped calls and does not evaluate their suppliers")
+  @Test
+  @SuppressWarnings("unchecked")
+  void recordingLogger() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, "recording");
+    properties.setProperty(Configuration.CAPTURE_LEVEL, "INFO");
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger("test",
+        getClass().getModule());
+    Supplier<String> supplier = mock(Supplier.class);
+
+    // when
+    logger.log(Level.DEBUG, "debug message");
+    logger.log(Level.DEBUG, supplier);
+    logger.log(Level.INFO, "info message");
+
+    // then
+    verifyNoMoreInteractions(supplier);
+    assertAll("Recording logger", () -> assertFalse(logger.isLoggable(Level.DEBUG)),
+        () -> assertTrue(logger.isLoggable(Level.INFO)),
+        () -> assertThat(LogAssertions.getEvents(logger), contains(hasToString(
+            "test INFO info message"))), () -> assertEquals(3, LogAssertions.getCounts(logger).getTotal()),
+        () -> assertEquals(2, LogAssertions.getDroppedCounts(logger).get(Level.DEBUG)));
+
+    // when
+    ((ResettableLogger) logger).reset();
+
+    // then
+    assertEquals(0, LogAssertions.getDroppedCounts(logger).getTotal());
+  }
+
+  @DisplayName("Mock logger keeps dropped calls out of captured events and of verifyNoMoreInteractions")
+  @Test
+  void mockLogger() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.CAPTURE_LEVEL, "test=WARNING");
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger("test",
+        getClass().getModule());
+
+    // when
+    logger.log(Level.INFO, "info message");
+    logger.log(Level.ERROR, "error message");
+
+    // then
+    assertAll("Mock logger", () -> assertThat(LogAssertions.getEvents(logger), contains(
+            hasToString("test ERROR error message"))),
+        () -> assertEquals(2, LogAssertions.getCounts(logger).getTotal()),
+        () -> assertEquals(1, LogAssertions.getDroppedCounts(logger).get(Level.INFO)));
+    verify(logger).log(Level.ERROR, "error message");
+    verifyNoMoreInteractions(logger);
+  }
+
+  @DisplayName("An explicit verify still matches a dropped call of a mock logger")
+  @Test
+  void verifyDroppedCall() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.CAPTURE_LEVEL, "test=WARNING");
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger("test",
+        getClass().getModule());
+    var inOrder = inOrder(logger);
+
+    // when
+    logger.log(Level.INFO, "info message");
+    logger.log(Level.ERROR, "error message");
+
+    // then
+    verify(logger).log(Level.INFO, "info message");
+    inOrder.verify(logger).log(Level.ERROR, "error message");
+    inOrder.verifyNoMoreInteractions();
+    verifyNoMoreInteractions(logger);
+  }
+
+  @DisplayName("Wrong policy")
+  @ParameterizedTest(name = "<{0}> <{1}>")
+  @CsvSource(value = {"verbose, , Wrong capture level: verbose", "=INFO, , Wrong capture level: =INFO",
+      "test=loud, , Wrong capture level: test=loud", "INFO, 0, Wrong capture sampling: 0",
+      "INFO, often, Wrong capture sampling: often", "INFO, x/s, Wrong capture sampling: x/s"})
+  void wrongPolicy(String level, String sampling, String message) {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.CAPTURE_LEVEL, level);
+    if (null != sampling) {
+      properties.setProperty(Configuration.CAPTURE_SAMPLING, sampling);
+    }
+
+    var configuration = new Configuration(properties);
+
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, configuration::getCapturePolicy);
+
+    // then
+    assertEquals(message + " in mock.jdk.platform.logging.capture-level or mock.jdk.platform.logging.capture-sampling",
+        exception.getMessage());
+  }
+
+}
@@ -0,0 +1,161 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class ConfigurationFastTest {
+
+  @DisplayName("Default values")
+  @Test
+  void defaultValues() {
+    // given
+    var configuration = Configuration.empty();
+
+    // when and then
+    assertAll("Defaults", () -> assertEquals(LoggerMode.MOCK, configuration.getMode()),
+        () -> assertEquals(1024, configuration.getCapacity()),
+        () -> assertTrue(configuration.getBoolean("unknown", true)),
+        () -> assertNull(configuration.getString("unknown")));
+  }
+
+  @DisplayName("Parse values")
+  @Test
+  void parseValues() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", " Recording ");
+    properties.setProperty("capacity", "16");
+    properties.setProperty("flag", "false");
+    properties.setProperty("blank", "  ");
+
+    var configuration = new Configuration(properties);
+
+    // when and then
+    assertAll("Values", () -> assertEquals(LoggerMode.RECORDING, configuration.getMode()),
+        () -> assertEquals(16, configuration.getCapacity()),
+        () -> assertFalse(configuration.getBoolean("flag", true)),
+        () -> assertNull(configuration.getString("blank")));
+  }
+
+  @DisplayName("Wrong values")
+  @Test
+  void wrongValues() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "unknown");
+    properties.setProperty("capacity", "many");
+
+    var configuration = new Configuration(properties);
+
+    // when
+    var wrongMode = assertThrows(IllegalArgumentException.class, configuration::getMode);
+    var wrongCapacity = assertThrows(IllegalArgumentException.class, configuration::getCapacity);
+
+    // then
+    assertAll("Exceptions",
+        () -> assertEquals("Unknown value of mock.jdk.platform.logging.mode: unknown", wrongMode.getMessage()),
+        () -> assertEquals("Not a number in mock.jdk.platform.logging.capacity: many", wrongCapacity.getMessage()));
+  }
+
+  @DisplayName("Read the resource")
+  @Test
+  void resource() {
+    // when
+    var configuration = Configuration.load();
+
+    // then
+    assertEquals(512, configuration.getCapacity());
+  }
+
+  @DisplayName("System properties override the resource")
+  @Test
+  void systemProperties() {
+    // given
+    System.setProperty("mock.jdk.platform.logging.capacity", "32");
+
+    try {
+      // when
+      var configuration = Configuration.load();
+
+      // then
+      assertEquals(32, configuration.getCapacity());
+    } finally {
+      System.clearProperty("mock.jdk.platform.logging.capacity");
+    }
+  }
+
+  @DisplayName("Prewarm loggers")
+  @Test
+  void prewarmLoggers() {
+    // given
+    var disabled = new Properties();
+    var enabled = new Properties();
+    var names = new Properties();
+
+    disabled.setProperty("prewarm", "false");
+    enabled.setProperty("prewarm", "true");
+    names.setProperty("prewarm", "first, second,,");
+
+    // when and then
+    assertAll("Prewarm", () -> assertEquals(Optional.empty(), Configuration.empty().getPrewarmLoggers()),
+        () -> assertEquals(Optional.empty(), new Configuration(disabled).getPrewarmLoggers()),
+        () -> assertEquals(Optional.of(List.of()), new Configuration(enabled).getPrewarmLoggers()),
+        () -> assertEquals(Optional.of(List.of("first", "second")), new Configuration(names).getPrewarmLoggers()));
+  }
+
+  @DisplayName("Prewarm resource")
+  @Test
+  void prewarmResource() {
+    // given
+    var properties = new Properties();
+    var disabled = new Properties();
+
+    properties.setProperty("prewarm", "third");
+    disabled.setProperty("prewarm", "false");
+
+    // when
+    Configuration.loadPrewarmLoggers(properties, "prewarm-loggers.txt");
+    Configuration.loadPrewarmLoggers(disabled, "prewarm-loggers.txt");
+
+    // then
+    assertAll("Prewarm resource",
+        () -> assertEquals(Optional.of(List.of("third", "HelloService", "jdk.internal.event")),
+            new Configuration(properties).getPrewarmLoggers()),
+        () -> assertEquals(Optional.empty(), new Configuration(disabled).getPrewarmLoggers()),
+        () -> assertEquals(Optional.empty(), Configuration.load().getPrewarmLoggers()));
+  }
+
+  @DisplayName("Retention")
+  @Test
+  void retention() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("retention", "first");
+    properties.setProperty("retention-limit", "10");
+
+    var noLimit = new Properties();
+
+    noLimit.setProperty("retention", "last");
+
+    // when and then
+    assertAll("Retention", () -> assertEquals("FIRST 10", new Configuration(properties).getRetention().toString()),
+        () -> assertEquals(RetentionLimit.ALL, Configuration.empty().getRetention()),
+        () -> assertThrows(IllegalArgumentException.class, () -> new Configuration(noLimit).getRetention()));
+  }
+
+}
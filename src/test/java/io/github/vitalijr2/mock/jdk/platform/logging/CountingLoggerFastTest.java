@@ -0,0 +1,139 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertNoEvents;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertNotLogged;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getCounts;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getEvents;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.opentest4j.AssertionFailedError;
+
+@Tag("fast")
+class CountingLoggerFastTest {
+
+  private CountingLogger logger;
+
+  @BeforeEach
+  void setUp() {
+    logger = new CountingLogger("test", LoggerContext.DETACHED);
+  }
+
+  @DisplayName("Count all kinds of logging calls")
+  @Test
+  void countAllKindsOfCalls() {
+    // given
+    @SuppressWarnings("unchecked") Supplier<String> messageSupplier = mock(Supplier.class);
+    var exception = new RuntimeException("test exception");
+
+    // when
+    logger.log(Level.TRACE, "plain message");
+    logger.log(Level.DEBUG, messageSupplier);
+    logger.log(Level.INFO, (Object) 42);
+    logger.log(Level.WARNING, "message with throwable", exception);
+    logger.log(Level.ERROR, messageSupplier, exception);
+    logger.log(Level.INFO, "format {0}", "parameter");
+    logger.log(Level.WARNING, (ResourceBundle) null, "bundle message", exception);
+    logger.log(Level.ERROR, (ResourceBundle) null, "bundle format {0}", "parameter");
+
+    // then
+    verifyNoInteractions(messageSupplier);
+    assertAll("Counted calls", () -> assertEquals("{TRACE=1, DEBUG=1, INFO=2, WARNING=2, ERROR=2}",
+            logger.getCounts().toString()), () -> assertEquals(8, getCounts(logger).getTotal()),
+        () -> assertThat(getEvents(logger), empty()),
+        () -> assertThrows(AssertionFailedError.class, () -> assertNoEvents(logger)),
+        () -> assertThrows(AssertionFailedError.class, () -> assertNotLogged(logger, Level.ERROR)),
+        () -> assertDoesNotThrow(() -> assertNotLogged(logger, Level.ALL)));
+  }
+
+  @DisplayName("Count concurrent calls")
+  @Test
+  void countConcurrentCalls() {
+    // when
+    var futures = IntStream.range(0, 4).mapToObj(thread -> CompletableFuture.runAsync(() -> {
+      for (int i = 0; 10_000 > i; i++) {
+        logger.log(Level.INFO, "test message");
+      }
+    })).toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(futures).join();
+
+    // then
+    assertEquals(40_000, logger.getCounts().get(Level.INFO));
+  }
+
+  @DisplayName("Levels")
+  @ParameterizedTest
+  @EnumSource(Level.class)
+  void levels(Level level) {
+    // when and then
+    assertEquals(Level.OFF != level, logger.isLoggable(level));
+  }
+
+  @DisplayName("Mark the logger as used once and reset it")
+  @Test
+  void markUsedAndReset() {
+    // given
+    var context = mock(LoggerContext.class);
+
+    logger = new CountingLogger("test", context);
+
+    // when
+    logger.log(Level.INFO, "first");
+    logger.log(Level.INFO, "second");
+    logger.reset();
+
+    var counts = logger.getCounts();
+
+    logger.log(Level.INFO, "third");
+
+    // then
+    verify(context, times(2)).markUsed("test");
+    assertAll("Reset", () -> assertEquals(0, counts.getTotal()), () -> assertEquals("test", logger.getName()),
+        () -> assertEquals("Counting logger test", logger.toString()));
+  }
+
+  @DisplayName("Counting mode")
+  @Test
+  void countingMode() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "counting");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+
+    // when
+    var testLogger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // then
+    assertAll("Counting logger", () -> assertThat(testLogger, instanceOf(CountingLogger.class)),
+        () -> assertTrue(loggerFinder.takeUsedLoggers().isEmpty()),
+        () -> assertFalse(testLogger.isLoggable(Level.OFF)));
+  }
+
+}
@@ -0,0 +1,155 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.System.Logger.Level;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class EventBufferFastTest {
+
+  private EventBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    buffer = new EventBuffer("test", 2);
+  }
+
+  @DisplayName("Keep all events")
+  @Test
+  void keepAll() {
+    // when
+    add(RetentionLimit.ALL, 5);
+
+    // then
+    assertAll("All events", () -> assertThat(messages(), contains("0", "1", "2", "3", "4")),
+        () -> assertEquals(5, buffer.size()), () -> assertEquals(5, buffer.getCounts().get(Level.INFO)));
+  }
+
+  @DisplayName("Keep last events")
+  @Test
+  void keepLast() {
+    // when
+    add(RetentionLimit.of(EventRetention.LAST, 3), 7);
+
+    // then
+    assertAll("Last events", () -> assertThat(messages(), contains("4", "5", "6")),
+        () -> assertEquals(7, buffer.getCounts().get(Level.INFO)));
+  }
+
+  @DisplayName("Keep first events")
+  @Test
+  void keepFirst() {
+    // when
+    add(RetentionLimit.of(EventRetention.FIRST, 3), 7);
+
+    // then
+    assertAll("First events", () -> assertThat(messages(), contains("0", "1", "2")),
+        () -> assertEquals(7, buffer.getCounts().getTotal()));
+  }
+
+  @DisplayName("Grow a wrapped ring")
+  @Test
+  void growWrappedRing() {
+    // given
+    add(RetentionLimit.of(EventRetention.LAST, 2), 3);
+
+    // when
+    buffer.add(RetentionLimit.ALL, Level.INFO, null, "3", null, null);
+    buffer.add(RetentionLimit.ALL, Level.INFO, null, "4", null, null);
+
+    // then
+    assertThat(messages(), contains("1", "2", "3", "4"));
+  }
+
+  @DisplayName("Shrink to a smaller limit")
+  @Test
+  void shrink() {
+    // given
+    add(RetentionLimit.ALL, 5);
+
+    // when
+    buffer.add(RetentionLimit.of(EventRetention.LAST, 2), Level.INFO, null, "5", null, null);
+
+    // then
+    assertThat(messages(), contains("4", "5"));
+  }
+
+  @DisplayName("Clear events and counts")
+  @Test
+  void clear() {
+    // given
+    add(RetentionLimit.of(EventRetention.LAST, 2), 3);
+
+    // when
+    buffer.clear();
+    buffer.add(RetentionLimit.ALL, Level.ERROR, null, "error", null, null);
+
+    // then
+    assertAll("Cleared", () -> assertThat(messages(), contains("error")),
+        () -> assertEquals("{ERROR=1}", buffer.getCounts().toString()));
+  }
+
+  @DisplayName("Remove events of a context")
+  @Test
+  void removeContext() throws InterruptedException {
+    // given
+    var contextId = CaptureContext.open();
+    long anotherContextId;
+
+    try {
+      buffer.add(RetentionLimit.ALL, Level.INFO, null, "test", null, null);
+      CaptureContext.close();
+      buffer.add(RetentionLimit.ALL, Level.INFO, null, "no context", null, null);
+      anotherContextId = CaptureContext.open();
+
+      var thread = new Thread(() -> buffer.add(RetentionLimit.ALL, Level.WARNING, null, "another test", null, null));
+
+      thread.start();
+      thread.join();
+    } finally {
+      CaptureContext.close();
+    }
+
+    // when
+    buffer.removeContext(contextId);
+    buffer.add(RetentionLimit.ALL, Level.INFO, null, "after removal", null, null);
+
+    // then
+    assertAll("Removed", () -> assertThat(messages(), contains("no context", "another test", "after removal")),
+        () -> assertEquals("{INFO=2, WARNING=1}", buffer.getCounts().toString()),
+        () -> assertThat(buffer.toList().stream().map(LogEvent::getContextId).collect(Collectors.toList()),
+            contains(CaptureContext.NONE, anotherContextId, CaptureContext.NONE)));
+  }
+
+  @DisplayName("Retention limit must be positive")
+  @Test
+  void retentionLimitMustBePositive() {
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> RetentionLimit.of(EventRetention.LAST, 0));
+
+    // then
+    assertAll("Retention", () -> assertEquals("Retention limit must be positive: 0", exception.getMessage()),
+        () -> assertEquals("ALL", RetentionLimit.of(EventRetention.ALL, 0).toString()),
+        () -> assertEquals("FIRST 3", RetentionLimit.of(EventRetention.FIRST, 3).toString()));
+  }
+
+  private void add(RetentionLimit retention, int count) {
+    for (int i = 0; count > i; i++) {
+      buffer.add(retention, Level.INFO, null, String.valueOf(i), null, null);
+    }
+  }
+
+  private java.util.List<String> messages() {
+    return buffer.toList().stream().map(LogEvent::getMessage).collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,191 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Tag("fast")
+class EventExportFastTest {
+
+  @TempDir
+  private Path directory;
+
+  @DisplayName("Events are read back in the order they were written")
+  @Test
+  void roundTrip() {
+    // given
+    var file = directory.resolve("events.mjpl");
+    var first = new LogEvent("first", Level.INFO, null, "Hello {0}!", null, new Object[]{"World", null},
+        new IllegalStateException("test exception"), "main", 1_700_000_000_000L, 7, 3);
+    var second = new LogEvent("second", Level.DEBUG, null, null, null, null, null, null, 0, -1, CaptureContext.NONE);
+
+    // when
+    try (var export = EventExport.create(file)) {
+      export.write(first);
+      export.write(second);
+      assertEquals(2, export.getCount());
+    }
+
+    // then
+    try (var reader = EventExportReader.open(file)) {
+      var events = reader.stream().collect(Collectors.toList());
+
+      assertAll("Events", () -> assertThat(events.get(0),
+              hasToString("first INFO Hello {0}! [World, null] java.lang.IllegalStateException: test exception")),
+          () -> assertThat(events.get(0).getParameters(), arrayContaining("World", null)),
+          () -> assertEquals("main", events.get(0).getThreadName()),
+          () -> assertEquals(1_700_000_000_000L, events.get(0).getTimestamp().toEpochMilli()),
+          () -> assertEquals(7, events.get(0).getSequence()), () -> assertEquals(3, events.get(0).getContextId()),
+          () -> assertThat(events.get(1), hasToString("second DEBUG null")),
+          () -> assertThat(events.get(1).getParameters(), emptyArray()),
+          () -> assertNull(events.get(1).getThreadName()), () -> assertNull(events.get(1).getTimestamp()),
+          () -> assertEquals(-1, events.get(1).getSequence()), () -> assertEquals(2, events.size()));
+    }
+  }
+
+  @DisplayName("Repeated names and templates are written once, blocks are compressed")
+  @Test
+  void compactBlocks() throws IOException {
+    // given
+    var file = directory.resolve("events.mjpl");
+
+    // when
+    try (var export = EventExport.create(file)) {
+      IntStream.range(0, 100_000).mapToObj(
+              i -> new LogEvent("logger" + i % 10, Level.WARNING, null, "message {0}", null, new Object[]{i}, null,
+                  "worker", 1_700_000_000_000L + i, i, 0))
+          .forEach(export::write);
+    }
+
+    // then
+    assertThat(Files.size(file), lessThan(500_000L));
+    try (var reader = EventExportReader.open(file)) {
+      var events = reader.stream().collect(Collectors.toList());
+
+      assertAll("Events", () -> assertEquals(100_000, events.size()),
+          () -> assertThat(events.get(99_999), hasToString("logger9 WARNING message {0} [99999]")),
+          () -> assertEquals(1_700_000_099_999L, events.get(99_999).getTimestamp().toEpochMilli()));
+    }
+  }
+
+  @DisplayName("Not an export")
+  @Test
+  void notAnExport() throws IOException {
+    // given
+    var file = Files.writeString(directory.resolve("events.txt"), "INFO Hello World!");
+
+    // when
+    var exception = assertThrows(UncheckedIOException.class, () -> EventExportReader.open(file));
+
+    // then
+    assertAll("Not an export", () -> assertEquals("Cannot read " + file, exception.getMessage()),
+        () -> assertEquals("Not an event export", exception.getCause().getMessage()));
+  }
+
+  @DisplayName("Broken block")
+  @Test
+  void brokenBlock() throws IOException {
+    // given
+    var file = directory.resolve("events.mjpl");
+
+    try (var export = EventExport.create(file)) {
+      export.write(new LogEvent("test", Level.INFO, null, "test message", null, null, null, 0));
+    }
+
+    var bytes = Files.readAllBytes(file);
+
+    bytes[bytes.length - 3] ^= 0x55;
+    Files.write(file, bytes);
+
+    // when
+    try (var reader = EventExportReader.open(file)) {
+      var exception = assertThrows(UncheckedIOException.class, () -> reader.stream().count());
+
+      // then
+      assertEquals("Cannot read the export", exception.getMessage());
+    }
+  }
+
+  @DisplayName("Block size out of bounds")
+  @ParameterizedTest(name = "size {0}, length {1}")
+  @CsvSource({"0, 10", "-1, 10", "67108865, 10", "10, 0", "10, -1", "10, 67108865"})
+  void wrongBlockSize(int size, int length) throws IOException {
+    // given
+    var file = writeExport(size, length, new byte[0]);
+
+    // when
+    try (var reader = EventExportReader.open(file)) {
+      var exception = assertThrows(UncheckedIOException.class, () -> reader.stream().count());
+
+      // then
+      assertEquals("Broken block of the export: size " + size + ", length " + length,
+          exception.getCause().getMessage());
+    }
+  }
+
+  @DisplayName("Unknown level")
+  @ParameterizedTest(name = "level {0}")
+  @ValueSource(bytes = {-1, 9, 100})
+  void unknownLevel(byte level) throws IOException {
+    // given
+    var records = new byte[]{EventExport.EVENT_RECORD, level};
+    var deflater = new Deflater();
+    var compressed = new byte[64];
+
+    deflater.setInput(records);
+    deflater.finish();
+
+    var length = deflater.deflate(compressed);
+
+    deflater.end();
+
+    var file = writeExport(records.length, length, Arrays.copyOf(compressed, length));
+
+    // when
+    try (var reader = EventExportReader.open(file)) {
+      var exception = assertThrows(UncheckedIOException.class, () -> reader.stream().count());
+
+      // then
+      assertEquals("Unknown level: " + level, exception.getCause().getMessage());
+    }
+  }
+
+  private Path writeExport(int size, int length, byte[] compressed) throws IOException {
+    var file = directory.resolve("events.mjpl");
+
+    try (var output = new DataOutputStream(Files.newOutputStream(file))) {
+      output.write(EventExport.MAGIC);
+      output.writeByte(EventExport.VERSION);
+      output.writeInt(size);
+      output.writeInt(length);
+      output.write(compressed);
+    }
+
+    return file;
+  }
+
+}
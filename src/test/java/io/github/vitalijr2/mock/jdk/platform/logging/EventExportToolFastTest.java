@@ -0,0 +1,105 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@Tag("fast")
+class EventExportToolFastTest {
+
+  @TempDir
+  private Path directory;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+  private Path file;
+
+  @BeforeEach
+  void setUp() {
+    file = directory.resolve("events.mjpl");
+    try (var export = EventExport.create(file)) {
+      export.write(new LogEvent("first", Level.INFO, null, "first message", null, null, null, "main",
+          1_700_000_000_000L, 1, 1));
+      export.write(new LogEvent("second", Level.ERROR, null, "second message", null, null, null, null, 0, 2, 2));
+      export.write(new LogEvent("first", Level.WARNING, null, "third message", null, null, null, null, 0, 3, 2));
+    }
+  }
+
+  @DisplayName("Filters")
+  @ParameterizedTest(name = "{0} {1}")
+  @CsvSource(delimiter = '|', value = {
+      "--logger | first | 2023-11-14T22:13:20Z [main] first INFO first message\\nfirst WARNING third message\\n",
+      "--level | warning | second ERROR second message\\nfirst WARNING third message\\n",
+      "--message | d m | second ERROR second message\\nfirst WARNING third message\\n",
+      "--context | 1 | 2023-11-14T22:13:20Z [main] first INFO first message\\n",
+      "--limit | 1 | 2023-11-14T22:13:20Z [main] first INFO first message\\n"})
+  void filters(String option, String value, String expected) {
+    // when
+    var status = run(option, value, file.toString());
+
+    // then
+    assertAll("Printed events", () -> assertEquals(0, status),
+        () -> assertEquals(expected.replace("\\n", System.lineSeparator()), output(out)),
+        () -> assertThat(output(err), emptyString()));
+  }
+
+  @DisplayName("Limit covers all files")
+  @Test
+  void limitOfFiles() {
+    // when
+    var status = run("--limit", "4", file.toString(), file.toString());
+
+    // then
+    assertAll("Printed events", () -> assertEquals(0, status),
+        () -> assertEquals(4, output(out).lines().count()));
+  }
+
+  @DisplayName("Wrong usage")
+  @ParameterizedTest(name = "{0}")
+  @CsvSource({"--verbose true events.mjpl, Unknown option --verbose", "--level, No value of --level",
+      "--level loud events.mjpl, No enum constant java.lang.System.Logger.Level.LOUD", "--limit 10, No export files"})
+  void wrongUsage(String arguments, String message) {
+    // when
+    var status = run(arguments.split(" "));
+
+    // then
+    assertAll("Wrong usage", () -> assertEquals(2, status), () -> assertThat(output(err), startsWith(message)),
+        () -> assertThat(output(out), emptyString()));
+  }
+
+  @DisplayName("Missing file")
+  @Test
+  void missingFile() {
+    // when
+    var status = run(directory.resolve("missing.mjpl").toString());
+
+    // then
+    assertAll("Missing file", () -> assertEquals(1, status),
+        () -> assertThat(output(err), startsWith("Cannot read " + directory.resolve("missing.mjpl"))));
+  }
+
+  private int run(String... arguments) {
+    return EventExportTool.run(arguments, new PrintStream(out, true, StandardCharsets.UTF_8),
+        new PrintStream(err, true, StandardCharsets.UTF_8));
+  }
+
+  private static String output(ByteArrayOutputStream stream) {
+    return stream.toString(StandardCharsets.UTF_8);
+  }
+
+}
@@ -0,0 +1,252 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertLogged;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getCounts;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("fast")
+class EventJournalFastTest {
+
+  @TempDir
+  Path directory;
+
+  private EventJournal journal;
+
+  @BeforeEach
+  void setUp() {
+    journal = new EventJournal(directory.resolve("test.journal"), 2048);
+  }
+
+  @AfterEach
+  void tearDown() {
+    journal.close();
+  }
+
+  @DisplayName("Write and read all kinds of logging calls")
+  @Test
+  void writeAndRead() {
+    // given
+    var logger = new JournalLogger("test", journal, LoggerContext.DETACHED);
+    var exception = new IllegalStateException("test exception");
+
+    // when
+    logger.log(Level.TRACE, "plain message");
+    logger.log(Level.DEBUG, () -> "supplied message");
+    logger.log(Level.INFO, (Object) 42);
+    logger.log(Level.WARNING, "message with throwable", exception);
+    logger.log(Level.ERROR, () -> "supplied message with throwable", new RuntimeException());
+    logger.log(Level.INFO, "format {0} {1}", "parameter", null);
+    logger.log(Level.WARNING, (ResourceBundle) null, "bundle message", exception);
+    logger.log(Level.ERROR, (ResourceBundle) null, "bundle format {0}", 1);
+
+    // then
+    var events = logger.getEvents();
+
+    assertAll("Journaled events", () -> assertThat(events, hasSize(8)),
+        () -> assertThat(events.stream().map(LogEvent::getMessage).collect(Collectors.toList()),
+            contains("plain message", "supplied message", "42", "message with throwable",
+                "supplied message with throwable", "format {0} {1}", "bundle message", "bundle format {0}")),
+        () -> assertEquals("java.lang.IllegalStateException: test exception", events.get(3).getThrown().toString()),
+        () -> assertEquals("java.lang.RuntimeException", events.get(4).getThrown().toString()),
+        () -> assertThat(events.get(5).getParameters(), arrayContaining("parameter", null)),
+        () -> assertThat(events.get(0).getParameters(), emptyArray()),
+        () -> assertThat(events.get(6).getBundle(), nullValue()),
+        () -> assertEquals("test", events.get(0).getLoggerName()),
+        () -> assertEquals(Thread.currentThread().getName(), events.get(0).getThreadName()),
+        () -> assertEquals(2, getCounts(logger).get(Level.ERROR)),
+        () -> assertDoesNotThrow(() -> assertLogged(logger, Level.INFO, "42")),
+        () -> assertEquals("Journal logger test", logger.toString()),
+        () -> assertEquals(journal, logger.getJournal()));
+  }
+
+  @DisplayName("Filter events")
+  @Test
+  void filter() {
+    // given
+    var first = new JournalLogger("first", journal, LoggerContext.DETACHED);
+    var second = new JournalLogger("second", journal, LoggerContext.DETACHED);
+
+    first.log(Level.INFO, "accepted order 1");
+    first.log(Level.WARNING, "rejected order 2");
+    second.log(Level.INFO, "accepted order 3");
+    second.log(Level.INFO, (String) null);
+
+    // when and then
+    assertAll("Queries", () -> assertEquals(4, journal.query().stream().count()),
+        () -> assertEquals(2, journal.query().logger("second").stream().count()),
+        () -> assertEquals(3, journal.query().level(Level.INFO).stream().count()),
+        () -> assertEquals(List.of("accepted order 1", "accepted order 3"),
+            journal.query().message(Pattern.compile("accepted")).stream().map(LogEvent::getMessage)
+                .collect(Collectors.toList())),
+        () -> assertEquals(1,
+            journal.query().logger("first").level(Level.INFO).message(Pattern.compile("order \\d")).stream()
+                .count()), () -> assertEquals(0, journal.query().logger("unknown").stream().count()));
+  }
+
+  @DisplayName("Concurrent writes cross segments")
+  @Test
+  void concurrentWrites() {
+    // given
+    var logger = new JournalLogger("test", journal, LoggerContext.DETACHED);
+
+    // when
+    var futures = IntStream.range(0, 4).mapToObj(thread -> CompletableFuture.runAsync(() -> {
+      for (int i = 0; 1_000 > i; i++) {
+        logger.log(Level.INFO, "thread {0} message {1}", thread, i);
+      }
+    })).toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(futures).join();
+
+    // then
+    assertAll("All events", () -> assertEquals(4_000, logger.query().stream().count()),
+        () -> assertEquals(1_000, logger.query().stream().filter(event -> "2".equals(event.getParameters()[0]))
+            .map(event -> event.getParameters()[1]).distinct().count()));
+  }
+
+  @DisplayName("Reset skips older events")
+  @Test
+  void reset() {
+    // given
+    var context = mock(LoggerContext.class);
+
+    when(context.getCapturePolicy()).thenReturn(CapturePolicy.ALL);
+
+    var logger = new JournalLogger("test", journal, context);
+
+    logger.log(Level.INFO, "before reset");
+
+    // when
+    logger.reset();
+    logger.log(Level.INFO, "after reset");
+
+    // then
+    verify(context, times(2)).markUsed("test");
+    assertAll("Reset", () -> assertThat(logger.getEvents().stream().map(LogEvent::getMessage)
+            .collect(Collectors.toList()), contains("after reset")),
+        () -> assertEquals(1, logger.getCounts().getTotal()), () -> assertEquals(2, journal.query().stream().count()));
+  }
+
+  @DisplayName("Wait for a record that is not published yet")
+  @Test
+  void unpublishedRecord() {
+    // given
+    var loggerId = journal.register("test");
+    var position = (int) journal.getPosition();
+
+    journal.append(loggerId, Level.INFO, "first", null, null);
+    journal.append(loggerId, Level.INFO, "second", null, null);
+
+    var segment = journal.segment(0);
+    var length = segment.getInt(position);
+
+    segment.putInt(position, 0);
+
+    // when
+    var writer = CompletableFuture.runAsync(() -> {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+      segment.putInt(position, length);
+    });
+    var messages = journal.query().stream().map(LogEvent::getMessage).collect(Collectors.toList());
+
+    // then
+    writer.join();
+    assertThat(messages, contains("first", "second"));
+  }
+
+  @DisplayName("Closed journal")
+  @Test
+  void closedJournal() {
+    // given
+    var loggerId = journal.register("test");
+
+    // when
+    journal.close();
+
+    // then
+    assertThrows(UncheckedIOException.class, () -> journal.append(loggerId, Level.INFO, "message", null, null));
+  }
+
+  @DisplayName("Wrong sizes")
+  @Test
+  void wrongSizes() {
+    // given
+    var logger = new JournalLogger("test", journal, LoggerContext.DETACHED);
+    var file = directory.resolve("small.journal");
+
+    // when
+    var smallSegment = assertThrows(IllegalArgumentException.class, () -> new EventJournal(file, 1024));
+    var largeEvent = assertThrows(IllegalArgumentException.class, () -> logger.log(Level.INFO, "x".repeat(4096)));
+
+    // then
+    assertAll("Errors", () -> assertEquals("Journal segment size is too small: 1024", smallSegment.getMessage()),
+        () -> assertEquals("The event does not fit a journal segment: 4144 bytes", largeEvent.getMessage()));
+  }
+
+  @DisplayName("Journal mode")
+  @Test
+  void journalMode() {
+    // given
+    var properties = new Properties();
+    var file = directory.resolve("mode.journal");
+
+    properties.setProperty("mode", "journal");
+    properties.setProperty("journal-file", file.toString());
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+
+    // when
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // then
+    assertAll("Journal logger", () -> assertThat(logger, instanceOf(JournalLogger.class)),
+        () -> assertEquals(file, loggerFinder.getJournal().getFile()),
+        () -> assertEquals("Event journal " + file, loggerFinder.getJournal().toString()));
+  }
+
+  @DisplayName("Temporary journal")
+  @Test
+  void temporaryJournal() {
+    // when
+    var temporaryJournal = EventJournal.create(Configuration.empty());
+
+    // then
+    assertThat(temporaryJournal.getFile().getFileName().toString(), endsWith(".journal"));
+  }
+
+}
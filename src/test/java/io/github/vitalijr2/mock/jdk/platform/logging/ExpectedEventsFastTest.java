@@ -0,0 +1,132 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static io.github.vitalijr2.mock.jdk.platform.logging.ExpectedEvents.expect;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+@Tag("fast")
+class ExpectedEventsFastTest {
+
+  private Logger logger;
+
+  @BeforeEach
+  void setUp() {
+    logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+    logger.log(Level.INFO, "first");
+    logger.log(Level.DEBUG, "debug");
+    logger.log(Level.INFO, "second");
+    logger.log(Level.INFO, "second");
+  }
+
+  @DisplayName("Matching events")
+  @Test
+  void match() {
+    assertAll("Matching events",
+        () -> assertDoesNotThrow(() -> expect(Level.INFO, "first").then(Level.INFO, "second").verify(logger)),
+        () -> assertDoesNotThrow(
+            () -> expect(Level.INFO, "first").then(2, Level.INFO, "second").inOrder().verify(logger)),
+        () -> assertDoesNotThrow(
+            () -> expect(2, Level.INFO, "second").then(Level.DEBUG, "debug").then(Level.INFO, "first").exactly()
+                .verify(logger)),
+        () -> assertDoesNotThrow(
+            () -> expect(Level.INFO, "first").then(Level.DEBUG, "debug").then(2, Level.INFO, "second").inOrder()
+                .exactly().verify(logger)));
+  }
+
+  @DisplayName("Missing events in order")
+  @Test
+  void missingInOrder() {
+    // when
+    var exception = assertThrows(AssertionFailedError.class,
+        () -> expect(Level.INFO, "second").then(Level.INFO, "first").inOrder().verify(logger));
+
+    // then
+    assertAll("Failure", () -> assertEquals("Captured events do not match expected events in order:\n"
+            + "  = INFO second\n"
+            + "  - INFO first", exception.getMessage()),
+        () -> assertEquals("INFO second\nINFO first\n", exception.getExpected().getStringRepresentation()),
+        () -> assertEquals("INFO first\nDEBUG debug\nINFO second\nINFO second\n",
+            exception.getActual().getStringRepresentation()));
+  }
+
+  @DisplayName("Unexpected events in any order")
+  @Test
+  void unexpectedAnyOrder() {
+    // when
+    var exception = assertThrows(AssertionFailedError.class,
+        () -> expect(Level.INFO, "second").then(Level.INFO, "first").then(Level.ERROR, "error").exactly()
+            .verify(logger));
+
+    // then
+    assertEquals("Captured events do not match expected events in any order, exactly:\n"
+        + "  = INFO first\n"
+        + "  + DEBUG debug\n"
+        + "  = INFO second\n"
+        + "  + INFO second\n"
+        + "  - ERROR error", exception.getMessage());
+  }
+
+  @DisplayName("Parameters and throwables are matched like verify does")
+  @ParameterizedTest
+  @ValueSource(strings = {"mock", "recording"})
+  void parametersAndThrowable(String mode) {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+
+    var parameterLogger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties))
+        .getLogger("test", getClass().getModule());
+    var exception = new IllegalStateException("test exception");
+
+    // when
+    parameterLogger.log(Level.INFO, "Hello {0}!", "John");
+    parameterLogger.log(Level.ERROR, "Failure", exception);
+
+    // then
+    var failure = assertThrows(AssertionFailedError.class,
+        () -> expect(Level.INFO, "Hello {0}!", "Jane").verify(parameterLogger));
+
+    assertAll("Parameters and throwables",
+        () -> assertDoesNotThrow(() -> expect(Level.INFO, "Hello {0}!", "John").then(Level.ERROR, "Failure", exception)
+            .inOrder().exactly().verify(parameterLogger)),
+        () -> assertEquals("Captured events do not match expected events in any order:\n"
+            + "  - INFO Hello {0}! [Jane]", failure.getMessage()),
+        () -> assertThrows(AssertionFailedError.class, () -> expect(Level.INFO, "Hello {0}!").verify(parameterLogger)),
+        () -> assertThrows(AssertionFailedError.class,
+            () -> expect(Level.ERROR, "Failure", new IllegalStateException("another exception"))
+                .verify(parameterLogger)));
+  }
+
+  @DisplayName("Recording logger")
+  @Test
+  void recordingLogger() {
+    // given
+    var recordingLogger = new RecordingLogger("test", 4);
+
+    // when
+    recordingLogger.log(Level.WARNING, "warning");
+
+    // then
+    assertAll("Recording logger",
+        () -> assertDoesNotThrow(() -> expect(Level.WARNING, "warning").exactly().verify(recordingLogger)),
+        () -> assertThrows(AssertionFailedError.class,
+            () -> expect(Level.WARNING, "warning").then(Level.INFO, "info").inOrder().exactly()
+                .verify(recordingLogger)));
+  }
+
+}
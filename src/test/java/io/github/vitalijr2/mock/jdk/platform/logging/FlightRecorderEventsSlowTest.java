@@ -0,0 +1,186 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("slow")
+class FlightRecorderEventsSlowTest {
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("An event per call")
+  @Test
+  void eventPerCall() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.JFR, "true");
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger("test",
+        getClass().getModule());
+
+    // when
+    logger.log(Level.INFO, "not recorded");
+
+    var events = record(LoggingCallEvent.NAME, () -> {
+      logger.log(Level.INFO, "Hello {0}!", "John");
+      logger.log(Level.ERROR, () -> "supplier");
+    });
+
+    // then
+    assertAll("Call events",
+        () -> assertThat(events.stream().map(event -> event.getString("level")).collect(Collectors.toList()),
+            contains("INFO", "ERROR")),
+        () -> assertEquals("Hello {0}!", events.get(0).getString("message")),
+        () -> assertEquals("test", events.get(0).getString("loggerName")),
+        () -> assertEquals(Thread.currentThread().getName(), events.get(0).getThread().getJavaName()));
+  }
+
+  @DisplayName("Batches of calls")
+  @Test
+  void batches() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, "counting");
+    properties.setProperty(Configuration.JFR, "true");
+    properties.setProperty(Configuration.JFR_BATCH_SIZE, "3");
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger("test",
+        getClass().getModule());
+
+    // when
+    var events = record(LoggingBatchEvent.NAME, () -> {
+      for (int i = 0; 7 > i; i++) {
+        logger.log((3 == i) ? Level.WARNING : Level.INFO, "message " + i);
+      }
+    });
+
+    // then
+    assertAll("Batch events", () -> assertEquals(2, events.size()),
+        () -> assertEquals(3, events.get(0).getInt("calls")), () -> assertEquals("INFO", events.get(0).getString("level")),
+        () -> assertEquals("WARNING", events.get(1).getString("level")),
+        () -> assertEquals("message 5", events.get(1).getString("message")));
+  }
+
+  @DisplayName("Flush open batches")
+  @Test
+  void flush() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, "counting");
+    properties.setProperty(Configuration.JFR, "true");
+    properties.setProperty(Configuration.JFR_BATCH_SIZE, "10");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // when
+    var events = record(LoggingBatchEvent.NAME, () -> {
+      for (int i = 0; 25 > i; i++) {
+        logger.log(Level.INFO, "message " + i);
+      }
+      loggerFinder.flushFlightRecorderEvents();
+    });
+
+    // then
+    assertAll("Batch events", () -> assertEquals(3, events.size()),
+        () -> assertEquals(25, events.stream().mapToInt(event -> event.getInt("calls")).sum()),
+        () -> assertEquals("message 24", events.get(2).getString("message")),
+        () -> assertEquals(Thread.currentThread().getName(),
+            events.get(2).getThread("thread").getJavaName()));
+  }
+
+  @DisplayName("Committed batches leave the map of their thread")
+  @Test
+  void releaseCommittedBatches() throws IOException {
+    // given
+    var flightRecorderEvents = new FlightRecorderEvents(3);
+    var counts = new ArrayList<Integer>();
+
+    // when
+    record(LoggingBatchEvent.NAME, () -> {
+      for (int i = 0; 3 > i; i++) {
+        flightRecorderEvents.emit("full", Level.INFO, "message " + i);
+      }
+      flightRecorderEvents.emit("open", Level.INFO, "message");
+      counts.add(flightRecorderEvents.getThreadBatchCount());
+      flightRecorderEvents.flush();
+      counts.add(flightRecorderEvents.getThreadBatchCount());
+    });
+
+    // then
+    assertThat(counts, contains(1, 0));
+  }
+
+  @DisplayName("Verification calls do not emit events")
+  @Test
+  void verification() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.JFR, "true");
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger("test",
+        getClass().getModule());
+
+    // when
+    var events = record(LoggingCallEvent.NAME, () -> {
+      logger.log(Level.INFO, "Hello!");
+      verify(logger).log(Level.INFO, "Hello!");
+      verify(logger, never()).log(Level.ERROR, "Hello!");
+    });
+
+    // then
+    assertEquals(1, events.size());
+  }
+
+  @DisplayName("Batch size must be positive")
+  @Test
+  void wrongBatchSize() {
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> new FlightRecorderEvents(0));
+
+    // then
+    assertEquals("Batch size must be positive: 0", exception.getMessage());
+  }
+
+  private List<RecordedEvent> record(String eventName, Runnable calls) throws IOException {
+    var file = directory.resolve("logging.jfr");
+
+    try (var recording = new Recording()) {
+      recording.enable(eventName);
+      recording.start();
+      calls.run();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    return RecordingFile.readAllEvents(file).stream()
+        .filter(event -> eventName.equals(event.getEventType().getName())).collect(Collectors.toList());
+  }
+
+}
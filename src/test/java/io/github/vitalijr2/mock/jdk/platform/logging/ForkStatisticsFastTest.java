@@ -0,0 +1,254 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("fast")
+class ForkStatisticsFastTest {
+
+  @TempDir
+  private Path directory;
+
+  @DisplayName("Dumps of all forks are summed")
+  @Test
+  void merge() {
+    // given
+    ForkStatistics.dump(directory.resolve("fork-1.stats"), 1, Map.of("HelloService", counts(Level.INFO, 3),
+        "tab\tname", counts(Level.ERROR, 1)));
+    ForkStatistics.dump(directory.resolve("fork-2.stats"), 2, Map.of("HelloService", counts(Level.INFO, 4)));
+    ForkStatistics.dump(directory.resolve("fork-2.stats"), 2, Map.of("HelloService", counts(Level.DEBUG, 5)));
+
+    // when
+    var statistics = ForkStatistics.merge(directory);
+
+    // then
+    assertAll("Merged", () -> assertEquals(3, statistics.getForks()),
+        () -> assertEquals(0, statistics.getIncomplete()),
+        () -> assertEquals(7, statistics.getLoggers().get("HelloService").get(Level.INFO)),
+        () -> assertEquals(5, statistics.getLoggers().get("HelloService").get(Level.DEBUG)),
+        () -> assertEquals(1, statistics.getLoggers().get("tab\tname").get(Level.ERROR)));
+  }
+
+  @DisplayName("A dump that a fork did not finish is skipped")
+  @Test
+  void tornDump() throws IOException {
+    // given
+    var file = directory.resolve("fork-1.stats");
+
+    ForkStatistics.dump(file, 1, Map.of("HelloService", counts(Level.INFO, 3)));
+
+    var complete = Files.size(file);
+
+    ForkStatistics.dump(file, 1, Map.of("HelloService", counts(Level.INFO, 1000)));
+
+    var bytes = Files.readAllBytes(file);
+
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 20));
+
+    // when
+    var statistics = ForkStatistics.merge(directory);
+
+    // then
+    assertAll("Torn dump", () -> assertEquals(1, statistics.getForks()),
+        () -> assertEquals(1, statistics.getIncomplete()), () -> assertEquals(1, statistics.getCorrupted()),
+        () -> assertEquals(3, statistics.getLoggers().get("HelloService").get(Level.INFO)),
+        () -> assertTrue(complete < bytes.length));
+  }
+
+  @DisplayName("A corrupted line invalidates its dump")
+  @Test
+  void corruptedLine() throws IOException {
+    // given
+    var file = directory.resolve("fork-1.stats");
+    var counts = new LinkedHashMap<String, long[]>();
+
+    counts.put("HelloService", counts(Level.INFO, 3));
+    counts.put("Other", counts(Level.WARNING, 2));
+    ForkStatistics.dump(file, 1, counts);
+    Files.writeString(file, Files.readString(file).replace("HelloService", "HelloServicf"));
+    ForkStatistics.dump(file, 1, Map.of("Other", counts(Level.WARNING, 1)));
+
+    // when
+    var statistics = ForkStatistics.merge(directory);
+
+    // then
+    assertAll("Corrupted line", () -> assertEquals(1, statistics.getForks()),
+        () -> assertEquals(1, statistics.getIncomplete()), () -> assertEquals(1, statistics.getCorrupted()),
+        () -> assertEquals(Map.of("Other", new LevelCounts(counts(Level.WARNING, 1))), statistics.getLoggers()));
+  }
+
+  @DisplayName("Reports")
+  @Test
+  void reports() throws IOException {
+    // given
+    var forks = directory.resolve(ForkStatistics.DIRECTORY);
+
+    ForkStatistics.dump(forks.resolve("fork-1.stats"), 1, Map.of("a", counts(Level.INFO, 1), "b",
+        counts(Level.WARNING, 2)));
+
+    // when
+    ForkStatistics.merge(forks).write(directory);
+
+    // then
+    assertAll("Reports", () -> assertEquals(
+            "{\"forks\":1,\"incomplete\":0,\"corrupted\":0,\"total\":3,\"loggers\":[{\"name\":\"b\",\"total\":2,"
+                + "\"levels\":{\"WARNING\":2}},{\"name\":\"a\",\"total\":1,\"levels\":{\"INFO\":1}}]}"
+                + System.lineSeparator(),
+            Files.readString(directory.resolve(ForkStatistics.JSON_REPORT))),
+        () -> assertThat(Files.readString(directory.resolve(ForkStatistics.TEXT_REPORT)),
+            startsWith(String.format("Loggers by number of calls in 1 fork(s), 0 incomplete dump(s) skipped:%n"
+                + "    1. b total=2"))));
+  }
+
+  @DisplayName("The finder dumps counts that the extension collected")
+  @Test
+  void finder() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.FORK_STATISTICS, "true");
+    properties.setProperty(Configuration.REPORT_DIRECTORY, directory.toString());
+
+    var finder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+
+    finder.getHotSpots().orElseThrow().add("HelloService", new LevelCounts(counts(Level.INFO, 2)));
+
+    // when
+    var file = finder.dumpStatistics().orElseThrow();
+
+    // then
+    var statistics = ForkStatistics.merge(file.getParent());
+
+    assertAll("Finder", () -> assertEquals(directory.resolve(ForkStatistics.DIRECTORY), file.getParent()),
+        () -> assertEquals(2, statistics.getLoggers().get("HelloService").get(Level.INFO)),
+        () -> assertTrue(new MockLoggerFinder(new HashMap<>()).dumpStatistics().isEmpty()));
+  }
+
+  @DisplayName("The finder counts loggers that are used without the extension")
+  @Test
+  void withoutExtension() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.FORK_STATISTICS, "true");
+    properties.setProperty(Configuration.REPORT_DIRECTORY, directory.toString());
+
+    var finder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = finder.getLogger("HelloService", getClass().getModule());
+
+    finder.getHotSpots().orElseThrow().add("HelloService", new LevelCounts(counts(Level.INFO, 2)));
+    logger.log(Level.INFO, "first");
+    logger.log(Level.WARNING, "second");
+
+    // when
+    var hotSpots = finder.collectHotSpots().orElseThrow();
+
+    // then
+    assertAll("Counts", () -> assertEquals(3, hotSpots.getCounts().get("HelloService")[Level.INFO.ordinal()]),
+        () -> assertEquals(1, hotSpots.getCounts().get("HelloService")[Level.WARNING.ordinal()]),
+        () -> assertEquals(3,
+            finder.collectHotSpots().orElseThrow().getCounts().get("HelloService")[Level.INFO.ordinal()]));
+  }
+
+  @DisplayName("Verification calls of a fork are not counted")
+  @Test
+  void verifiedRun() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.FORK_STATISTICS, "true");
+    properties.setProperty(Configuration.REPORT_DIRECTORY, directory.toString());
+
+    var finder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = finder.getLogger("HelloService", getClass().getModule());
+
+    logger.log(Level.INFO, "Hello!");
+    verify(logger).log(Level.INFO, "Hello!");
+    verify(logger, never()).log(Level.WARNING, "Hello!");
+
+    var file = finder.dumpStatistics().orElseThrow();
+
+    ForkStatistics.dump(file.resolveSibling("fork-2.stats"), 2, Map.of("HelloService", counts(Level.INFO, 4)));
+
+    // when
+    var statistics = ForkStatistics.merge(file.getParent());
+
+    // then
+    assertAll("Merged counts", () -> assertEquals(2, statistics.getForks()),
+        () -> assertEquals(5, statistics.getLoggers().get("HelloService").get(Level.INFO)),
+        () -> assertEquals(0, statistics.getLoggers().get("HelloService").get(Level.WARNING)));
+  }
+
+  @DisplayName("Tool")
+  @Test
+  void tool() throws IOException {
+    // given
+    var forks = directory.resolve(ForkStatistics.DIRECTORY);
+    var out = new ByteArrayOutputStream();
+    var err = new ByteArrayOutputStream();
+
+    ForkStatistics.dump(forks.resolve("fork-1.stats"), 1, Map.of("a", counts(Level.INFO, 1)));
+    ForkStatistics.dump(forks.resolve("fork-2.stats"), 2, Map.of("a", counts(Level.INFO, 2)));
+    Files.writeString(forks.resolve("fork-3.stats"), "00000000\tfork\t3\n", StandardOpenOption.CREATE);
+
+    // when
+    var status = ForkStatisticsTool.run(new String[]{forks.toString()}, new PrintStream(out, true,
+        StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    // then
+    assertAll("Tool", () -> assertEquals(0, status), () -> assertThat(out.toString(StandardCharsets.UTF_8),
+            hasToString("Merged 2 fork(s), 0 incomplete dump(s) skipped: 3 calls of 1 logger(s) in "
+                + directory.resolve(ForkStatistics.TEXT_REPORT) + System.lineSeparator())),
+        () -> assertTrue(Files.exists(directory.resolve(ForkStatistics.JSON_REPORT))));
+  }
+
+  @DisplayName("Tool errors")
+  @Test
+  void toolErrors() {
+    // given
+    var err = new ByteArrayOutputStream();
+    var errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+    var out = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+
+    // when and then
+    assertAll("Tool errors", () -> assertEquals(2, ForkStatisticsTool.run(new String[]{"--unknown"}, out, errStream)),
+        () -> assertEquals(2, ForkStatisticsTool.run(new String[]{"--output"}, out, errStream)),
+        () -> assertEquals(2, ForkStatisticsTool.run(new String[]{"a", "b"}, out, errStream)),
+        () -> assertEquals(1,
+            ForkStatisticsTool.run(new String[]{directory.resolve("missing").toString()}, out, errStream)),
+        () -> assertThat(err.toString(StandardCharsets.UTF_8), startsWith("Unknown option --unknown")));
+  }
+
+  private static long[] counts(Level level, long count) {
+    var counts = new long[Level.values().length];
+
+    counts[level.ordinal()] = count;
+
+    return counts;
+  }
+
+}
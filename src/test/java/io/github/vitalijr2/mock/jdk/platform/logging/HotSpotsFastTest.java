@@ -0,0 +1,120 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("fast")
+class HotSpotsFastTest {
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("Rank loggers and call sites")
+  @Test
+  void rank() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+    properties.setProperty("report", "true");
+    properties.setProperty("report-sample-rate", "1");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var hotSpots = loggerFinder.getHotSpots().orElseThrow();
+    var quiet = (RecordingLogger) loggerFinder.getLogger("quiet", getClass().getModule());
+    var chatty = (RecordingLogger) loggerFinder.getLogger("chatty", getClass().getModule());
+
+    // when
+    quiet.log(Level.ERROR, "error message");
+    for (int i = 0; 3 > i; i++) {
+      logChattyMessage(chatty);
+    }
+    hotSpots.add("quiet", quiet.getCounts());
+    hotSpots.add("chatty", chatty.getCounts());
+    hotSpots.add("unused", new LevelCounts(new long[Level.values().length]));
+    hotSpots.write(directory);
+
+    // then
+    var text = Files.readString(directory.resolve(HotSpots.TEXT_REPORT));
+    var json = Files.readString(directory.resolve(HotSpots.JSON_REPORT));
+
+    assertAll("Report",
+        () -> assertThat(text, startsWith(String.format("Loggers by number of calls:%n    1. chatty total=3 {INFO=3}%n"
+            + "    2. quiet total=1 {ERROR=1}%n%nCall sites by number of samples, 1 of 1 calls is sampled:%n"
+            + "    1. io.github.vitalijr2.mock.jdk.platform.logging.HotSpotsFastTest.logChattyMessage"
+            + "(HotSpotsFastTest.java:"))), () -> assertThat(text, containsString("samples=3 ~calls=3 loggers=chatty")),
+        () -> assertThat(json, startsWith("{\"sampleRate\":1,\"loggers\":[{\"name\":\"chatty\",\"total\":3,"
+            + "\"levels\":{\"INFO\":3}},{\"name\":\"quiet\",\"total\":1,\"levels\":{\"ERROR\":1}}],\"callSites\":"
+            + "[{\"site\":\"io.github.vitalijr2.mock.jdk.platform.logging.HotSpotsFastTest.logChattyMessage")),
+        () -> assertThat(json, containsString("\"samples\":3,\"estimatedCalls\":3,\"loggers\":[\"chatty\"]}")));
+  }
+
+  @DisplayName("Verification of a mock logger is not a call site")
+  @Test
+  void verification() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("report", "true");
+    properties.setProperty("report-sample-rate", "1");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var hotSpots = loggerFinder.getHotSpots().orElseThrow();
+    var logger = loggerFinder.getLogger("mock", getClass().getModule());
+
+    logger.log(Level.INFO, "test message");
+
+    // when
+    verify(logger).log(Level.INFO, "test message");
+    verify(logger, never()).log(Level.ERROR, "test message");
+    hotSpots.add("mock", LogAssertions.getCounts(logger));
+    hotSpots.write(directory);
+
+    // then
+    var text = Files.readString(directory.resolve(HotSpots.TEXT_REPORT));
+
+    assertAll("Report", () -> assertThat(text, containsString("1. mock total=1 {INFO=1}")),
+        () -> assertThat(text, containsString("samples=1 ~calls=1 loggers=mock")),
+        () -> assertThat(text, not(containsString("    2. "))));
+  }
+
+  @DisplayName("Sample rate must be positive")
+  @Test
+  void sampleRateMustBePositive() {
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> new HotSpots(0));
+
+    // then
+    assertEquals("Sample rate must be positive: 0", exception.getMessage());
+  }
+
+  @DisplayName("Quote JSON strings")
+  @Test
+  void quote() {
+    // when and then
+    assertEquals("\"a\\\"b\\\\c\\u000a\"", HotSpots.quote("a\"b\\c\n"));
+  }
+
+  private static void logChattyMessage(RecordingLogger logger) {
+    logger.log(Level.INFO, "chatty message");
+  }
+
+}
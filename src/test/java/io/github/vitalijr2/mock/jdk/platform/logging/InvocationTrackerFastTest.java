@@ -0,0 +1,197 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertNotLogged;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getCounts;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getEvents;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+@Tag("fast")
+class InvocationTrackerFastTest {
+
+  @DisplayName("Count logging calls")
+  @Test
+  void count() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+
+    // when
+    logger.isLoggable(Level.INFO);
+    for (int i = 0; 4 > i; i++) {
+      logger.log(Level.INFO, "test message");
+    }
+    logger.log(Level.ERROR, "error message");
+
+    // then
+    assertAll("Counted", () -> assertThat(getEvents(logger), hasSize(5)),
+        () -> assertEquals(4, getCounts(logger).get(Level.INFO)),
+        () -> assertEquals(1, getCounts(logger).get(Level.ERROR)),
+        () -> assertThrows(AssertionFailedError.class, () -> assertNotLogged(logger, Level.ERROR)),
+        () -> assertDoesNotThrow(() -> assertNotLogged(logger, Level.WARNING)));
+  }
+
+  @DisplayName("Verification is not a logging call")
+  @Test
+  void verification() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+
+    logger.log(Level.ERROR, "boom");
+
+    // when
+    verify(logger).log(Level.ERROR, "boom");
+    verify(logger, never()).log(Level.INFO, "boom");
+    assertThrows(AssertionError.class, () -> verify(logger).log(Level.WARNING, "boom"));
+
+    // then
+    assertAll("Not counted", () -> assertEquals(1, getCounts(logger).get(Level.ERROR)),
+        () -> assertEquals(1, getCounts(logger).getTotal()), () -> assertThat(getEvents(logger), hasSize(1)));
+  }
+
+  @DisplayName("Verification of another mock does not hide a logging call")
+  @Test
+  void verificationOfAnotherMock() {
+    // given
+    var finder = new MockLoggerFinder(new HashMap<>());
+    var logger = finder.getLogger("test", getClass().getModule());
+    var anotherLogger = finder.getLogger("another", getClass().getModule());
+
+    anotherLogger.log(Level.ERROR, "boom");
+    verify(anotherLogger).log(Level.ERROR, "boom");
+
+    // when
+    logger.log(Level.ERROR, "boom");
+    logger.log(Level.ERROR, "boom");
+
+    // then
+    assertAll("Counted", () -> assertEquals(2, getCounts(logger).get(Level.ERROR)),
+        () -> assertEquals(1, getCounts(anotherLogger).get(Level.ERROR)));
+  }
+
+  @DisplayName("Mock loggers reject limited retention")
+  @ParameterizedTest
+  @ValueSource(strings = {"first", "last"})
+  void limitedRetention(String policy) {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("retention", policy);
+    properties.setProperty("retention-limit", "3");
+
+    var configuration = new Configuration(properties);
+
+    // when
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> new MockLoggerFinder(new HashMap<>(), configuration));
+
+    // then
+    assertThat(exception.getMessage(), containsString("use mode=recording"));
+  }
+
+  @DisplayName("Evict contexts of cleared invocations")
+  @Test
+  void evictContexts() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+    var tracker = InvocationTracker.of(logger).orElseThrow();
+    var contextId = CaptureContext.open();
+
+    try {
+      logger.log(Level.INFO, "cleared message");
+
+      var cleared = mockingDetails(logger).getInvocations().iterator().next().getSequenceNumber();
+
+      clearInvocations(logger);
+
+      // when
+      for (int i = 0; 2000 > i; i++) {
+        logger.log(Level.INFO, "test message");
+      }
+
+      // then
+      var kept = mockingDetails(logger).getInvocations().iterator().next().getSequenceNumber();
+
+      assertAll("Evicted", () -> assertEquals(CaptureContext.NONE, tracker.getContextId(cleared)),
+          () -> assertEquals(contextId, tracker.getContextId(kept)));
+    } finally {
+      CaptureContext.close();
+    }
+  }
+
+  @DisplayName("Build an event once per logging call")
+  @Test
+  void buildEventOnce() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+    var calls = new AtomicInteger();
+
+    logger.log(Level.INFO, () -> "supplied message " + calls.incrementAndGet());
+
+    // when
+    var first = getEvents(logger).get(0);
+    var second = getEvents(logger).get(0);
+
+    // then
+    assertAll("Cached", () -> assertSame(first, second),
+        () -> assertEquals("supplied message 1", second.getMessage()),
+        () -> assertEquals("supplied message 1", getEvents(logger).get(0).getFormattedMessage()),
+        () -> assertEquals(1, calls.get()));
+  }
+
+  @DisplayName("Reset counts")
+  @Test
+  void reset() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+    var tracker = InvocationTracker.of(logger).orElseThrow();
+
+    logger.log(Level.INFO, "test message");
+
+    // when
+    tracker.reset();
+
+    // then
+    assertEquals(0, tracker.getCounts().getTotal());
+  }
+
+  @DisplayName("Foreign mocks have no tracker")
+  @Test
+  void foreignMock() {
+    // given
+    var logger = mock(Logger.class);
+
+    logger.log(Level.INFO, "test message");
+
+    // when and then
+    assertAll("No tracker", () -> assertFalse(InvocationTracker.of(logger).isPresent()),
+        () -> assertFalse(InvocationTracker.of(new RecordingLogger("test", 1)).isPresent()),
+        () -> assertEquals(1, getCounts(logger).get(Level.INFO)),
+        () -> assertTrue(getCounts(logger).equals(getCounts(logger))));
+  }
+
+}
@@ -0,0 +1,77 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@MockLoggers(keepStubbings = true, loggable = {@LoggableLevel(logger = "keep-stubbings-levels", level = Level.INFO),
+    @LoggableLevel(level = Level.ERROR)})
+@Tag("fast")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class KeepStubbingsFastTest {
+
+  private static Logger logger;
+
+  @BeforeAll
+  static void setUpClass() {
+    logger = System.getLogger("keep-stubbings");
+    when(logger.getName()).thenReturn("stubbed name");
+  }
+
+  @DisplayName("Loggable levels")
+  @Order(1)
+  @Test
+  void loggableLevels() {
+    // given
+    var levelsLogger = System.getLogger("keep-stubbings-levels");
+
+    // when and then
+    assertAll("Loggable levels", () -> assertTrue(levelsLogger.isLoggable(Level.INFO)),
+        () -> assertTrue(levelsLogger.isLoggable(Level.ERROR)), () -> assertFalse(levelsLogger.isLoggable(Level.DEBUG)),
+        () -> assertFalse(levelsLogger.isLoggable(Level.OFF)), () -> assertTrue(logger.isLoggable(Level.ERROR)),
+        () -> assertFalse(logger.isLoggable(Level.WARNING)));
+  }
+
+  @DisplayName("A test changes stubbings")
+  @Order(2)
+  @Test
+  void changeStubbings() {
+    // when
+    when(logger.getName()).thenReturn("changed name");
+    when(logger.isLoggable(Level.DEBUG)).thenReturn(true);
+
+    // then
+    assertAll("Changed stubbings", () -> assertTrue(logger.isLoggable(Level.DEBUG)),
+        () -> assertEquals("changed name", logger.getName()));
+  }
+
+  @DisplayName("Stubbings of the class are restored, invocations are cleared")
+  @Order(3)
+  @Test
+  void restoredStubbings() {
+    // when
+    var name = logger.getName();
+
+    // then
+    assertAll("Restored stubbings", () -> assertEquals("stubbed name", name),
+        () -> assertFalse(logger.isLoggable(Level.DEBUG)));
+    verify(logger).getName();
+    verify(logger).isLoggable(Level.DEBUG);
+    verifyNoMoreInteractions(logger);
+  }
+
+}
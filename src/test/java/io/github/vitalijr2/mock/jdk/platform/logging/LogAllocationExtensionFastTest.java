@@ -0,0 +1,189 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opentest4j.AssertionFailedError;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("fast")
+class LogAllocationExtensionFastTest {
+
+  @Captor
+  private ArgumentCaptor<String> reportCaptor;
+  @Mock
+  private ExtensionContext extensionContext;
+
+  private LogAllocationExtension extension;
+  private RecordingLogger logger;
+
+  @BeforeEach
+  void setUp() {
+    var registry = new LoggerRegistry(new HashMap<>(), (name, context) -> null, RetentionLimit.ALL);
+
+    registry.setLoggableLevels(Map.of("test", Level.INFO));
+    extension = new LogAllocationExtension();
+    logger = new RecordingLogger("test", 16, false, registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    AllocationAccount.close();
+  }
+
+  @DisplayName("Built messages of disabled levels are counted, repeated constant messages are not")
+  @Test
+  void allocatedBytes() {
+    // given
+    extension.beforeEach(extensionContext);
+    logger.log(Level.DEBUG, "constant message");
+
+    var before = LogAllocationExtension.allocatedBytes("test");
+
+    // when
+    for (int i = 0; 10 > i; i++) {
+      logger.log(Level.DEBUG, "constant message");
+    }
+    for (int i = 0; 10 > i; i++) {
+      logger.log(Level.INFO, "enabled message " + i);
+    }
+
+    var constant = LogAllocationExtension.allocatedBytes("test") - before;
+
+    for (int i = 0; 10 > i; i++) {
+      logger.log(Level.DEBUG, "disabled message " + i);
+    }
+
+    // then
+    assertAll("Allocated bytes",
+        () -> assertEquals(0, constant),
+        () -> assertThat(LogAllocationExtension.allocatedBytes("test") - before - constant, greaterThan(100L)),
+        () -> assertEquals(0, LogAllocationExtension.allocatedBytes("another")),
+        () -> assertEquals(21, AllocationAccount.current().get("test")[1]));
+  }
+
+  @DisplayName("A constant message of a mock logger is counted once")
+  @Test
+  void constantMessagesOfMock() {
+    // given
+    var loggerFinder = new MockLoggerFinder(new HashMap<>());
+
+    loggerFinder.getCurrentRegistry().setLoggableLevels(Map.of("mock", Level.INFO));
+
+    var mockLogger = loggerFinder.getLogger("mock", getClass().getModule());
+
+    extension.beforeEach(extensionContext);
+
+    // when
+    for (int i = 0; 10 > i; i++) {
+      mockLogger.log(Level.DEBUG, "constant message");
+    }
+
+    // then
+    assertAll("Allocated bytes",
+        () -> assertEquals(AllocationAccount.sizeOf("constant message"), LogAllocationExtension.allocatedBytes("mock")),
+        () -> assertEquals(10, AllocationAccount.current().get("mock")[1]));
+  }
+
+  @DisplayName("Report entry without limits")
+  @Test
+  void report() {
+    // given
+    extension.beforeEach(extensionContext);
+    logger.log(Level.DEBUG, "disabled message {0}", 1);
+
+    // when
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    verify(extensionContext).publishReportEntry(eq(LogAllocationExtension.REPORT_KEY), reportCaptor.capture());
+    assertAll("Report", () -> assertThat(reportCaptor.getValue(), matchesPattern("test=\\d+ bytes in 1 call\\(s\\)")),
+        () -> assertEquals(0, LogAllocationExtension.allocatedBytes("test")));
+  }
+
+  @DisplayName("Nothing is reported if no messages were logged at disabled levels")
+  @Test
+  void nothingToReport() {
+    // given
+    extension.beforeEach(extensionContext);
+    logger.log(Level.INFO, "enabled message");
+
+    // when
+    extension.afterEach(extensionContext);
+
+    // then
+    verifyNoInteractions(extensionContext);
+  }
+
+  @DisplayName("Limit of all loggers")
+  @Test
+  void totalLimit() throws NoSuchMethodException {
+    // given
+    when(extensionContext.getTestMethod()).thenReturn(
+        Optional.of(LimitedTest.class.getDeclaredMethod("limitedMethod")));
+    extension.beforeEach(extensionContext);
+    logger.log(Level.DEBUG, "disabled message {0}", 1);
+
+    // when
+    var exception = assertThrows(AssertionFailedError.class, () -> extension.afterEach(extensionContext));
+
+    // then
+    assertThat(exception.getMessage(), startsWith("Messages of disabled levels allocated "));
+  }
+
+  @DisplayName("Limit per logger")
+  @Test
+  void loggerLimit() {
+    // given
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(LimitedTest.Nested.class));
+    extension.beforeEach(extensionContext);
+    logger.log(Level.DEBUG, "disabled message {0}", 1);
+
+    // when
+    var exception = assertThrows(AssertionFailedError.class, () -> extension.afterEach(extensionContext));
+
+    // then
+    assertThat(exception.getMessage(),
+        matchesPattern("Messages of disabled levels allocated more than 8 bytes per logger: test=\\d+ bytes in 1 "
+            + "call\\(s\\)"));
+  }
+
+  @LogAllocationLimit(loggerBytes = 8)
+  static class LimitedTest {
+
+    @LogAllocationLimit(bytes = 0)
+    void limitedMethod() {
+    }
+
+    static class Nested {
+
+    }
+
+  }
+
+}
@@ -0,0 +1,300 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertLogged;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.awaitLog;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertLoggedFormatted;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertLoggedTimes;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertNoEvents;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.assertNotLogged;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getEvents;
+import static io.github.vitalijr2.mock.jdk.platform.logging.LogAssertions.getTestEvents;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.ListResourceBundle;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+@Tag("fast")
+class LogAssertionsFastTest {
+
+  @DisplayName("Assertions over a recording logger")
+  @Test
+  void recordingLogger() {
+    // given
+    var logger = new RecordingLogger("test", 8);
+
+    // when
+    logger.log(Level.INFO, "test message");
+    logger.log(Level.INFO, "test message");
+
+    // then
+    assertAll("Assertions", () -> assertDoesNotThrow(() -> assertLogged(logger, Level.INFO, "test message")),
+        () -> assertDoesNotThrow(() -> assertLoggedTimes(logger, 2, Level.INFO, "test message")),
+        () -> assertDoesNotThrow(() -> assertNotLogged(logger, Level.ERROR)),
+        () -> assertThrows(AssertionFailedError.class, () -> assertLogged(logger, Level.INFO, "another message")),
+        () -> assertThrows(AssertionFailedError.class,
+            () -> assertLoggedTimes(logger, 1, Level.INFO, "test message")),
+        () -> assertThrows(AssertionFailedError.class, () -> assertNotLogged(logger, Level.INFO)),
+        () -> assertThrows(AssertionFailedError.class, () -> assertNoEvents(logger)));
+  }
+
+  @DisplayName("Failure message lists captured events")
+  @Test
+  void failureMessage() {
+    // given
+    var logger = new RecordingLogger("test", 8);
+
+    // when
+    var emptyLoggerFailure = assertThrows(AssertionFailedError.class,
+        () -> assertLogged(logger, Level.INFO, "test message"));
+
+    logger.log(Level.ERROR, "error message");
+
+    var failure = assertThrows(AssertionFailedError.class, () -> assertNotLogged(logger, Level.ERROR));
+
+    // then
+    assertAll("Failure messages",
+        () -> assertEquals("Expected event <INFO test message> was not logged, captured events: none",
+            emptyLoggerFailure.getMessage()),
+        () -> assertEquals("Unexpected ERROR events were logged, captured events:\n  test ERROR error message",
+            failure.getMessage()));
+  }
+
+  @DisplayName("Events of a mock logger")
+  @Test
+  void mockLogger() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+    var bundle = new ListResourceBundle() {
+      @Override
+      protected Object[][] getContents() {
+        return new Object[0][];
+      }
+    };
+    var exception = new RuntimeException("test exception");
+
+    // when
+    logger.isLoggable(Level.INFO);
+    logger.log(Level.TRACE, "plain message");
+    logger.log(Level.DEBUG, () -> "supplied message");
+    logger.log(Level.INFO, (Object) 42);
+    logger.log(Level.WARNING, "message with throwable", exception);
+    logger.log(Level.ERROR, () -> "supplied message with throwable", exception);
+    logger.log(Level.INFO, "format {0} {1}", "first", "second");
+    logger.log(Level.WARNING, bundle, "bundle message", exception);
+    logger.log(Level.ERROR, bundle, "bundle format {0}", "parameter");
+
+    // then
+    var events = getEvents(logger);
+
+    assertAll("Events of a mock",
+        () -> assertThat(events.stream().map(LogEvent::getMessage).toArray(),
+            arrayContaining("plain message", "supplied message", "42", "message with throwable",
+                "supplied message with throwable", "format {0} {1}", "bundle message", "bundle format {0}")),
+        () -> assertThat(events.get(5).getParameters(), arrayContaining("first", "second")),
+        () -> assertEquals(exception, events.get(6).getThrown()),
+        () -> assertEquals("test", events.get(0).getLoggerName()),
+        () -> assertDoesNotThrow(() -> assertLogged(logger, Level.INFO, "42")));
+  }
+
+  @DisplayName("Foreign mock")
+  @Test
+  void foreignMock() {
+    // given
+    var logger = mock(Logger.class, "foreign mock");
+
+    // when
+    logger.log(Level.INFO, "test message");
+
+    // then
+    assertEquals("foreign mock", getEvents(logger).get(0).getLoggerName());
+  }
+
+  @DisplayName("Neither a recording logger nor a mock")
+  @Test
+  void unknownLogger() {
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> getEvents(null));
+
+    // then
+    assertThat(exception.getMessage(), startsWith("Neither a recording logger nor a mock"));
+  }
+
+  @DisplayName("Formatted messages of a mock logger")
+  @Test
+  void formattedMessages() {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+
+    // when
+    logger.log(Level.INFO, "Hello {0}!", "John");
+    logger.log(Level.INFO, () -> "Hello Jane!");
+
+    // then
+    assertAll("Formatted messages", () -> assertDoesNotThrow(() -> assertLoggedFormatted(logger, Level.INFO,
+            "Hello John!")), () -> assertDoesNotThrow(() -> assertLoggedFormatted(logger, Level.INFO, "Hello Jane!")),
+        () -> assertThrows(AssertionFailedError.class,
+            () -> assertLoggedFormatted(logger, Level.ERROR, "Hello John!")));
+  }
+
+  @DisplayName("Await events that another thread logs")
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(strings = {"mock", "recording", "journal"})
+  void awaitEvents(String mode) throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+
+    var registry = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getCurrentRegistry();
+    var logger = registry.getLogger("test");
+    var thread = new Thread(() -> {
+      for (int i = 0; 5 > i; i++) {
+        logger.log(Level.DEBUG, "skip");
+        logger.log(Level.INFO, "event " + i);
+      }
+    });
+
+    // when
+    thread.start();
+
+    var events = awaitLog(registry, "test", 3, Level.INFO, event -> event.getMessage().startsWith("event"),
+        Duration.ofSeconds(10));
+
+    thread.join();
+
+    // then
+    assertThat(events.stream().map(LogEvent::getMessage).collect(Collectors.toList()),
+        contains("event 0", "event 1", "event 2"));
+  }
+
+  @DisplayName("Fail if events are not logged in time")
+  @Test
+  void awaitTimeout() {
+    // given
+    var registry = new MockLoggerFinder(new HashMap<>()).getCurrentRegistry();
+
+    registry.getLogger("test").log(Level.INFO, "test message");
+
+    // when
+    var exception = assertThrows(AssertionFailedError.class,
+        () -> awaitLog(registry, "test", 2, Level.INFO, event -> true, Duration.ofMillis(20)));
+
+    // then
+    assertEquals("Expected INFO events of test were not logged 2 time(s) within PT0.02S, captured events:\n"
+        + "  test INFO test message", exception.getMessage());
+  }
+
+  @DisplayName("Check every event once while waiting")
+  @ParameterizedTest
+  @ValueSource(strings = {"mock", "recording", "journal"})
+  void awaitChecksEveryEventOnce(String mode) throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+
+    var registry = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getCurrentRegistry();
+    var logger = registry.getLogger("test");
+    var checks = new AtomicInteger();
+    var thread = new Thread(() -> {
+      for (int i = 0; 200 > i; i++) {
+        logger.log(Level.INFO, "event " + i);
+      }
+    });
+
+    // when
+    thread.start();
+
+    var events = awaitLog(registry, "test", 200, Level.INFO, event -> 0 < checks.incrementAndGet(),
+        Duration.ofSeconds(10));
+
+    thread.join();
+
+    // then
+    assertAll("Checked once", () -> assertEquals(200, events.size()), () -> assertEquals(200, checks.get()));
+  }
+
+  @DisplayName("Verification of a mock logger does not wake up waiting threads")
+  @Test
+  void awaitIgnoresVerification() {
+    // given
+    var registry = new MockLoggerFinder(new HashMap<>()).getCurrentRegistry();
+    var logger = registry.getLogger("test");
+
+    logger.log(Level.INFO, "test message");
+    verify(logger).log(Level.INFO, "test message");
+
+    // when
+    var exception = assertThrows(AssertionFailedError.class,
+        () -> awaitLog(registry, "test", 2, Level.INFO, event -> true, Duration.ofMillis(20)));
+
+    // then
+    assertThat(exception.getMessage(), endsWith("captured events:\n  test INFO test message"));
+  }
+
+  @DisplayName("Number of awaited events must be positive")
+  @Test
+  void awaitNothing() {
+    // given
+    var registry = new MockLoggerFinder(new HashMap<>()).getCurrentRegistry();
+
+    // when
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> awaitLog(registry, "test", 0, Level.INFO, event -> true, Duration.ofMillis(20)));
+
+    // then
+    assertEquals("Number of events must be positive: 0", exception.getMessage());
+  }
+
+  @DisplayName("Events of the current test")
+  @Test
+  void testEvents() throws InterruptedException {
+    // given
+    var logger = new MockLoggerFinder(new HashMap<>()).getLogger("test", getClass().getModule());
+    var anotherTest = new Thread(() -> {
+      CaptureContext.open();
+      logger.log(Level.INFO, "another test");
+    });
+
+    CaptureContext.open();
+    try {
+      var childThread = new Thread(() -> logger.log(Level.INFO, "child thread"));
+
+      // when
+      logger.log(Level.INFO, "test");
+      childThread.start();
+      childThread.join();
+      anotherTest.start();
+      anotherTest.join();
+
+      // then
+      assertThat(getTestEvents(logger).stream().map(LogEvent::getMessage).collect(Collectors.toList()),
+          contains("test", "child thread"));
+    } finally {
+      CaptureContext.close();
+    }
+  }
+
+}
@@ -0,0 +1,138 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+
+@Tag("fast")
+class LogSnapshotFastTest {
+
+  @TempDir
+  private Path directory;
+
+  private RecordingLogger checkout;
+  private RecordingLogger payment;
+
+  @BeforeEach
+  void setUp() {
+    checkout = new RecordingLogger("checkout", 16);
+    payment = new RecordingLogger("payment", 16);
+    checkout.log(Level.INFO, "Order {0} at 2024-11-09T10:15:30.123Z", UUID.randomUUID());
+    payment.log(Level.WARNING, "Retry\nof the payment");
+    checkout.log(Level.ERROR, "Failed", new IllegalStateException("test exception"));
+  }
+
+  @DisplayName("Update mode writes the golden file, then events match it")
+  @Test
+  void updateAndMatch() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.SNAPSHOT_DIRECTORY, directory.toString());
+    properties.setProperty(Configuration.UPDATE_SNAPSHOTS, "true");
+
+    // when
+    snapshot(new Configuration(properties), checkout, payment).assertMatches("checkout.log");
+
+    // then
+    assertEquals("checkout INFO Order <uuid> at <timestamp>\ncheckout ERROR Failed java.lang.IllegalStateException: "
+        + "test exception\npayment WARNING Retry\\nof the payment\n", Files.readString(directory.resolve("checkout.log")));
+    properties.remove(Configuration.UPDATE_SNAPSHOTS);
+    assertDoesNotThrow(
+        () -> snapshot(new Configuration(properties), checkout, payment).assertMatches("checkout.log"));
+  }
+
+  @DisplayName("Golden file is normalized too")
+  @Test
+  void normalizeGoldenFile() throws IOException {
+    // given
+    var goldenFile = Files.writeString(directory.resolve("payment.log"),
+        "payment WARNING Retry\\nof the payment\n");
+
+    payment.log(Level.INFO, "Payment " + UUID.randomUUID() + " done");
+    Files.writeString(goldenFile, "payment INFO Payment " + UUID.randomUUID() + " done\n",
+        java.nio.file.StandardOpenOption.APPEND);
+
+    // when and then
+    assertDoesNotThrow(() -> snapshot(Configuration.empty(), payment).assertMatches(goldenFile));
+  }
+
+  @DisplayName("Differences")
+  @Test
+  void differences() throws IOException {
+    // given
+    var goldenFile = Files.writeString(directory.resolve("checkout.log"),
+        "checkout INFO Order <uuid> at <timestamp>\ncheckout WARNING Slow\ncheckout ERROR Failed\n");
+
+    // when
+    var exception = assertThrows(AssertionFailedError.class,
+        () -> snapshot(Configuration.empty(), checkout).assertMatches(goldenFile));
+
+    // then
+    assertEquals("Captured events do not match golden file " + goldenFile + ": 2 missing, 1 unexpected line(s)"
+            + "\n  @@ line 2\n  - checkout WARNING Slow"
+            + "\n  + checkout ERROR Failed java.lang.IllegalStateException: test exception"
+            + "\n  @@ line 3\n  - checkout ERROR Failed",
+        exception.getMessage());
+  }
+
+  @DisplayName("Missing golden file")
+  @Test
+  void missingGoldenFile() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.SNAPSHOT_DIRECTORY, directory.toString());
+
+    // when
+    var exception = assertThrows(AssertionFailedError.class,
+        () -> snapshot(new Configuration(properties), checkout).assertMatches("missing.log"));
+
+    // then
+    assertThat(exception.getMessage(), startsWith("Golden file " + directory.resolve("missing.log")
+        + " does not exist, run tests with the system property mock.jdk.platform.logging.update-snapshots=true"));
+  }
+
+  @DisplayName("Custom rule and journal logger")
+  @Test
+  void journalLogger() throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, "journal");
+    properties.setProperty(Configuration.JOURNAL_FILE, directory.resolve("events.journal").toString());
+
+    var logger = new MockLoggerFinder(new java.util.HashMap<>(), new Configuration(properties)).getLogger("journal",
+        getClass().getModule());
+    var goldenFile = Files.writeString(directory.resolve("journal.log"), "journal INFO Request #<id>\n".repeat(1000));
+
+    for (int i = 0; 1000 > i; i++) {
+      logger.log(Level.INFO, "Request #" + i);
+    }
+
+    // when and then
+    assertDoesNotThrow(() -> LogSnapshot.of(logger).normalize("#\\d+", "#<id>").assertMatches(goldenFile));
+  }
+
+  private static LogSnapshot snapshot(Configuration configuration, Logger... loggers) {
+    return new LogSnapshot(List.of(loggers), configuration).normalizeTimestamps().normalizeIds();
+  }
+
+}
@@ -0,0 +1,57 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class LogWaitersFastTest {
+
+  @DisplayName("Check the condition again on every signal")
+  @Test
+  void signal() throws InterruptedException {
+    // given
+    var waiters = new LogWaiters();
+    var signals = new AtomicInteger();
+    var thread = new Thread(() -> {
+      for (int i = 0; 3 > i; i++) {
+        signals.incrementAndGet();
+        waiters.signal("test");
+      }
+    });
+
+    // when
+    thread.start();
+
+    var result = waiters.await("test", () -> (3 == signals.get()) ? "done" : null, 10, TimeUnit.SECONDS);
+
+    // then
+    assertEquals("done", result);
+  }
+
+  @DisplayName("Time out")
+  @Test
+  void timeout() throws InterruptedException {
+    // given
+    var waiters = new LogWaiters();
+    var checks = new AtomicInteger();
+
+    // when
+    waiters.signal("test");
+
+    var result = waiters.await("test", () -> {
+      checks.incrementAndGet();
+      return null;
+    }, 50, TimeUnit.MILLISECONDS);
+
+    // then
+    assertAll("Timeout", () -> assertNull(result), () -> assertEquals(2, checks.get()));
+  }
+
+}
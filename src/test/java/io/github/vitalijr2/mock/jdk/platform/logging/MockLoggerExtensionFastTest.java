@@ -1,22 +1,47 @@
 package io.github.vitalijr2.mock.jdk.platform.logging;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -28,6 +53,8 @@ class MockLoggerExtensionFastTest {
 
   @Captor
   private ArgumentCaptor<Supplier<String>> messageCaptor;
+  @Captor
+  private ArgumentCaptor<Function<Class<HotSpots>, Object>> reportCaptor;
   @Mock
   private ExtensionContext extensionContext;
   @Mock
@@ -59,7 +86,8 @@ class MockLoggerExtensionFastTest {
     assertDoesNotThrow(() -> extension.afterEach(extensionContext));
 
     // then
-    verifyNoInteractions(extensionContext);
+    verify(extensionContext).getTestClass();
+    verifyNoMoreInteractions(extensionContext);
     verifyNoInteractions(firstLogger);
     verifyNoInteractions(secondLogger);
     verify(extensionLogger).debug(messageCaptor.capture());
@@ -84,7 +112,8 @@ class MockLoggerExtensionFastTest {
     assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
 
     // then
-    verifyNoInteractions(extensionContext);
+    verify(extensionContext).getTestClass();
+    verifyNoMoreInteractions(extensionContext);
     verifyNoInteractions(firstLogger);
     verifyNoInteractions(secondLogger);
     verify(extensionLogger).debug(messageCaptor.capture());
@@ -95,4 +124,355 @@ class MockLoggerExtensionFastTest {
         () -> assertFalse(secondLogger.isLoggable(Level.INFO)));
   }
 
+  @DisplayName("Reset recording loggers")
+  @Test
+  void resetRecordingLoggers() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = (RecordingLogger) loggerFinder.getLogger("recording", getClass().getModule());
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    logger.log(Level.INFO, "test message");
+
+    // when
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    assertThat(logger.getEvents(), empty());
+  }
+
+  @DisplayName("Reset counting loggers")
+  @Test
+  void resetCountingLoggers() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "counting");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = (CountingLogger) loggerFinder.getLogger("counting", getClass().getModule());
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    logger.log(Level.INFO, "test message");
+
+    // when
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    assertEquals(0, logger.getCounts().getTotal());
+  }
+
+  @DisplayName("Hot spot report")
+  @Test
+  void hotSpotReport(@TempDir Path directory) throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "counting");
+    properties.setProperty("report", "true");
+    properties.setProperty("report-directory", directory.toString());
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = loggerFinder.getLogger("counting", getClass().getModule());
+    var store = mock(ExtensionContext.Store.class);
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    when(extensionContext.getRoot()).thenReturn(extensionContext);
+    when(extensionContext.getStore(any())).thenReturn(store);
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+    logger.log(Level.INFO, "test message");
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+    logger.log(Level.ERROR, "error message");
+
+    // then
+    verify(store).getOrComputeIfAbsent(eq(HotSpots.class), reportCaptor.capture(), any());
+
+    var report = (ExtensionContext.Store.CloseableResource) reportCaptor.getValue().apply(HotSpots.class);
+
+    assertDoesNotThrow(report::close);
+    assertThat(Files.readString(directory.resolve(HotSpots.TEXT_REPORT)),
+        startsWith("Loggers by number of calls:\n    1. counting total=2 {INFO=1, ERROR=1}\n"));
+  }
+
+  @DisplayName("Export events of a failed test")
+  @Test
+  void exportOnFailure(@TempDir Path directory) throws IOException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+    properties.setProperty("export", "failure");
+    properties.setProperty("report-directory", directory.toString());
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = loggerFinder.getLogger("recording", getClass().getModule());
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    when(extensionContext.getExecutionException()).thenReturn(Optional.empty())
+        .thenReturn(Optional.of(new AssertionError("test failure")));
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(getClass()));
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+    logger.log(Level.INFO, "passed test");
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+    logger.log(Level.ERROR, "failed test");
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    List<Path> files;
+
+    try (var list = Files.list(directory)) {
+      files = list.collect(Collectors.toList());
+    }
+    var prefix = directory.resolve("mock-jdk-platform-logging-events-" + getClass().getName() + ".test-");
+
+    assertThat(files, contains(hasToString(startsWith(prefix.toString()))));
+    try (var reader = EventExportReader.open(files.get(0))) {
+      assertThat(reader.stream().map(LogEvent::toString).collect(Collectors.toList()),
+          contains("recording ERROR failed test"));
+    }
+  }
+
+  @DisplayName("Export events of the run")
+  @Test
+  void exportRun(@TempDir Path directory) {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+    properties.setProperty("export", "run");
+    properties.setProperty("report-directory", directory.toString());
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = loggerFinder.getLogger("recording", getClass().getModule());
+    var store = mock(ExtensionContext.Store.class);
+    var export = new AtomicReference<ExtensionContext.Store.CloseableResource>();
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    when(extensionContext.getRoot()).thenReturn(extensionContext);
+    when(extensionContext.getStore(any())).thenReturn(store);
+    when(store.getOrComputeIfAbsent(any(), any(), any())).thenAnswer(invocation -> {
+      if (null == export.get()) {
+        export.set((ExtensionContext.Store.CloseableResource) invocation.<Function<Object, Object>>getArgument(1)
+            .apply(invocation.getArgument(0)));
+      }
+      return export.get();
+    });
+
+    // when
+    for (var message : List.of("first test", "second test")) {
+      assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+      logger.log(Level.INFO, message);
+      assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+    }
+    assertDoesNotThrow(export.get()::close);
+
+    // then
+    try (var reader = EventExportReader.open(directory.resolve("mock-jdk-platform-logging-events.mjpl"))) {
+      assertThat(reader.stream().map(LogEvent::toString).collect(Collectors.toList()),
+          contains("recording INFO first test", "recording INFO second test"));
+    }
+  }
+
+  @DisplayName("Reset only used loggers")
+  @Test
+  void resetOnlyUsedLoggers() {
+    // given
+    when(firstLogger.isLoggable(Level.INFO)).thenReturn(true);
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    verifyNoInteractions(secondLogger);
+    verify(extensionLogger).debug(messageCaptor.capture());
+
+    assertAll("Only the first logger was reset",
+        () -> assertEquals("Clean and reset the loggers: first", messageCaptor.getValue().get(), "logging message"),
+        () -> assertFalse(firstLogger.isLoggable(Level.INFO)));
+  }
+
+  @DisplayName("Skip resets")
+  @Test
+  void skipResets() {
+    // given
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(SkipResets.Nested.class));
+    when(firstLogger.isLoggable(Level.INFO)).thenReturn(true);
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    verifyNoInteractions(extensionLogger);
+
+    assertTrue(firstLogger.isLoggable(Level.INFO));
+  }
+
+  @DisplayName("Reset after each test only")
+  @Test
+  void resetAfterEachTestOnly() {
+    // given
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(ResetAfterEachTestOnly.class));
+    when(firstLogger.isLoggable(Level.INFO)).thenReturn(true);
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+
+    var loggableBeforeTest = firstLogger.isLoggable(Level.INFO);
+
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    assertAll("Reset after each test only", () -> assertTrue(loggableBeforeTest),
+        () -> assertFalse(firstLogger.isLoggable(Level.INFO)));
+  }
+
+  @DisplayName("Isolated tests")
+  @Test
+  void isolatedTests() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("isolated", "true");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = loggerFinder.getLogger("isolated", getClass().getModule());
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+
+    var testRegistry = loggerFinder.getCurrentRegistry();
+
+    logger.log(Level.INFO, "test message");
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    verify(testRegistry.getLoggers().get("isolated")).log(Level.INFO, "test message");
+    verifyNoInteractions(extensionLogger);
+
+    assertAll("Test registry was dropped",
+        () -> assertThat(loggerFinder.getCurrentRegistry(), not(sameInstance(testRegistry))),
+        () -> assertTrue(loggerFinder.getLoggers().isEmpty()));
+  }
+
+  @DisplayName("Retention of a test class")
+  @Test
+  void retentionOfTestClass() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = (RecordingLogger) loggerFinder.getLogger("retention", getClass().getModule());
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(KeepFirstEvents.class));
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+    logger.log(Level.INFO, "first");
+    logger.log(Level.INFO, "second");
+
+    var events = logger.getEvents();
+    var counts = logger.getCounts();
+
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    assertAll("Retention was applied and restored", () -> assertThat(events, hasSize(1)),
+        () -> assertEquals(2, counts.get(Level.INFO)),
+        () -> assertFalse(loggerFinder.getCurrentRegistry().getRetention().isLimited()));
+  }
+
+  @DisplayName("Mock loggers reject retention of a test class")
+  @Test
+  void mockRetentionOfTestClass() {
+    // given
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(KeepFirstEvents.class));
+
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> extension.beforeEach(extensionContext));
+
+    // then
+    assertEquals("Retention FIRST 1 is not supported by mock loggers, use mode=recording", exception.getMessage());
+  }
+
+  @DisplayName("Remove events of the test only")
+  @Test
+  void scopedReset() throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var logger = (RecordingLogger) loggerFinder.getLogger("scoped", getClass().getModule());
+    var anotherTest = new Thread(() -> logger.log(Level.INFO, "another test"));
+
+    extension = new MockLoggerExtension(loggerFinder, extensionLogger);
+    when(extensionContext.getTestClass()).thenReturn(Optional.of(ScopedReset.class));
+    logger.log(Level.INFO, "before test");
+
+    // when
+    assertDoesNotThrow(() -> extension.beforeEach(extensionContext));
+
+    var childThread = new Thread(() -> logger.log(Level.INFO, "child thread"));
+
+    logger.log(Level.INFO, "test");
+    childThread.start();
+    childThread.join();
+    anotherTest.start();
+    anotherTest.join();
+
+    var testEvents = LogAssertions.getTestEvents(logger);
+
+    assertDoesNotThrow(() -> extension.afterEach(extensionContext));
+
+    // then
+    assertAll("Only events of the test were removed",
+        () -> assertThat(testEvents.stream().map(LogEvent::getMessage).collect(Collectors.toList()),
+            contains("test", "child thread")),
+        () -> assertThat(logger.getEvents().stream().map(LogEvent::getMessage).collect(Collectors.toList()),
+            contains("before test", "another test")),
+        () -> assertEquals(2, logger.getCounts().get(Level.INFO)),
+        () -> assertEquals(CaptureContext.NONE, CaptureContext.current()));
+  }
+
+  @MockLoggers(retention = EventRetention.FIRST, retentionLimit = 1)
+  static class KeepFirstEvents {
+
+  }
+
+  @MockLoggers(resetBeforeEach = false, resetAfterEach = false)
+  static class SkipResets {
+
+    static class Nested {
+
+    }
+
+  }
+
+  @MockLoggers(resetBeforeEach = false)
+  static class ResetAfterEachTestOnly {
+
+  }
+
+  @MockLoggers(scopedReset = true)
+  static class ScopedReset {
+
+  }
+
 }
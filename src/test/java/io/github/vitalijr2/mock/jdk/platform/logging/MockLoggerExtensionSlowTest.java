@@ -2,10 +2,12 @@ package io.github.vitalijr2.mock.jdk.platform.logging;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
+import java.lang.System.Logger.Level;
 import java.lang.System.LoggerFinder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -41,4 +43,35 @@ class MockLoggerExtensionSlowTest {
     assertDoesNotThrow(() -> new MockLoggerExtension());
   }
 
+  @DisplayName("Logger of the current test")
+  @Test
+  void testLogger() {
+    // when and then
+    assertSame(System.getLogger("test"), MockLoggerExtension.getTestLogger("test"));
+  }
+
+  @DisplayName("Counts of the current test")
+  @Test
+  void counts() {
+    // given
+    var logger = System.getLogger("counts");
+    var before = MockLoggerExtension.counts("counts").get(Level.INFO);
+
+    // when
+    logger.log(Level.INFO, "test message");
+
+    // then
+    assertEquals(before + 1, MockLoggerExtension.counts("counts").get(Level.INFO));
+  }
+
+  @DisplayName("Journal of the finder in the mock mode")
+  @Test
+  void journalOfMockMode() {
+    // when
+    var exception = assertThrows(ExtensionConfigurationException.class, MockLoggerExtension::getJournal);
+
+    // then
+    assertEquals("The logger finder is not in the journal mode", exception.getMessage());
+  }
+
 }
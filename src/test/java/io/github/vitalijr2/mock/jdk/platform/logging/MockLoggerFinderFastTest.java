@@ -1,6 +1,8 @@
 package io.github.vitalijr2.mock.jdk.platform.logging;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 import static org.hamcrest.core.Is.isA;
@@ -8,11 +10,23 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.StringStartsWith.startsWith;
 import static org.hamcrest.object.HasToString.hasToString;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -52,4 +66,177 @@ class MockLoggerFinderFastTest {
         () -> assertThat(loggers.values().iterator().next(), hasToString(startsWith("Mock for Logger, hashCode:"))));
   }
 
+  @DisplayName("Create a recording logger")
+  @Test
+  void createRecordingLogger() {
+    // given
+    var loggers = new HashMap<String, Logger>();
+    var properties = new Properties();
+
+    properties.setProperty("mode", "recording");
+
+    var loggerFinder = new MockLoggerFinder(loggers, new Configuration(properties));
+
+    // when
+    loggerFinder.getLogger("test", getClass().getModule());
+
+    // then
+    assertAll("Recording logger was created", () -> assertThat("size", loggers, aMapWithSize(1)),
+        () -> assertThat("entry", loggers, hasEntry(equalTo("test"), isA(RecordingLogger.class))),
+        () -> assertThat(loggers.values().iterator().next(), hasToString("Recording logger test")));
+  }
+
+  @DisplayName("Track used loggers")
+  @Test
+  void trackUsedLoggers() {
+    // given
+    var loggerFinder = new MockLoggerFinder(new HashMap<>());
+    var logger = loggerFinder.getLogger("used", getClass().getModule());
+
+    loggerFinder.getLogger("untouched", getClass().getModule());
+
+    // when
+    logger.log(Level.INFO, "test message");
+
+    // then
+    assertAll("Used loggers", () -> assertThat(loggerFinder.takeUsedLoggers(), contains("used")),
+        () -> assertThat(loggerFinder.takeUsedLoggers(), empty()));
+  }
+
+  @DisplayName("Placeholder for a system module")
+  @Test
+  void placeholderForSystemModule() {
+    // given
+    var loggers = new HashMap<String, Logger>();
+    var loggerFinder = new MockLoggerFinder(loggers);
+
+    // when
+    var logger = loggerFinder.getLogger("jdk.test", Object.class.getModule());
+    var loggable = logger.isLoggable(Level.INFO);
+    var emptyRegistry = loggers.isEmpty();
+
+    logger.log(Level.INFO, "test message");
+
+    // then
+    assertAll("Deferred logger", () -> assertThat(logger, isA(DeferredLogger.class)),
+        () -> assertThat(logger, hasToString("Deferred logger jdk.test")),
+        () -> assertEquals("jdk.test", logger.getName()), () -> assertFalse(loggable),
+        () -> assertTrue(emptyRegistry), () -> assertThat("entry", loggers, hasEntry(equalTo("jdk.test"),
+            isA(Logger.class))),
+        () -> assertThat(loggerFinder.getLogger("jdk.another", Object.class.getModule()),
+            hasToString("Mock for logger jdk.another")));
+    verify(loggers.get("jdk.test")).log(Level.INFO, "test message");
+  }
+
+  @DisplayName("Placeholder forwards calls to the existing mock")
+  @Test
+  void placeholderForwardsCalls() {
+    // given
+    var loggers = new HashMap<String, Logger>();
+    var loggerFinder = new MockLoggerFinder(loggers);
+    var placeholder = loggerFinder.getLogger("jdk.test", Object.class.getModule());
+    var logger = loggerFinder.getLogger("jdk.test", getClass().getModule());
+
+    when(logger.isLoggable(Level.INFO)).thenReturn(true);
+
+    // when
+    var loggable = placeholder.isLoggable(Level.INFO);
+
+    // then
+    assertAll("Deferred logger", () -> assertTrue(loggable),
+        () -> assertSame(logger, loggerFinder.getLogger("jdk.test", Object.class.getModule())));
+  }
+
+  @DisplayName("Prewarm loggers")
+  @Test
+  void prewarm() {
+    // given
+    var loggers = new ConcurrentHashMap<String, Logger>();
+    var loggerFinder = new MockLoggerFinder(loggers);
+
+    // when
+    loggerFinder.prewarm(List.of("first", "second")).join();
+
+    // then
+    assertAll("Loggers were created", () -> assertThat("size", loggers, aMapWithSize(2)),
+        () -> assertThat(loggerFinder.getLogger("jdk.test", Object.class.getModule()),
+            hasToString("Mock for logger jdk.test")));
+  }
+
+  @DisplayName("Routing rules")
+  @Test
+  void routes() {
+    // given
+    var loggers = new HashMap<String, Logger>();
+    var properties = new Properties();
+
+    properties.setProperty("routes", "jdk.internal.=noop, sun.net.*=platform, module:java.base=counting");
+
+    var loggerFinder = new MockLoggerFinder(loggers, new Configuration(properties));
+
+    // when
+    var noOpLogger = loggerFinder.getLogger("jdk.internal.httpclient.debug", getClass().getModule());
+    var platformLogger = loggerFinder.getLogger("sun.net.www.protocol.http.HttpURLConnection",
+        getClass().getModule());
+    var countingLogger = loggerFinder.getLogger("java.lang.Object", Object.class.getModule());
+    var mockLogger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // then
+    assertAll("Routed loggers", () -> assertSame(NoOpLogger.INSTANCE, noOpLogger),
+        () -> assertFalse(noOpLogger.isLoggable(Level.ERROR)),
+        () -> assertThat(platformLogger, hasToString("Platform logger sun.net.www.protocol.http.HttpURLConnection")),
+        () -> assertSame(platformLogger,
+            loggerFinder.getLogger("sun.net.www.protocol.http.HttpURLConnection", getClass().getModule())),
+        () -> assertThat(countingLogger, isA(CountingLogger.class)),
+        () -> assertSame(countingLogger, loggerFinder.getLogger("java.lang.Object", getClass().getModule())),
+        () -> assertThat(mockLogger, hasToString("Mock for logger test")), () -> assertThat(loggers, aMapWithSize(2)));
+  }
+
+  @DisplayName("A routed mock logger is cached along with its route")
+  @Test
+  void cachedRoute() {
+    // given
+    var lookups = new AtomicInteger();
+    var loggers = new HashMap<String, Logger>() {
+
+      @Override
+      public Logger computeIfAbsent(String key, Function<? super String, ? extends Logger> mappingFunction) {
+        lookups.incrementAndGet();
+        return super.computeIfAbsent(key, mappingFunction);
+      }
+
+    };
+    var properties = new Properties();
+
+    properties.setProperty("routes", "jdk.internal.=noop");
+
+    var loggerFinder = new MockLoggerFinder(loggers, new Configuration(properties));
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // when
+    var cachedLogger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // then
+    assertAll("Cached", () -> assertSame(logger, cachedLogger), () -> assertEquals(1, lookups.get()));
+  }
+
+  @DisplayName("Loggers that are created without a module do not decide the route")
+  @Test
+  void routeWithoutModule() {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty("routes", "module:java.base=noop");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+
+    loggerFinder.prewarm(List.of("java.lang.Object")).join();
+
+    // when
+    var logger = loggerFinder.getLogger("java.lang.Object", Object.class.getModule());
+
+    // then
+    assertSame(NoOpLogger.INSTANCE, logger);
+  }
+
 }
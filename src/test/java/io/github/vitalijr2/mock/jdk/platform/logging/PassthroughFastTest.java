@@ -0,0 +1,306 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Tag("fast")
+class PassthroughFastTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @DisplayName("Calls are forwarded in order")
+  @Test
+  void forward() {
+    // given
+    var delegates = new ConcurrentHashMap<String, RecordingLogger>();
+    var passthrough = new Passthrough(name -> delegates.computeIfAbsent(name, key -> new RecordingLogger(key, 16)),
+        16, 4);
+    var logger = passthrough.getLogger("test");
+
+    // when
+    for (int i = 0; 10 > i; i++) {
+      logger.log(Level.INFO, "message {0}", i);
+    }
+
+    // then
+    assertTrue(passthrough.flush(TIMEOUT));
+    assertThat(delegates.get("test").getEvents().stream().map(LogEvent::getFormattedMessage)
+            .collect(Collectors.toList()),
+        contains("message 0", "message 1", "message 2", "message 3", "message 4", "message 5", "message 6",
+            "message 7", "message 8", "message 9"));
+  }
+
+  @DisplayName("Levels are checked on the calling thread")
+  @Test
+  void notLoggable() {
+    // given
+    var messages = new CopyOnWriteArrayList<String>();
+    var passthrough = new Passthrough(name -> new TestLogger(Level.INFO, messages::add), 16, 4);
+
+    // when
+    passthrough.getLogger("test").log(Level.DEBUG, () -> {
+      throw new AssertionError("Supplier is evaluated");
+    });
+
+    // then
+    assertTrue(passthrough.flush(TIMEOUT));
+    assertThat(messages, empty());
+  }
+
+  @DisplayName("Calls that do not fit into the queue are dropped")
+  @Test
+  void dropped() throws InterruptedException {
+    // given
+    var messages = new CopyOnWriteArrayList<String>();
+    var entered = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var passthrough = new Passthrough(name -> new TestLogger(Level.INFO, message -> {
+      entered.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      messages.add(message);
+    }), 2, 1);
+    var logger = passthrough.getLogger("test");
+
+    // when
+    logger.log(Level.INFO, "first");
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+    logger.log(Level.INFO, "second");
+    logger.log(Level.INFO, "third");
+    logger.log(Level.INFO, "fourth");
+    release.countDown();
+
+    // then
+    assertTrue(passthrough.flush(TIMEOUT));
+    assertAll("Dropped", () -> assertEquals(1, passthrough.getDropped()),
+        () -> assertThat(messages, contains("first", "second", "third")));
+  }
+
+  @DisplayName("A failure of the real logger does not stop forwarding")
+  @Test
+  void failed() {
+    // given
+    var messages = new CopyOnWriteArrayList<String>();
+    var passthrough = new Passthrough(name -> new TestLogger(Level.INFO, message -> {
+      if ("exception".equals(message)) {
+        throw new IllegalStateException("test exception");
+      }
+      if ("error".equals(message)) {
+        throw new AssertionError("test error");
+      }
+      messages.add(message);
+    }), 16, 4);
+    var logger = passthrough.getLogger("test");
+
+    // when
+    logger.log(Level.ERROR, "exception");
+    logger.log(Level.ERROR, "error");
+    logger.log(Level.ERROR, "forwarded");
+
+    // then
+    assertTrue(passthrough.flush(TIMEOUT));
+    assertAll("Failed", () -> assertEquals(2, passthrough.getFailed()),
+        () -> assertThat(messages, contains("forwarded")));
+  }
+
+  @DisplayName("Passthroughs share one thread")
+  @Test
+  void sharedThread() {
+    // given
+    var messages = new CopyOnWriteArrayList<String>();
+    var passthroughs = IntStream.range(0, 5).mapToObj(i -> new Passthrough(name -> new TestLogger(Level.INFO,
+        messages::add), 16, 4)).collect(Collectors.toList());
+
+    // when
+    passthroughs.forEach(passthrough -> passthrough.getLogger("test").log(Level.INFO, "message"));
+
+    // then
+    assertAll("Shared thread",
+        () -> assertTrue(passthroughs.stream().allMatch(passthrough -> passthrough.flush(TIMEOUT))),
+        () -> assertEquals(5, messages.size()),
+        () -> assertEquals(1, Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> "mock-logger-passthrough".equals(thread.getName())).count()));
+  }
+
+  @DisplayName("Verification calls are not forwarded")
+  @Test
+  void verification() throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.PASSTHROUGH, "true");
+
+    var loggerName = "passthrough-verification";
+    var records = new CopyOnWriteArrayList<LogRecord>();
+    var published = new CountDownLatch(2);
+    var julLogger = java.util.logging.Logger.getLogger(loggerName);
+    var handler = new Handler() {
+
+      @Override
+      public void publish(LogRecord logRecord) {
+        records.add(logRecord);
+        published.countDown();
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+
+    };
+
+    julLogger.setUseParentHandlers(false);
+    julLogger.addHandler(handler);
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger(loggerName,
+        getClass().getModule());
+
+    // when
+    try {
+      logger.log(Level.INFO, "Hello {0}!", "World");
+      verify(logger).log(Level.INFO, "Hello {0}!", "World");
+      verify(logger, never()).log(Level.ERROR, "Hello {0}!", "World");
+      logger.log(Level.INFO, "Bye!");
+
+      // then
+      assertTrue(published.await(5, TimeUnit.SECONDS));
+    } finally {
+      julLogger.removeHandler(handler);
+    }
+    // calls are forwarded in order, a forwarded verification call would come before the last one
+    assertEquals(List.of("Hello {0}!", "Bye!"),
+        records.stream().map(LogRecord::getMessage).collect(Collectors.toList()));
+  }
+
+  @DisplayName("There is no other logger finder on the test classpath")
+  @Test
+  void noOtherLoggerFinder() {
+    // when and then
+    assertTrue(Passthrough.findLoggerFinder().isEmpty());
+  }
+
+  @DisplayName("Loggers record calls and forward them to java.util.logging")
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(strings = {"mock", "recording", "journal"})
+  void passthroughMode(String mode, @TempDir Path directory) throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.MODE, mode);
+    properties.setProperty(Configuration.JOURNAL_FILE, directory.resolve("events.journal").toString());
+    properties.setProperty(Configuration.PASSTHROUGH, "true");
+
+    var loggerName = "passthrough-" + mode;
+    var records = new CopyOnWriteArrayList<LogRecord>();
+    var published = new CountDownLatch(2);
+    var julLogger = java.util.logging.Logger.getLogger(loggerName);
+    var handler = new Handler() {
+
+      @Override
+      public void publish(LogRecord logRecord) {
+        records.add(logRecord);
+        published.countDown();
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+
+    };
+
+    julLogger.setUseParentHandlers(false);
+    julLogger.addHandler(handler);
+
+    var logger = new MockLoggerFinder(new HashMap<>(), new Configuration(properties)).getLogger(loggerName,
+        getClass().getModule());
+
+    // when
+    try {
+      logger.log(Level.INFO, "Hello {0}!", "World");
+      logger.log(Level.WARNING, "Failed", new IllegalStateException("test exception"));
+
+      // then
+      assertTrue(published.await(5, TimeUnit.SECONDS));
+    } finally {
+      julLogger.removeHandler(handler);
+    }
+    assertAll("Passthrough", () -> assertEquals(2, CapturedEvents.of(logger).size()),
+        () -> assertEquals(List.of("Hello {0}!", "Failed"),
+            records.stream().map(LogRecord::getMessage).collect(Collectors.toList())),
+        () -> assertThat(records.get(1).getThrown(), isA(IllegalStateException.class)));
+  }
+
+  private static class TestLogger implements Logger {
+
+    private final Level level;
+    private final Consumer<String> messages;
+
+    TestLogger(Level level, Consumer<String> messages) {
+      this.level = level;
+      this.messages = messages;
+    }
+
+    @Override
+    public String getName() {
+      return "test";
+    }
+
+    @Override
+    public boolean isLoggable(Level level) {
+      return this.level.getSeverity() <= level.getSeverity();
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String message, Throwable thrown) {
+      messages.accept(message);
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String format, Object... parameters) {
+      messages.accept(format);
+    }
+
+  }
+
+}
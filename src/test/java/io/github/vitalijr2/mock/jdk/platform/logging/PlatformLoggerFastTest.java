@@ -0,0 +1,80 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class PlatformLoggerFastTest {
+
+  private final List<LogRecord> records = new ArrayList<>();
+  private final Handler handler = new Handler() {
+
+    @Override
+    public void publish(LogRecord logRecord) {
+      records.add(logRecord);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+  };
+
+  private java.util.logging.Logger julLogger;
+
+  @BeforeEach
+  void setUp() {
+    julLogger = java.util.logging.Logger.getLogger("platform-test");
+    julLogger.setUseParentHandlers(false);
+    julLogger.setLevel(java.util.logging.Level.FINE);
+    julLogger.addHandler(handler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    julLogger.removeHandler(handler);
+  }
+
+  @DisplayName("Write to java.util.logging")
+  @Test
+  void log() {
+    // given
+    var logger = new PlatformLogger("platform-test");
+    var exception = new IllegalStateException("test exception");
+
+    // when
+    logger.log(Level.TRACE, "skipped");
+    logger.log(Level.DEBUG, "Hello {0}!", "John");
+    logger.log(Level.ERROR, "failure", exception);
+
+    // then
+    assertAll("Records", () -> assertEquals(2, records.size()), () -> assertFalse(logger.isLoggable(Level.TRACE)),
+        () -> assertEquals("platform-test", logger.getName()),
+        () -> assertEquals(java.util.logging.Level.FINE, records.get(0).getLevel()),
+        () -> assertThat(records.get(0).getParameters(), arrayContaining("John")),
+        () -> assertNull(records.get(0).getSourceClassName()),
+        () -> assertEquals(java.util.logging.Level.SEVERE, records.get(1).getLevel()),
+        () -> assertSame(exception, records.get(1).getThrown()));
+  }
+
+}
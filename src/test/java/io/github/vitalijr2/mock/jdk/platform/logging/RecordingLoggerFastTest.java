@@ -0,0 +1,214 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.System.Logger.Level;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@Tag("fast")
+class RecordingLoggerFastTest {
+
+  private RecordingLogger logger;
+
+  @BeforeEach
+  void setUp() {
+    logger = new RecordingLogger("test", 2);
+  }
+
+  @DisplayName("Record all kinds of logging calls")
+  @Test
+  void recordAllKindsOfCalls() {
+    // given
+    var bundle = new ListResourceBundle() {
+      @Override
+      protected Object[][] getContents() {
+        return new Object[0][];
+      }
+    };
+    var exception = new RuntimeException("test exception");
+
+    // when
+    logger.log(Level.TRACE, "plain message");
+    logger.log(Level.DEBUG, () -> "supplied message");
+    logger.log(Level.INFO, (Object) 42);
+    logger.log(Level.WARNING, "message with throwable", exception);
+    logger.log(Level.ERROR, () -> "supplied message with throwable", exception);
+    logger.log(Level.INFO, "format {0}", "parameter");
+    logger.log(Level.WARNING, bundle, "bundle message", exception);
+    logger.log(Level.ERROR, bundle, "bundle format {0}", "parameter");
+
+    // then
+    var events = logger.getEvents();
+
+    assertAll("Recorded events", () -> assertThat(events, hasSize(8)),
+        () -> assertThat(events.stream().map(LogEvent::getMessage).toArray(),
+            arrayContaining("plain message", "supplied message", "42", "message with throwable",
+                "supplied message with throwable", "format {0}", "bundle message", "bundle format {0}")),
+        () -> assertThat(events.stream().map(LogEvent::getLevel).toArray(),
+            arrayContaining(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARNING, Level.ERROR, Level.INFO,
+                Level.WARNING, Level.ERROR)),
+        () -> assertThat(events.get(3).getThrown(), sameInstance(exception)),
+        () -> assertThat(events.get(5).getParameters(), arrayContaining("parameter")),
+        () -> assertThat(events.get(6).getBundle(), sameInstance((ResourceBundle) bundle)),
+        () -> assertThat(events.get(0).getParameters(), emptyArray()),
+        () -> assertThat(events.get(0).getThrown(), nullValue()),
+        () -> assertThat(events.get(0).getLoggerName(), equalTo("test")),
+        () -> assertThat(events.get(0).getThreadName(), equalTo(Thread.currentThread().getName())),
+        () -> assertThat(events.get(0).getTimestamp(), notNullValue()));
+  }
+
+  @DisplayName("Reset recorded events")
+  @Test
+  void reset() {
+    // given
+    logger.log(Level.INFO, "test message");
+
+    // when
+    logger.reset();
+    logger.log(Level.INFO, "another test message");
+
+    // then
+    assertThat(logger.getEvents().stream().map(LogEvent::getMessage).toArray(),
+        arrayContaining("another test message"));
+  }
+
+  @DisplayName("Loggable levels")
+  @ParameterizedTest
+  @EnumSource(value = Level.class, names = "OFF", mode = EnumSource.Mode.EXCLUDE)
+  void loggable(Level level) {
+    // when and then
+    assertAll("Loggable", () -> assertTrue(logger.isLoggable(level)),
+        () -> assertFalse(logger.isLoggable(Level.OFF)));
+  }
+
+  @DisplayName("Name and string representation")
+  @Test
+  void nameAndString() {
+    // when and then
+    assertAll("Name", () -> assertEquals("test", logger.getName()),
+        () -> assertEquals("Recording logger test", logger.toString()),
+        () -> assertThat(logger.getEvents(), empty()));
+  }
+
+  @DisplayName("Capacity must be positive")
+  @Test
+  void capacityMustBePositive() {
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> new RecordingLogger("test", 0));
+
+    // then
+    assertEquals("Capacity must be positive: 0", exception.getMessage());
+  }
+
+  @DisplayName("Event string representation")
+  @Test
+  void eventToString() {
+    // when
+    logger.log(Level.INFO, "format {0}", "parameter");
+    logger.log(Level.ERROR, "message", new RuntimeException("test exception"));
+
+    // then
+    assertThat(logger.getEvents().stream().map(LogEvent::toString).toArray(),
+        arrayContaining("test INFO format {0} [parameter]",
+            "test ERROR message java.lang.RuntimeException: test exception"));
+  }
+
+  @DisplayName("Evaluate suppliers at capture time")
+  @Test
+  void eagerSuppliers() {
+    // given
+    @SuppressWarnings("unchecked") Supplier<String> messageSupplier = mock(Supplier.class);
+
+    when(messageSupplier.get()).thenReturn("supplied message");
+
+    // when
+    logger.log(Level.INFO, messageSupplier);
+
+    // then
+    verify(messageSupplier).get();
+    assertEquals("supplied message", logger.getEvents().get(0).getMessage());
+  }
+
+  @DisplayName("Evaluate suppliers lazily and once")
+  @Test
+  void lazySuppliers() {
+    // given
+    @SuppressWarnings("unchecked") Supplier<String> messageSupplier = mock(Supplier.class);
+
+    when(messageSupplier.get()).thenReturn("supplied message");
+    logger = new RecordingLogger("test", 2, true, LoggerContext.DETACHED);
+
+    // when
+    logger.log(Level.INFO, messageSupplier);
+    logger.log(Level.ERROR, messageSupplier, new RuntimeException("test exception"));
+
+    // then
+    verifyNoInteractions(messageSupplier);
+
+    var events = logger.getEvents();
+
+    assertAll("Lazy suppliers", () -> assertEquals("supplied message", events.get(0).getMessage()),
+        () -> assertEquals("supplied message", logger.getEvents().get(0).getFormattedMessage()),
+        () -> assertThat(logger.getEvents().get(0), sameInstance(events.get(0))),
+        () -> assertThat(events.get(1).getThrown(), notNullValue()));
+    verify(messageSupplier).get();
+  }
+
+  @DisplayName("Format messages")
+  @Test
+  void formatMessages() {
+    // given
+    var bundle = new ListResourceBundle() {
+      @Override
+      protected Object[][] getContents() {
+        return new Object[][]{{"greeting", "Hello {0}!"}, {"farewell", "Goodbye!"}};
+      }
+    };
+
+    logger = new RecordingLogger("test", 8);
+
+    // when
+    logger.log(Level.INFO, "plain message");
+    logger.log(Level.INFO, "count {0,number,#}", 1234);
+    logger.log(Level.INFO, bundle, "greeting", "John");
+    logger.log(Level.INFO, bundle, "farewell", (Throwable) null);
+    logger.log(Level.INFO, bundle, "unknown key {0}", "parameter");
+    logger.log(Level.INFO, "broken {0", "parameter");
+    logger.log(Level.INFO, (String) null);
+
+    // then
+    var events = logger.getEvents();
+
+    assertThat(events.stream().map(LogEvent::getFormattedMessage).toArray(),
+        arrayContaining("plain message", "count 1234", "Hello John!", "Goodbye!", "unknown key parameter",
+            "broken {0", null));
+    assertThat(events.get(1).getFormattedMessage(), sameInstance(events.get(1).getFormattedMessage()));
+  }
+
+}
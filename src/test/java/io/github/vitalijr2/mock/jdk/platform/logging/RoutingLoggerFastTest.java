@@ -0,0 +1,171 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.ListResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class RoutingLoggerFastTest {
+
+  private MockLoggerFinder loggerFinder;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new Properties();
+
+    properties.setProperty("isolated", "true");
+    loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+  }
+
+  @AfterEach
+  void tearDown() {
+    loggerFinder.closeTestRegistry();
+  }
+
+  @DisplayName("Isolated finder returns routing loggers")
+  @Test
+  void routingLogger() {
+    // when
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    // then
+    assertAll("Routing logger", () -> assertThat(logger, isA(RoutingLogger.class)),
+        () -> assertThat(loggerFinder.getLogger("test", getClass().getModule()), sameInstance(logger)),
+        () -> assertEquals("test", logger.getName()), () -> assertEquals("Routing logger test", logger.toString()));
+  }
+
+  @DisplayName("Forward all calls to the logger of the current test")
+  @Test
+  void forwardCalls() {
+    // given
+    var bundle = new ListResourceBundle() {
+      @Override
+      protected Object[][] getContents() {
+        return new Object[0][];
+      }
+    };
+    var exception = new RuntimeException("test exception");
+    Supplier<String> supplier = () -> "supplied message";
+
+    loggerFinder.openTestRegistry(RetentionLimit.ALL);
+
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+    var target = ((RoutingLogger) logger).getTarget();
+
+    when(target.isLoggable(Level.INFO)).thenReturn(true);
+
+    // when
+    var loggable = logger.isLoggable(Level.INFO);
+
+    logger.log(Level.INFO, "message");
+    logger.log(Level.INFO, supplier);
+    logger.log(Level.INFO, (Object) 42);
+    logger.log(Level.INFO, "message", exception);
+    logger.log(Level.INFO, supplier, exception);
+    logger.log(Level.INFO, "format {0}", "parameter");
+    logger.log(Level.INFO, bundle, "message", exception);
+    logger.log(Level.INFO, bundle, "format {0}", "parameter");
+
+    // then
+    verify(target).log(Level.INFO, "message");
+    verify(target).log(Level.INFO, supplier);
+    verify(target).log(Level.INFO, (Object) 42);
+    verify(target).log(Level.INFO, "message", exception);
+    verify(target).log(Level.INFO, supplier, exception);
+    verify(target).log(Level.INFO, "format {0}", "parameter");
+    verify(target).log(Level.INFO, bundle, "message", exception);
+    verify(target).log(Level.INFO, bundle, "format {0}", "parameter");
+
+    assertTrue(loggable);
+  }
+
+  @DisplayName("Every test has its own loggers")
+  @Test
+  void isolatedTests() throws Exception {
+    // given
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    loggerFinder.openTestRegistry(RetentionLimit.ALL);
+
+    var firstTarget = ((RoutingLogger) logger).getTarget();
+
+    // when
+    var secondTarget = CompletableFuture.supplyAsync(() -> {
+      loggerFinder.openTestRegistry(RetentionLimit.ALL);
+      logger.log(Level.INFO, "second test");
+
+      return ((RoutingLogger) logger).getTarget();
+    }, runnable -> new Thread(runnable).start()).get();
+
+    logger.log(Level.INFO, "first test");
+
+    // then
+    verify(firstTarget).log(Level.INFO, "first test");
+    verify(secondTarget).log(Level.INFO, "second test");
+
+    assertThat(secondTarget, not(sameInstance(firstTarget)));
+  }
+
+  @DisplayName("Threads started by a test inherit its loggers")
+  @Test
+  void inheritRegistry() throws Exception {
+    // given
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    loggerFinder.openTestRegistry(RetentionLimit.ALL);
+
+    var target = ((RoutingLogger) logger).getTarget();
+    var thread = new Thread(() -> logger.log(Level.INFO, "child thread"));
+
+    // when
+    thread.start();
+    thread.join();
+
+    // then
+    verify(target).log(Level.INFO, "child thread");
+  }
+
+  @DisplayName("Unbound threads use shared loggers")
+  @Test
+  void sharedRegistry() {
+    // given
+    var logger = loggerFinder.getLogger("test", getClass().getModule());
+
+    loggerFinder.openTestRegistry(RetentionLimit.ALL);
+
+    var testTarget = ((RoutingLogger) logger).getTarget();
+
+    loggerFinder.closeTestRegistry();
+
+    // when
+    logger.log(Level.INFO, "shared");
+
+    // then
+    verifyNoInteractions(testTarget);
+    verify(loggerFinder.getLoggers().get("test")).log(Level.INFO, "shared");
+
+    assertFalse(loggerFinder.getLoggers().isEmpty());
+  }
+
+}
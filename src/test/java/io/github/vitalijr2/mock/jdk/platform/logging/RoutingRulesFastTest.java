@@ -0,0 +1,66 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Tag("fast")
+class RoutingRulesFastTest {
+
+  private final RoutingRules rules = RoutingRules.parse(
+      "jdk.internal.=noop, sun.net.*.http.?ttp*=platform, module:java.net.http=counting, jdk.=mock, *=noop");
+
+  @DisplayName("The first matching rule wins")
+  @ParameterizedTest(name = "{0}")
+  @CsvSource({"jdk.internal.httpclient.debug, NOOP", "sun.net.www.protocol.http.HttpURLConnection, PLATFORM",
+      "jdk.event.security, MOCK", "HelloService, NOOP"})
+  void route(String loggerName, LoggerRoute route) {
+    assertEquals(route, rules.route(loggerName, getClass().getModule()));
+  }
+
+  @DisplayName("Module selector")
+  @Test
+  void module() {
+    // given
+    var module = ModuleLayer.boot().findModule("java.net.http").orElseThrow();
+
+    // when and then
+    assertAll("Module", () -> assertEquals(LoggerRoute.COUNTING, rules.route("HttpClient", module)),
+        () -> assertEquals(LoggerRoute.MOCK, RoutingRules.parse("module:java.net.http=counting").route("test", null)));
+  }
+
+  @DisplayName("No rules")
+  @Test
+  void noRules() {
+    assertAll("No rules", () -> assertTrue(Configuration.empty().getRoutingRules().isEmpty()),
+        () -> assertEquals(LoggerRoute.MOCK, RoutingRules.parse(" ").route("test", null)));
+  }
+
+  @DisplayName("Wrong rule")
+  @ParameterizedTest(name = "<{0}>")
+  @ValueSource(strings = {"test", "=noop", "module:=noop", "test=real"})
+  void wrongRule(String rule) {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.ROUTES, rule);
+
+    var configuration = new Configuration(properties);
+
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, configuration::getRoutingRules);
+
+    // then
+    assertEquals("Wrong routing rule: " + rule + " in mock.jdk.platform.logging.routes", exception.getMessage());
+  }
+
+}
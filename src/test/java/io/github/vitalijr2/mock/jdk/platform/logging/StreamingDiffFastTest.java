@@ -0,0 +1,102 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@Tag("fast")
+class StreamingDiffFastTest {
+
+  @DisplayName("Differences")
+  @ParameterizedTest(name = "{0}")
+  @CsvSource(delimiter = '|', value = {"missing line | a b c d | a b d | 1 | 0 | \\n  @@ line 3\\n  - c",
+      "unexpected line | a b d | a b c d | 0 | 1 | \\n  @@ line 3\\n  + c",
+      "changed line | a b c d | a b x d | 1 | 1 | \\n  @@ line 3\\n  - c\\n  + x",
+      "missing tail | a b c | a | 2 | 0 | \\n  @@ line 2\\n  - b\\n  @@ line 3\\n  - c",
+      "unexpected tail | a | a b | 0 | 1 | \\n  @@ line 2\\n  + b"})
+  void differences(String title, String expected, String actual, long missing, long unexpected, String report) {
+    // when
+    var diff = diff(expected, actual, 4, 10);
+
+    // then
+    assertAll(title, () -> assertEquals(missing, diff.getMissing()),
+        () -> assertEquals(unexpected, diff.getUnexpected()),
+        () -> assertEquals(report.replace("\\n", "\n"), diff.getReport()));
+  }
+
+  @DisplayName("Equal streams")
+  @Test
+  void equal() {
+    // when
+    var diff = diff("a b c", "a b c", 4, 10);
+
+    // then
+    assertAll("Equal", () -> assertTrue(diff.isEqual()), () -> assertEquals("", diff.getReport()));
+  }
+
+  @DisplayName("Lines moved farther than the window are changed lines")
+  @Test
+  void outsideWindow() {
+    // when
+    var diff = diff("a b c d", "e f g a", 1, 100);
+
+    // then
+    assertAll("Outside window", () -> assertEquals(4, diff.getMissing()),
+        () -> assertEquals(4, diff.getUnexpected()));
+  }
+
+  @DisplayName("The report is cut, numbers are exact")
+  @Test
+  void reportLimit() {
+    // given
+    var expected = IntStream.range(0, 100_000).mapToObj(i -> "line " + i).collect(Collectors.toList());
+    var actual = IntStream.range(0, 100_000).mapToObj(i -> (0 == i % 1000) ? "changed " + i : "line " + i)
+        .collect(Collectors.toList());
+
+    // when
+    var diff = new StreamingDiff(expected.iterator(), actual.iterator(), 64, 3).run();
+
+    // then
+    assertAll("Report limit", () -> assertEquals(100, diff.getMissing()),
+        () -> assertEquals(100, diff.getUnexpected()), () -> assertEquals(
+            "\n  @@ line 1\n  - line 0\n  + changed 0\n  @@ line 1001\n  - line 1000\n  ... 197 more difference(s)",
+            diff.getReport()));
+  }
+
+  @DisplayName("Buffers stay within the window if no lines match")
+  @Test
+  void boundedBuffer() {
+    // given
+    var expected = IntStream.range(0, 100_000).mapToObj(i -> "expected " + i).iterator();
+    var actual = IntStream.range(0, 100_000).mapToObj(i -> "actual " + i).iterator();
+
+    // when
+    var diff = new StreamingDiff(expected, actual, 16, 3).run();
+
+    // then
+    assertAll("Bounded buffer", () -> assertEquals(100_000, diff.getMissing()),
+        () -> assertEquals(100_000, diff.getUnexpected()),
+        () -> assertThat(diff.getPeakBufferSize(), lessThanOrEqualTo(2 * 17)));
+  }
+
+  private static StreamingDiff diff(String expected, String actual, int window, int reportLimit) {
+    return new StreamingDiff(lines(expected).iterator(), lines(actual).iterator(), window, reportLimit).run();
+  }
+
+  private static List<String> lines(String text) {
+    return Arrays.asList(text.split(" "));
+  }
+
+}
@@ -0,0 +1,143 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@Tag("fast")
+class StripedEventBufferFastTest {
+
+  @DisplayName("Round the number of stripes up to a power of two")
+  @ParameterizedTest(name = "{0} -> {1}")
+  @CsvSource({"1, 1", "3, 4", "8, 8"})
+  void stripeCount(int stripes, int expected) {
+    assertEquals(expected, new StripedEventBuffer("test", 16, stripes).getStripeCount());
+  }
+
+  @DisplayName("Number of stripes must be positive")
+  @Test
+  void wrongStripeCount() {
+    // when
+    var exception = assertThrows(IllegalArgumentException.class, () -> new StripedEventBuffer("test", 16, 0));
+
+    // then
+    assertEquals("Number of stripes must be positive: 0", exception.getMessage());
+  }
+
+  @DisplayName("Merge events of many threads by sequence numbers")
+  @Test
+  void concurrentThreads() throws InterruptedException {
+    // given
+    var buffer = new StripedEventBuffer("test", 16, 4);
+    var start = new CountDownLatch(1);
+    var threads = new ArrayList<Thread>();
+
+    for (int i = 0; 8 > i; i++) {
+      var thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+        for (int j = 0; 1000 > j; j++) {
+          buffer.add(RetentionLimit.ALL, Level.INFO, null, Integer.toString(j), null, null, null);
+        }
+      });
+
+      thread.start();
+      threads.add(thread);
+    }
+
+    // when
+    start.countDown();
+    for (var thread : threads) {
+      thread.join();
+    }
+
+    // then
+    var events = buffer.toList();
+    var ordered = true;
+
+    for (int i = 1; events.size() > i; i++) {
+      ordered &= events.get(i - 1).getSequence() < events.get(i).getSequence();
+    }
+
+    var isOrdered = ordered;
+
+    assertAll("Merged events", () -> assertEquals(8000, events.size()), () -> assertTrue(isOrdered),
+        () -> assertEquals(8000, buffer.getCounts().get(Level.INFO)));
+  }
+
+  @DisplayName("Keep last events")
+  @Test
+  void keepLast() throws InterruptedException {
+    // given
+    var buffer = new StripedEventBuffer("test", 4, 2);
+
+    // when
+    addFromTwoThreads(buffer, RetentionLimit.of(EventRetention.LAST, 3));
+
+    // then
+    assertAll("Last events", () -> assertThat(messages(buffer), contains("3", "4", "5")),
+        () -> assertEquals(6, buffer.getCounts().getTotal()));
+  }
+
+  @DisplayName("Keep first events")
+  @Test
+  void keepFirst() throws InterruptedException {
+    // given
+    var buffer = new StripedEventBuffer("test", 4, 2);
+
+    // when
+    addFromTwoThreads(buffer, RetentionLimit.of(EventRetention.FIRST, 3));
+
+    // then
+    assertThat(messages(buffer), contains("0", "1", "2"));
+  }
+
+  @DisplayName("Clear all stripes")
+  @Test
+  void clear() throws InterruptedException {
+    // given
+    var buffer = new StripedEventBuffer("test", 4, 2);
+
+    addFromTwoThreads(buffer, RetentionLimit.ALL);
+
+    // when
+    buffer.clear();
+
+    // then
+    assertAll("Empty buffer", () -> assertTrue(buffer.toList().isEmpty()),
+        () -> assertEquals(0, buffer.getCounts().getTotal()));
+  }
+
+  private static void addFromTwoThreads(StripedEventBuffer buffer, RetentionLimit retention)
+      throws InterruptedException {
+    for (int i = 0; 6 > i; i++) {
+      var message = Integer.toString(i);
+      var thread = new Thread(() -> buffer.add(retention, Level.INFO, null, message, null, null, null));
+
+      thread.start();
+      thread.join();
+    }
+  }
+
+  private static List<String> messages(StripedEventBuffer buffer) {
+    return buffer.toList().stream().map(LogEvent::getMessage).collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,122 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class StubbingSnapshotFastTest {
+
+  private MockLoggerFinder loggerFinder;
+  private Logger logger;
+
+  @BeforeEach
+  void setUp() {
+    loggerFinder = new MockLoggerFinder(new HashMap<>());
+    logger = loggerFinder.getLogger("test", getClass().getModule());
+    loggerFinder.getLogger("unstubbed", getClass().getModule());
+    when(logger.isLoggable(Level.INFO)).thenReturn(true);
+    when(logger.getName()).thenReturn("first", "second");
+    doThrow(new IllegalStateException("test exception")).when(logger)
+        .log(eq(Level.ERROR), anyString(), any(), any());
+  }
+
+  @DisplayName("Keep stubbings that a test has not changed")
+  @Test
+  void keepUnchangedStubbings() {
+    // given
+    var snapshot = new StubbingSnapshot(loggerFinder.getLoggers());
+    var stubbings = new ArrayList<>(mockingDetails(logger).getStubbings());
+
+    logger.isLoggable(Level.INFO);
+
+    // when
+    var restored = snapshot.restore(logger);
+
+    // then
+    assertAll("Stubbings are the same", () -> assertTrue(restored), () -> assertEquals(1, snapshot.size()),
+        () -> assertEquals(stubbings, new ArrayList<>(mockingDetails(logger).getStubbings())),
+        () -> assertThat(mockingDetails(logger).getInvocations(), empty()));
+  }
+
+  @DisplayName("Restore stubbings that a test has changed")
+  @Test
+  void restoreChangedStubbings() {
+    // given
+    var snapshot = new StubbingSnapshot(loggerFinder.getLoggers());
+
+    when(logger.isLoggable(Level.INFO)).thenReturn(false);
+    when(logger.isLoggable(Level.DEBUG)).thenReturn(true);
+    logger.log(Level.INFO, "test message");
+
+    // when
+    var restored = snapshot.restore(logger);
+
+    // then
+    assertAll("Stubbings are restored", () -> assertTrue(restored),
+        () -> assertTrue(logger.isLoggable(Level.INFO)), () -> assertFalse(logger.isLoggable(Level.DEBUG)),
+        () -> assertEquals("first", logger.getName()),
+        () -> assertThrows(IllegalStateException.class, () -> logger.log(Level.ERROR, "{0} {1}", 1, 2)),
+        () -> assertDoesNotThrow(() -> logger.log(Level.ERROR, "{0}", 1)),
+        () -> assertEquals(0, LogAssertions.getCounts(logger).get(Level.INFO)));
+  }
+
+  @DisplayName("Start consecutive answers from the first one after every restore")
+  @Test
+  void restoreConsecutiveAnswers() {
+    // given
+    var snapshot = new StubbingSnapshot(loggerFinder.getLoggers());
+    var names = new ArrayList<String>();
+
+    // when
+    for (int i = 0; 3 > i; i++) {
+      names.add(logger.getName());
+      names.add(logger.getName());
+      snapshot.restore(logger);
+    }
+
+    // then
+    assertAll("Every test starts at the first answer",
+        () -> assertThat(names, contains("first", "second", "first", "second", "first", "second")),
+        () -> assertTrue(logger.isLoggable(Level.INFO)), () -> assertEquals("first", logger.getName()));
+  }
+
+  @DisplayName("Reset stubbings when the class is finished")
+  @Test
+  void close() {
+    // given
+    var snapshot = new StubbingSnapshot(loggerFinder.getLoggers());
+    var unstubbed = loggerFinder.getLogger("unstubbed", getClass().getModule());
+
+    // when
+    snapshot.close();
+
+    // then
+    assertAll("Stubbings are reset", () -> assertFalse(logger.isLoggable(Level.INFO)),
+        () -> assertNull(logger.getName()), () -> assertFalse(snapshot.restore(unstubbed)),
+        () -> assertThat(mockingDetails(logger).getStubbings(), empty()));
+  }
+
+}
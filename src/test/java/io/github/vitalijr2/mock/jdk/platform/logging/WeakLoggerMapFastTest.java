@@ -0,0 +1,115 @@
+package io.github.vitalijr2.mock.jdk.platform.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class WeakLoggerMapFastTest {
+
+  @DisplayName("Evict loggers that are not referenced")
+  @Test
+  void evict() throws InterruptedException {
+    // given
+    var evictedCounts = new HashMap<String, LevelCounts>();
+    var loggers = new WeakLoggerMap(evictedCounts::put);
+    var liveLogger = loggers.computeIfAbsent("live", name -> new CountingLogger(name, LoggerContext.DETACHED));
+
+    createAndLog(loggers, "dynamic-1");
+    createAndLog(loggers, "dynamic-2");
+
+    // when
+    awaitEviction(loggers, 1);
+
+    // then
+    assertAll("Evicted loggers", () -> assertThat(loggers, aMapWithSize(1)), () -> assertThat(loggers, hasKey("live")),
+        () -> assertSame(liveLogger, loggers.get("live")), () -> assertNull(loggers.get("dynamic-1")),
+        () -> assertEquals(2, evictedCounts.get("dynamic-1").get(Level.INFO)),
+        () -> assertEquals(2, evictedCounts.get("dynamic-2").get(Level.INFO)));
+  }
+
+  @DisplayName("Weak loggers of the finder")
+  @Test
+  void weakLoggers() throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.WEAK_LOGGERS, "true");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var loggers = loggerFinder.getLoggers();
+
+    var liveLogger = loggerFinder.getLogger("live", getClass().getModule());
+
+    loggerFinder.getLogger("dynamic", getClass().getModule()).log(Level.INFO, "test message");
+    // Mockito keeps the last invocation of the thread for stubbing
+    liveLogger.log(Level.INFO, "test message");
+
+    // when
+    var usedLoggers = loggerFinder.takeUsedLoggers();
+
+    awaitEviction(loggers, 1);
+
+    // then
+    assertAll("Evicted mock", () -> assertThat(loggers, aMapWithSize(1)), () -> assertThat(loggers, hasKey("live")),
+        () -> assertEquals(2, usedLoggers.size()));
+  }
+
+  @DisplayName("Keep used loggers until the reset")
+  @Test
+  void keepUsedLoggers() throws InterruptedException {
+    // given
+    var properties = new Properties();
+
+    properties.setProperty(Configuration.WEAK_LOGGERS, "true");
+
+    var loggerFinder = new MockLoggerFinder(new HashMap<>(), new Configuration(properties));
+    var loggers = loggerFinder.getLoggers();
+
+    loggerFinder.getLogger("dynamic", getClass().getModule()).log(Level.INFO, "test message");
+    // Mockito keeps the last invocation of the thread for stubbing
+    loggerFinder.getLogger("another", getClass().getModule()).isLoggable(Level.INFO);
+
+    // when
+    for (int i = 0; 5 > i; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    // then
+    var logger = loggerFinder.getLogger("dynamic", getClass().getModule());
+
+    assertAll("Pinned mock", () -> assertThat(loggers, hasKey("dynamic")),
+        () -> assertEquals(1, LogAssertions.getCounts(logger).get(Level.INFO)),
+        () -> verify(logger).log(Level.INFO, "test message"));
+  }
+
+  private static void createAndLog(WeakLoggerMap loggers, String name) {
+    var logger = loggers.computeIfAbsent(name, key -> new CountingLogger(key, LoggerContext.DETACHED));
+
+    logger.log(Level.INFO, "first");
+    logger.log(Level.INFO, "second");
+  }
+
+  private static void awaitEviction(Map<String, Logger> loggers, int liveLoggers) throws InterruptedException {
+    for (int i = 0; 100 > i && liveLoggers < loggers.size(); i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+  }
+
+}